@@ -5,7 +5,9 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
 import com.gamedev.towerdefense.config.GameConfig;
 import com.gamedev.towerdefense.model.BudgetManager;
+import com.gamedev.towerdefense.model.FirstEnemyStrategy;
 import com.gamedev.towerdefense.model.GameState;
+import com.gamedev.towerdefense.model.LastEnemyStrategy;
 import com.gamedev.towerdefense.model.NearestEnemyStrategy;
 import com.gamedev.towerdefense.model.Position;
 import com.gamedev.towerdefense.model.StrongestEnemyStrategy;
@@ -69,11 +71,16 @@ public class GameInputHandler {
             next = new StrongestEnemyStrategy();
         } else if (current instanceof StrongestEnemyStrategy) {
             next = new WeakestEnemyStrategy();
+        } else if (current instanceof WeakestEnemyStrategy) {
+            next = new FirstEnemyStrategy();
+        } else if (current instanceof FirstEnemyStrategy) {
+            next = new LastEnemyStrategy();
         } else {
             next = new NearestEnemyStrategy();
         }
 
         tower.setTargetingStrategy(next);
+        gameWorld.wakeTower(tower.getHandle());
     }
 
     private int getTowerKeyPressed() {
@@ -179,8 +186,12 @@ public class GameInputHandler {
                 projectileSpeed,
                 towerPos,
                 selectedTowerType.getId());
+        newTower.setSplash(selectedTowerType.isSplash());
+        newTower.setTargetLock(selectedTowerType.isStickyTarget(), selectedTowerType.getRetargetInterval(),
+                selectedTowerType.getRangeHysteresis());
+        newTower.setPaths(gameWorld.getPathNetwork().getPaths());
 
-        gameWorld.getTowers().add(newTower);
+        gameWorld.addTower(newTower);
         budgetManager.spend(selectedTowerType.getCost());
         gameWorld.setSelectedTowerType(null);
     }
@@ -213,6 +224,7 @@ public class GameInputHandler {
             if (budgetManager.canAfford(damageCost)) {
                 budgetManager.spend(damageCost);
                 selectedTower.increaseDamage(damageAmount);
+                gameWorld.wakeTower(selectedTower.getHandle());
             }
             return true;
         }
@@ -222,6 +234,7 @@ public class GameInputHandler {
             if (budgetManager.canAfford(rangeCost)) {
                 budgetManager.spend(rangeCost);
                 selectedTower.increaseRange(rangeAmount);
+                gameWorld.wakeTower(selectedTower.getHandle());
             }
             return true;
         }
@@ -231,6 +244,7 @@ public class GameInputHandler {
             if (budgetManager.canAfford(cooldownCost)) {
                 budgetManager.spend(cooldownCost);
                 selectedTower.decreaseAttackCooldown(cooldownAmount);
+                gameWorld.wakeTower(selectedTower.getHandle());
             }
             return true;
         }
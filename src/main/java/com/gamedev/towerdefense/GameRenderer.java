@@ -1,6 +1,5 @@
 package com.gamedev.towerdefense;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 import com.badlogic.gdx.Gdx;
@@ -10,22 +9,23 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.gamedev.towerdefense.config.GameConfig;
-import com.gamedev.towerdefense.model.CurvedPath;
-import com.gamedev.towerdefense.model.Enemy;
+import com.gamedev.towerdefense.model.EnemyStore;
 import com.gamedev.towerdefense.model.MoneyCoin;
-import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathNetwork;
 import com.gamedev.towerdefense.model.Position;
 import com.gamedev.towerdefense.model.Projectile;
+import com.gamedev.towerdefense.model.SwarmFormation;
 import com.gamedev.towerdefense.model.Tower;
 
 public class GameRenderer {
-    private static final float WAYPOINT_RADIUS = 10f;
     private static final float TOWER_SIZE = 20f;
     private static final float TOWER_HALF = TOWER_SIZE / 2f;
     private static final float ENEMY_DRAW_SIZE = 64f;
     private static final float ENEMY_HALF = ENEMY_DRAW_SIZE / 2f;
+    private static final float SWARM_MEMBER_SIZE = 12f;
+    private static final float SWARM_MEMBER_HALF = SWARM_MEMBER_SIZE / 2f;
+    private static final float SWARM_SPACING = 1.5f;
     private static final float PROJECTILE_RADIUS = 5f;
-    private static final int CURVED_PATH_SAMPLES = 100;
     static final float STATS_PANEL_WIDTH = 230f;
     static final float STATS_PANEL_HEIGHT = 200f;
     static final float STATS_PANEL_Y = 100f;
@@ -44,6 +44,10 @@ public class GameRenderer {
     }
 
     private final GameUIRenderer uiRenderer;
+    private final PathMesh pathMesh = new PathMesh();
+    // Enemy slots in spawn order; removal swaps slots, so draw order comes from here.
+    private int[] enemyDrawOrder = new int[0];
+    private final SwarmFormation swarmFormation = new SwarmFormation(SWARM_SPACING);
 
     private void withShapeRenderer(ShapeType type, Runnable r) {
         try {
@@ -77,6 +81,10 @@ public class GameRenderer {
         }
     }
 
+    public void dispose() {
+        pathMesh.dispose();
+    }
+
     public void renderAll() {
         GameConfig gameConfig = game.getGameConfig();
         // Clear background
@@ -114,9 +122,7 @@ public class GameRenderer {
     }
 
     private void drawSceneElements() {
-        Path path = gameWorld.getPath();
-        drawPath(path);
-        drawWaypoints(path);
+        drawPaths();
         drawEnemies();
         drawTowers();
         drawProjectiles();
@@ -125,63 +131,12 @@ public class GameRenderer {
         uiRenderer.render();
     }
 
-    private void drawPath(Path path) {
-        if (path == null) {
-            return;
-        }
-        game.getShapeRenderer().setColor(1, 1, 1, 1);
-        if (path instanceof CurvedPath) {
-            withShapeRenderer(ShapeType.Line, () -> {
-                Position prev = path.getPositionAt(0f);
-                for (int i = 1; i <= CURVED_PATH_SAMPLES; i++) {
-                    float t = (float) i / CURVED_PATH_SAMPLES;
-                    Position current = path.getPositionAt(t);
-                    if (prev != null && current != null) {
-                        game.getShapeRenderer().line(prev.getX(), prev.getY(), current.getX(), current.getY());
-                    }
-                    prev = current;
-                }
-            });
-        } else {
-            List<Position> waypoints = path.getWaypoints();
-            if (waypoints == null || waypoints.size() < 2) {
-                return;
-            }
-            withShapeRenderer(ShapeType.Line, () -> {
-                for (int i = 0; i < waypoints.size() - 1; i++) {
-                    Position start = waypoints.get(i);
-                    Position end = waypoints.get(i + 1);
-                    if (start != null && end != null) {
-                        game.getShapeRenderer().line(start.getX(), start.getY(), end.getX(), end.getY());
-                    }
-                }
-            });
-        }
-    }
-
-    private void drawWaypoints(Path path) {
-        if (path == null) {
-            return;
-        }
-        List<Position> waypoints = path.getWaypoints();
-        if (waypoints == null || waypoints.isEmpty()) {
-            return;
+    private void drawPaths() {
+        try {
+            pathMesh.render(gameWorld.getPathNetwork().getPaths(), game.getCamera().combined);
+        } catch (RuntimeException e) {
+            System.err.println("Error rendering path mesh: " + e.getMessage());
         }
-
-        withShapeRenderer(ShapeType.Filled, () -> {
-            Position startPos = waypoints.get(0);
-            if (startPos != null) {
-                game.getShapeRenderer().setColor(0, 1, 0, 1);
-                game.getShapeRenderer().circle(startPos.getX(), startPos.getY(), WAYPOINT_RADIUS);
-            }
-            if (waypoints.size() > 1) {
-                Position endPos = waypoints.get(waypoints.size() - 1);
-                if (endPos != null) {
-                    game.getShapeRenderer().setColor(1, 0, 0, 1);
-                    game.getShapeRenderer().circle(endPos.getX(), endPos.getY(), WAYPOINT_RADIUS);
-                }
-            }
-        });
     }
 
     private void drawEnemies() {
@@ -189,19 +144,39 @@ public class GameRenderer {
             return;
         }
         withBatch(batch -> {
-            for (Enemy enemy : gameWorld.getEnemies()) {
-                if (!enemy.isAlive()) {
-                    continue;
+            for (PathNetwork.Lane lane : gameWorld.getPathNetwork().getLanes()) {
+                EnemyStore enemies = lane.getStore();
+                enemyDrawOrder = enemies.indicesInSpawnOrder(enemyDrawOrder);
+                for (int n = 0; n < enemies.size(); n++) {
+                    int i = enemyDrawOrder[n];
+                    if (enemies.getHealth(i) <= 0) {
+                        continue;
+                    }
+                    TextureRegion currentFrame = game.getEnemyAnimation().getFrame(enemies.getAnimationTime(i),
+                            enemies.getDirectionRow(i));
+                    if (enemies.getMemberCount(i) > 1) {
+                        drawSwarm(batch, currentFrame, enemies, i);
+                        continue;
+                    }
+                    batch.draw(currentFrame, enemies.getX(i) - ENEMY_HALF, enemies.getY(i) - ENEMY_HALF,
+                            ENEMY_DRAW_SIZE, ENEMY_DRAW_SIZE);
                 }
-                Position enemyPos = enemy.getPosition();
-                int directionRow = enemy.getDirectionRow();
-                TextureRegion currentFrame = game.getEnemyAnimation().getFrame(enemy.getAnimationTime(), directionRow);
-                batch.draw(currentFrame, enemyPos.getX() - ENEMY_HALF, enemyPos.getY() - ENEMY_HALF, ENEMY_DRAW_SIZE,
-                        ENEMY_DRAW_SIZE);
             }
         });
     }
 
+    // Members share the swarm's frame and sit at fixed offsets around its position.
+    private void drawSwarm(SpriteBatch batch, TextureRegion frame, EnemyStore enemies, int index) {
+        int alive = enemies.getAliveMembers(index);
+        swarmFormation.ensureCapacity(enemies.getMemberCount(index));
+        float x = enemies.getX(index) - SWARM_MEMBER_HALF;
+        float y = enemies.getY(index) - SWARM_MEMBER_HALF;
+        for (int m = 0; m < alive; m++) {
+            batch.draw(frame, x + swarmFormation.getOffsetX(m), y + swarmFormation.getOffsetY(m),
+                    SWARM_MEMBER_SIZE, SWARM_MEMBER_SIZE);
+        }
+    }
+
     private Color getTowerColor(int towerId) {
         GameConfig cfg = game.getGameConfig();
         if (cfg == null || cfg.getTowerTypes() == null) {
@@ -245,8 +220,7 @@ public class GameRenderer {
         withShapeRenderer(ShapeType.Filled, () -> {
             game.getShapeRenderer().setColor(1f, 1f, 0f, 1f);
             for (Projectile projectile : gameWorld.getProjectiles()) {
-                Position projPos = projectile.getPosition();
-                game.getShapeRenderer().circle(projPos.getX(), projPos.getY(), PROJECTILE_RADIUS);
+                game.getShapeRenderer().circle(projectile.getX(), projectile.getY(), PROJECTILE_RADIUS);
             }
         });
     }
@@ -255,8 +229,7 @@ public class GameRenderer {
         withBatch(batch -> {
             if (game.getCoinTexture() != null) {
                 for (MoneyCoin coin : gameWorld.getMoneyCoins()) {
-                    Position coinPos = coin.getPosition();
-                    batch.draw(game.getCoinTexture(), coinPos.getX() - COIN_HALF, coinPos.getY() - COIN_HALF,
+                    batch.draw(game.getCoinTexture(), coin.getX() - COIN_HALF, coin.getY() - COIN_HALF,
                             COIN_SIZE, COIN_SIZE);
                 }
             }
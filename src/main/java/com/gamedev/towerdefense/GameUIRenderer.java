@@ -227,6 +227,10 @@ public class GameUIRenderer {
             return "Strongest";
         } else if (strategy instanceof com.gamedev.towerdefense.model.WeakestEnemyStrategy) {
             return "Weakest";
+        } else if (strategy instanceof com.gamedev.towerdefense.model.FirstEnemyStrategy) {
+            return "First";
+        } else if (strategy instanceof com.gamedev.towerdefense.model.LastEnemyStrategy) {
+            return "Last";
         }
         return "Unknown";
     }
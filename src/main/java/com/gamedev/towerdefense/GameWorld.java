@@ -1,21 +1,34 @@
 package com.gamedev.towerdefense;
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 
 import com.gamedev.towerdefense.config.GameConfig;
 import com.gamedev.towerdefense.model.BudgetManager;
 import com.gamedev.towerdefense.model.CurvedPath;
-import com.gamedev.towerdefense.model.Enemy;
+import com.gamedev.towerdefense.model.CurvedPathCache;
 import com.gamedev.towerdefense.model.EnemyFactory;
+import com.gamedev.towerdefense.model.EnemyGrid;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.EnemyTypes;
 import com.gamedev.towerdefense.model.GameState;
+import com.gamedev.towerdefense.model.Handles;
+import com.gamedev.towerdefense.model.Kinematics;
 import com.gamedev.towerdefense.model.MoneyCoin;
+import com.gamedev.towerdefense.model.ObjectPool;
 import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathDistanceField;
+import com.gamedev.towerdefense.model.PathNetwork;
 import com.gamedev.towerdefense.model.Position;
 import com.gamedev.towerdefense.model.Projectile;
+import com.gamedev.towerdefense.model.SlotMap;
 import com.gamedev.towerdefense.model.Tower;
+import com.gamedev.towerdefense.model.TowerScheduler;
 import com.gamedev.towerdefense.model.WaveManager;
+import com.gamedev.towerdefense.model.WorldStateBuffer;
+import com.gamedev.towerdefense.util.TickProfiler;
 
 public class GameWorld {
     public static final float UI_MARGIN = 10f;
@@ -24,50 +37,116 @@ public class GameWorld {
     private final GameConfig gameConfig;
     private final BudgetManager budgetManager;
     private final WaveManager waveManager;
-    private final EnemyFactory enemyFactory = new EnemyFactory();
+    private final EnemyTypes enemyTypes;
+    private final EnemyFactory enemyFactory;
 
     private int lives;
     private GameState gameState = GameState.PLAYING;
-    private final Path path;
+    private final PathNetwork pathNetwork = new PathNetwork();
+    private final PathDistanceField pathDistanceField;
 
-    private final List<Enemy> enemies = new ArrayList<>();
     private final List<Tower> towers = new ArrayList<>();
+    private final List<Tower> towerView = Collections.unmodifiableList(towers);
+    private final SlotMap<Tower> towerHandles = new SlotMap<>();
+    // Runs each tower only when its cooldown ends or an enemy is due in its coverage.
+    private final TowerScheduler towerScheduler = new TowerScheduler();
     private final List<Projectile> projectiles = new ArrayList<>();
+    private final SlotMap<Projectile> projectileHandles = new SlotMap<>();
     private final List<MoneyCoin> moneyCoins = new ArrayList<>();
+    // Moves every projectile and coin; see updateMovers.
+    private final Kinematics movers = new Kinematics();
+    private final ObjectPool<Projectile> projectilePool = new ObjectPool<>(Projectile::new);
+    private final ObjectPool<MoneyCoin> coinPool = new ObjectPool<>(MoneyCoin::new);
+    private final Position budgetTextPos;
+
+    // Null unless state capture is enabled; off by default, as the game draws
+    // straight from the stores and only tools and tests read the packed state.
+    private WorldStateBuffer stateBuffer;
+    // Null unless profiling is enabled.
+    private TickProfiler profiler;
 
     private GameConfig.TowerTypeConfig selectedTowerType;
-    private Tower selectedTower;
+    private int selectedTower = Handles.NONE;
 
     public GameWorld(GameConfig gameConfig) {
         this.gameConfig = gameConfig;
         try {
-            List<Position> waypoints = gameConfig.getPathWaypoints();
-            if (waypoints == null || waypoints.isEmpty()) {
+            List<GameConfig.PathConfig> pathConfigs = gameConfig.getPaths();
+            if (pathConfigs.isEmpty()) {
                 throw new RuntimeException("Path waypoints are missing or empty");
             }
-            this.path = new CurvedPath(waypoints);
+            gameConfig.validatePathReferences();
+            CurvedPathCache pathCache = gameConfig.getPathCacheDirectory() != null
+                    ? new CurvedPathCache(new File(gameConfig.getPathCacheDirectory()))
+                    : null;
+            for (GameConfig.PathConfig pathConfig : pathConfigs) {
+                List<Position> waypoints = gameConfig.getPathWaypoints(pathConfig);
+                if (waypoints.isEmpty()) {
+                    throw new RuntimeException("Path waypoints are missing or empty: " + pathConfig.getId());
+                }
+                // Each lane, branches included, gets its own arc-length tables over its full route.
+                Path lanePath = pathCache != null
+                        ? pathCache.load(waypoints, CurvedPath.DEFAULT_ALPHA,
+                                pathConfig.getBakeSpacing(), pathConfig.getArcLengthTolerance())
+                        : new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA,
+                                pathConfig.getBakeSpacing(), pathConfig.getArcLengthTolerance());
+                pathNetwork.addLane(pathConfig.getId(), lanePath);
+            }
         } catch (RuntimeException e) {
             System.err.println("Failed to setup path: " + e.getMessage());
             throw new RuntimeException("Cannot start game without path", e);
         }
 
+        float worldWidth = gameConfig.getWorldWidth() > 0 ? gameConfig.getWorldWidth() : TowerDefenseGame.WORLD_WIDTH;
+        float worldHeight = gameConfig.getWorldHeight() > 0 ? gameConfig.getWorldHeight() : TowerDefenseGame.WORLD_HEIGHT;
+        int minPathDistance = gameConfig.getTowerPlacement() != null
+                ? gameConfig.getTowerPlacement().getMinDistanceFromPath()
+                : 30;
+        // Baked slightly past the placement threshold so interpolation near the cutoff isn't clamped.
+        this.pathDistanceField = new PathDistanceField(pathNetwork.getPaths(), worldWidth, worldHeight, minPathDistance * 2f + 8f);
+
+        try {
+            this.enemyTypes = EnemyTypes.fromConfig(gameConfig);
+        } catch (RuntimeException e) {
+            System.err.println("Failed to setup enemy types: " + e.getMessage());
+            throw new RuntimeException("Cannot start game without enemy types", e);
+        }
+        this.enemyFactory = new EnemyFactory(enemyTypes);
+
         this.budgetManager = new BudgetManager(gameConfig.getInitialBudget());
         this.lives = gameConfig.getInitialLives();
 
         try {
             if (gameConfig.getWaves() != null && !gameConfig.getWaves().isEmpty()) {
-                this.waveManager = new WaveManager(gameConfig.getWaves());
+                this.waveManager = new WaveManager(gameConfig.getWaves(), enemyTypes);
             } else {
-                this.waveManager = new WaveManager(null);
+                this.waveManager = new WaveManager(null, enemyTypes);
             }
         } catch (RuntimeException e) {
             System.err.println("Failed to setup wave manager: " + e.getMessage());
             throw new RuntimeException("Cannot start game without wave manager", e);
         }
+        float coinTargetHeight = gameConfig.getWorldHeight() > 0 ? gameConfig.getWorldHeight() : 720;
+        this.budgetTextPos = new Position(UI_MARGIN, coinTargetHeight - UI_MARGIN);
+        prewarmPools();
         initializeEnemies();
         initializeTowerSelection();
     }
 
+    /**
+     * Sizes the pools for the largest wave, so the first waves spawn, shoot and
+     * drop coins without allocating.
+     */
+    private void prewarmPools() {
+        int largestWave = waveManager.getLargestWaveSize();
+        for (PathNetwork.Lane lane : pathNetwork.getLanes()) {
+            lane.getStore().reserve(largestWave);
+        }
+        projectilePool.prewarm(largestWave);
+        coinPool.prewarm(largestWave);
+        movers.reserve(largestWave * 2);
+    }
+
     private void initializeEnemies() {
         try {
             if (gameConfig.getInitialEnemies() != null) {
@@ -76,8 +155,8 @@ public class GameWorld {
                     if (reward == 0) {
                         reward = 10;
                     }
-                    enemies.add(enemyFactory.createCustomEnemy(
-                            path, enemyConfig.getHealth(), enemyConfig.getSpeed(), 0, reward));
+                    enemyFactory.spawnCustomEnemy(pathNetwork.getDefaultLane().getStore(),
+                            enemyConfig.getHealth(), enemyConfig.getSpeed(), reward);
                 }
             }
         } catch (RuntimeException e) {
@@ -105,68 +184,154 @@ public class GameWorld {
             return;
         }
         
+        if (profiler != null) {
+            profiler.beginTick();
+        }
         if (waveManager != null) {
-            waveManager.update(deltaTime, enemies, path);
+            waveManager.update(deltaTime, pathNetwork);
         }
+        markPhase(TickProfiler.WAVES);
 
         updateEnemies(deltaTime);
         checkGameState();
-        updateMoneyCoins(deltaTime);
+        markPhase(TickProfiler.ENEMIES);
         updateTowers(deltaTime);
-        updateProjectiles(deltaTime);
+        markPhase(TickProfiler.TOWERS);
+        updateMovers(deltaTime);
+        markPhase(TickProfiler.MOVERS);
+        if (stateBuffer != null) {
+            captureState();
+        }
+        markPhase(TickProfiler.CAPTURE);
+    }
+
+    private void markPhase(int phase) {
+        if (profiler != null) {
+            profiler.mark(phase);
+        }
+    }
+
+    private void captureState() {
+        float gameTime = waveManager != null ? waveManager.getGameTime() : 0f;
+        stateBuffer.capture(gameTime, lives, budgetManager.getBudget(), pathNetwork, towers, towerScheduler,
+                movers);
     }
 
     private void updateEnemies(float deltaTime) {
-        Iterator<Enemy> it = enemies.iterator();
-        while (it.hasNext()) {
-            Enemy enemy = it.next();
-            enemy.update(deltaTime);
-            if (!enemy.isAlive()) {
-                Position enemyPos = enemy.getPosition();
-                // Note: WORLD_HEIGHT access needs to be resolved. Passing simplified coordinate or calculating elsewhere.
-                // For now, assuming standard height or retrieving from config if stored there, 
-                // but simpler to use a fixed position for coin target relative to screen.
-                float worldHeight = gameConfig.getWorldHeight() > 0 ? gameConfig.getWorldHeight() : 720;
-                Position budgetTextPos = new Position(UI_MARGIN, worldHeight - UI_MARGIN);
-                
+        List<PathNetwork.Lane> lanes = pathNetwork.getLanes();
+        for (int i = 0; i < lanes.size(); i++) {
+            updateLaneEnemies(lanes.get(i).getStore(), deltaTime);
+        }
+    }
+
+    private void updateLaneEnemies(EnemyStore enemies, float deltaTime) {
+        enemies.update(deltaTime);
+
+        // Removal moves the last slot into the gap, so walk backwards. Spawn order
+        // survives as the store's spawn sequence, which the renderer sorts by.
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            if (enemies.getHealth(i) <= 0) {
                 float coinSpeed = gameConfig.getMoneyCoinSpeed() > 0 ? gameConfig.getMoneyCoinSpeed() : DEFAULT_COIN_SPEED;
-                MoneyCoin coin = new MoneyCoin(enemyPos, budgetTextPos, coinSpeed, enemy.getReward());
-                moneyCoins.add(coin);
-                it.remove();
-            } else if (enemy.hasReachedEnd()) {
+                moneyCoins.add(coinPool.obtain().init(enemies.getX(i), enemies.getY(i), budgetTextPos, coinSpeed,
+                        enemies.getReward(i) * enemies.getMemberCount(i)));
+                enemies.remove(enemies.handleAt(i));
+            } else if (enemies.getProgress(i) >= 1f) {
+                // A swarm costs one life however many members get through, and
+                // still pays for the members shot down on the way.
                 lives--;
-                it.remove();
+                int killed = enemies.getMemberCount(i) - enemies.getAliveMembers(i);
+                if (killed > 0) {
+                    float coinSpeed = gameConfig.getMoneyCoinSpeed() > 0 ? gameConfig.getMoneyCoinSpeed() : DEFAULT_COIN_SPEED;
+                    moneyCoins.add(coinPool.obtain().init(enemies.getX(i), enemies.getY(i), budgetTextPos, coinSpeed,
+                            enemies.getReward(i) * killed));
+                }
+                enemies.remove(enemies.handleAt(i));
             }
         }
+        // Towers target next, against this tick's final positions.
+        enemies.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
     }
 
     private void updateTowers(float deltaTime) {
-        for (Tower tower : towers) {
-            tower.update(deltaTime, enemies, projectiles);
+        towerScheduler.update(deltaTime, pathNetwork, projectiles, projectilePool);
+    }
+
+    /**
+     * Moves all projectiles and coins in one {@link Kinematics#step}, then
+     * applies arrivals in a batch by kind: landed shots deal damage and coins pay out.
+     */
+    private void updateMovers(float deltaTime) {
+        attachNewMovers();
+
+        int arrivals = movers.step(deltaTime);
+        for (int n = 0; n < arrivals; n++) {
+            int index = movers.indexOf(movers.getArrival(n));
+            if (movers.isTargetLost(index)) {
+                continue;
+            }
+            switch (movers.getKind(index)) {
+                case Projectile.KIND -> Projectile.hit(movers.getTargetStore(index), movers.getTargetHandle(index),
+                        movers.getPayload(index), false);
+                case Projectile.SPLASH_KIND -> Projectile.hit(movers.getTargetStore(index),
+                        movers.getTargetHandle(index), movers.getPayload(index), true);
+                case MoneyCoin.KIND -> budgetManager.earn(movers.getPayload(index));
+                default -> {
+                }
+            }
         }
+
+        removeArrivedMovers();
     }
 
-    private void updateProjectiles(float deltaTime) {
-        Iterator<Projectile> projectileIt = projectiles.iterator();
-        while (projectileIt.hasNext()) {
-            Projectile projectile = projectileIt.next();
-            projectile.update(deltaTime);
-            if (projectile.hasHit()) {
-                projectileIt.remove();
+    // Towers and enemy deaths append to the lists; anything new joins the system here.
+    private void attachNewMovers() {
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
+            if (!projectile.isAttached()) {
+                projectile.attach(movers);
+                projectile.setHandle(projectileHandles.add(projectile));
+            }
+        }
+        for (int i = 0; i < moneyCoins.size(); i++) {
+            MoneyCoin coin = moneyCoins.get(i);
+            if (!coin.isAttached()) {
+                coin.attach(movers);
             }
         }
     }
 
-    private void updateMoneyCoins(float deltaTime) {
-        Iterator<MoneyCoin> coinIt = moneyCoins.iterator();
-        while (coinIt.hasNext()) {
-            MoneyCoin coin = coinIt.next();
-            coin.update(deltaTime);
+    // Both lists are compacted in a single pass: survivors slide down over the
+    // removed entries in order, and the tail is dropped once at the end.
+    private void removeArrivedMovers() {
+        int kept = 0;
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
+            if (projectile.hasHit()) {
+                projectileHandles.remove(projectile.getHandle());
+                projectilePool.free(projectile);
+            } else {
+                projectiles.set(kept++, projectile);
+            }
+        }
+        truncate(projectiles, kept);
+
+        kept = 0;
+        for (int i = 0; i < moneyCoins.size(); i++) {
+            MoneyCoin coin = moneyCoins.get(i);
             if (coin.hasReachedTarget()) {
-                budgetManager.earn(coin.getReward());
-                coinIt.remove();
+                coinPool.free(coin);
+            } else {
+                moneyCoins.set(kept++, coin);
             }
         }
+        truncate(moneyCoins, kept);
+    }
+
+    // Removing from the end never shifts, and unlike subList().clear() it allocates nothing.
+    private static <T> void truncate(List<T> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) {
+            list.remove(i);
+        }
     }
 
     private void checkGameState() {
@@ -179,7 +344,7 @@ public class GameWorld {
             return;
         }
 
-        if (waveManager != null && waveManager.areAllWavesComplete() && enemies.isEmpty()) {
+        if (waveManager != null && waveManager.areAllWavesComplete() && pathNetwork.getEnemyCount() == 0) {
             gameState = GameState.WON;
         }
     }
@@ -209,72 +374,19 @@ public class GameWorld {
             }
         }
 
-        try {
-            List<Position> waypoints = path.getWaypoints();
-            if (waypoints == null || waypoints.size() < 2) {
+        List<PathNetwork.Lane> lanes = pathNetwork.getLanes();
+        for (int i = 0; i < lanes.size(); i++) {
+            if (lanes.get(i).getPath().getWaypointCount() < 2) {
                 return false;
             }
+        }
 
-            for (int i = 0; i < waypoints.size() - 1; i++) {
-                Position start = waypoints.get(i);
-                Position end = waypoints.get(i + 1);
-
-                float distToSegment = distanceToLineSegment(pos, start, end);
-                if (distToSegment < minPathDistance) {
-                    return false;
-                }
-            }
-        } catch (IndexOutOfBoundsException e) {
-            System.err.println("Index out of bounds when checking tower placement: " + e.getMessage());
-            return false;
-        } catch (RuntimeException e) {
-            System.err.println("Error checking tower placement: " + e.getMessage());
+        // The distance field is baked from every lane's path.
+        if (pathDistanceField.distanceAt(x, y) < minPathDistance) {
             return false;
         }
         return true;
     }
-    private float distanceToLineSegment(Position point, Position lineStart, Position lineEnd) {
-        if (point == null || lineStart == null || lineEnd == null) {
-            return Float.MAX_VALUE;
-        }
-        try {
-            float A = point.getX() - lineStart.getX();
-            float B = point.getY() - lineStart.getY();
-            float C = lineEnd.getX() - lineStart.getX();
-            float D = lineEnd.getY() - lineStart.getY();
-
-            float dot = A * C + B * D;
-            float lenSq = C * C + D * D;
-            float param = -1;
-
-            if (lenSq != 0) {
-                param = dot / lenSq;
-            }
-
-            float xx, yy;
-
-            if (param < 0) {
-                xx = lineStart.getX();
-                yy = lineStart.getY();
-            } else if (param > 1) {
-                xx = lineEnd.getX();
-                yy = lineEnd.getY();
-            } else {
-                xx = lineStart.getX() + param * C;
-                yy = lineStart.getY() + param * D;
-            }
-
-            float dx = point.getX() - xx;
-            float dy = point.getY() - yy;
-            return (float) Math.sqrt(dx * dx + dy * dy);
-        } catch (ArithmeticException e) {
-            System.err.println("Arithmetic error in distance calculation: " + e.getMessage());
-            return Float.MAX_VALUE;
-        } catch (RuntimeException e) {
-            System.err.println("Error calculating distance to line segment: " + e.getMessage());
-            return Float.MAX_VALUE;
-        }
-    }
     public GameConfig getGameConfig() {
         return gameConfig;
     }
@@ -283,6 +395,10 @@ public class GameWorld {
         return budgetManager;
     }
 
+    public EnemyTypes getEnemyTypes() {
+        return enemyTypes;
+    }
+
     public WaveManager getWaveManager() {
         return waveManager;
     }
@@ -300,25 +416,160 @@ public class GameWorld {
     }
 
     public Path getPath() {
-        return path;
+        return pathNetwork.getDefaultLane().getPath();
     }
 
-    public List<Enemy> getEnemies() {
-        return enemies;
+    public PathNetwork getPathNetwork() {
+        return pathNetwork;
     }
 
+    /**
+     * Read-only; towers join and leave through {@link #addTower} and {@link #removeTower}.
+     */
     public List<Tower> getTowers() {
-        return towers;
+        return towerView;
+    }
+
+    /**
+     * Adds {@code tower} to the world and returns its handle, which is also set
+     * on the tower.
+     */
+    public int addTower(Tower tower) {
+        int handle = towerHandles.add(tower);
+        tower.setHandle(handle);
+        towers.add(tower);
+        towerScheduler.add(tower);
+        return handle;
+    }
+
+    /**
+     * Removes the tower for {@code handle}, returning false if the handle is stale.
+     */
+    public boolean removeTower(int handle) {
+        Tower tower = towerHandles.remove(handle);
+        if (tower == null) {
+            return false;
+        }
+        towers.remove(tower);
+        towerScheduler.remove(tower);
+        tower.setHandle(Handles.NONE);
+        return true;
+    }
+
+    /**
+     * Makes the tower for {@code handle} run on the next update. Call after
+     * upgrading a tower or changing its targeting, as a sleeping tower would not
+     * notice otherwise.
+     */
+    public void wakeTower(int handle) {
+        Tower tower = towerHandles.get(handle);
+        if (tower != null) {
+            towerScheduler.wake(tower);
+        }
+    }
+
+    public TowerScheduler getTowerScheduler() {
+        return towerScheduler;
+    }
+
+    /**
+     * The tower for {@code handle}, or null once it has been removed.
+     */
+    public Tower getTower(int handle) {
+        return towerHandles.get(handle);
     }
 
     public List<Projectile> getProjectiles() {
         return projectiles;
     }
 
+    /**
+     * The projectile in flight for {@code handle}, or null once it has landed.
+     */
+    public Projectile getProjectile(int handle) {
+        return projectileHandles.get(handle);
+    }
+
     public List<MoneyCoin> getMoneyCoins() {
         return moneyCoins;
     }
 
+    public Kinematics getMovers() {
+        return movers;
+    }
+
+    /**
+     * Starts packing the hot state into an off-heap {@link WorldStateBuffer} at
+     * the end of every update, for snapshots and off-thread rendering, and
+     * captures the current state straight away. Capture is off until this is
+     * called, and nothing in the game itself turns it on.
+     */
+    public WorldStateBuffer enableStateCapture() {
+        if (stateBuffer == null) {
+            int largestWave = waveManager != null ? waveManager.getLargestWaveSize() : 0;
+            stateBuffer = new WorldStateBuffer(pathNetwork.getEnemyCount() + largestWave, towers.size(),
+                    largestWave * 2);
+        }
+        captureState();
+        return stateBuffer;
+    }
+
+    /**
+     * Stops capturing and releases the buffer, so updates skip the capture
+     * phase again. Views and snapshots taken earlier stay readable.
+     */
+    public void disableStateCapture() {
+        stateBuffer = null;
+    }
+
+    /**
+     * The captured state, or null while state capture is off.
+     */
+    public WorldStateBuffer getStateBuffer() {
+        return stateBuffer;
+    }
+
+    /**
+     * Starts timing each phase of every update; see {@link TickProfiler}.
+     */
+    public TickProfiler enableProfiling() {
+        if (profiler == null) {
+            profiler = new TickProfiler();
+        }
+        return profiler;
+    }
+
+    /**
+     * The phase timings, or null while profiling is off.
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    public ObjectPool<Projectile> getProjectilePool() {
+        return projectilePool;
+    }
+
+    public ObjectPool<MoneyCoin> getCoinPool() {
+        return coinPool;
+    }
+
+    /**
+     * One-line summary of pool hits and misses, with enemy store slots counted
+     * as the enemy pool.
+     */
+    public String describePools() {
+        int enemyHits = 0;
+        int enemyMisses = 0;
+        for (PathNetwork.Lane lane : pathNetwork.getLanes()) {
+            enemyHits += lane.getStore().getSlotHits();
+            enemyMisses += lane.getStore().getSlotMisses();
+        }
+        return String.format("Pools (hits/misses): enemies %d/%d, projectiles %d/%d, coins %d/%d",
+                enemyHits, enemyMisses, projectilePool.getHits(), projectilePool.getMisses(),
+                coinPool.getHits(), coinPool.getMisses());
+    }
+
     public GameConfig.TowerTypeConfig getSelectedTowerType() {
         return selectedTowerType;
     }
@@ -327,11 +578,18 @@ public class GameWorld {
         this.selectedTowerType = selectedTowerType;
     }
 
+    /**
+     * The selected tower, or null if none is selected or it has been removed.
+     */
     public Tower getSelectedTower() {
+        return towerHandles.get(selectedTower);
+    }
+
+    public int getSelectedTowerHandle() {
         return selectedTower;
     }
 
     public void setSelectedTower(Tower selectedTower) {
-        this.selectedTower = selectedTower;
+        this.selectedTower = selectedTower != null ? selectedTower.getHandle() : Handles.NONE;
     }
 }
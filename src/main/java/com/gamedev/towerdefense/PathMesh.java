@@ -0,0 +1,171 @@
+package com.gamedev.towerdefense;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Path lines and start/end markers for every lane, baked into one static mesh of
+ * triangles and drawn with a single call. The mesh is rebuilt only when the set
+ * of path objects changes.
+ */
+class PathMesh {
+    static final int CURVED_PATH_SAMPLES = 100;
+    static final float LINE_WIDTH = 1f;
+    static final float MARKER_RADIUS = 10f;
+    static final int MARKER_SEGMENTS = 20;
+    // x, y and a packed color per vertex.
+    static final int FLOATS_PER_VERTEX = 3;
+
+    private static final float PATH_COLOR = Color.WHITE.toFloatBits();
+    private static final float START_COLOR = Color.GREEN.toFloatBits();
+    private static final float END_COLOR = Color.RED.toFloatBits();
+
+    private final List<Path> builtFor = new ArrayList<>();
+    private Mesh mesh;
+    private ShaderProgram shader;
+
+    void render(List<Path> paths, Matrix4 projection) {
+        if (mesh == null || !isBuiltFor(paths)) {
+            rebuild(paths);
+        }
+        if (mesh.getNumVertices() == 0) {
+            return;
+        }
+        shader.bind();
+        shader.setUniformMatrix("u_projModelView", projection);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+    }
+
+    private boolean isBuiltFor(List<Path> paths) {
+        if (paths.size() != builtFor.size()) {
+            return false;
+        }
+        for (int i = 0; i < paths.size(); i++) {
+            if (paths.get(i) != builtFor.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rebuild(List<Path> paths) {
+        float[] vertices = buildVertices(paths);
+        if (mesh != null) {
+            mesh.dispose();
+        }
+        if (shader == null) {
+            shader = ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+        }
+        mesh = new Mesh(true, vertices.length / FLOATS_PER_VERTEX, 0,
+                new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+                VertexAttribute.ColorPacked());
+        mesh.setVertices(vertices);
+        builtFor.clear();
+        builtFor.addAll(paths);
+    }
+
+    static float[] buildVertices(List<Path> paths) {
+        VertexWriter writer = new VertexWriter();
+        for (Path path : paths) {
+            List<Position> points = linePoints(path);
+            for (int i = 0; i < points.size() - 1; i++) {
+                writer.line(points.get(i), points.get(i + 1), PATH_COLOR);
+            }
+
+            List<Position> waypoints = path.getWaypoints();
+            writer.disc(waypoints.get(0), START_COLOR);
+            if (waypoints.size() > 1) {
+                writer.disc(waypoints.get(waypoints.size() - 1), END_COLOR);
+            }
+        }
+        return writer.toArray();
+    }
+
+    private static List<Position> linePoints(Path path) {
+        if (!(path instanceof CurvedPath)) {
+            return path.getWaypoints();
+        }
+        List<Position> points = new ArrayList<>(CURVED_PATH_SAMPLES + 1);
+        for (int i = 0; i <= CURVED_PATH_SAMPLES; i++) {
+            points.add(path.getPositionAt((float) i / CURVED_PATH_SAMPLES));
+        }
+        return points;
+    }
+
+    void dispose() {
+        if (mesh != null) {
+            mesh.dispose();
+            mesh = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+        builtFor.clear();
+    }
+
+    private static class VertexWriter {
+        private float[] data = new float[1024];
+        private int size;
+
+        void line(Position from, Position to, float color) {
+            float dx = to.getX() - from.getX();
+            float dy = to.getY() - from.getY();
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+            if (length == 0f) {
+                return;
+            }
+            float nx = -dy / length * LINE_WIDTH / 2f;
+            float ny = dx / length * LINE_WIDTH / 2f;
+            triangle(from.getX() + nx, from.getY() + ny, from.getX() - nx, from.getY() - ny,
+                    to.getX() - nx, to.getY() - ny, color);
+            triangle(from.getX() + nx, from.getY() + ny, to.getX() - nx, to.getY() - ny,
+                    to.getX() + nx, to.getY() + ny, color);
+        }
+
+        void disc(Position center, float color) {
+            float step = (float) (2 * Math.PI / MARKER_SEGMENTS);
+            for (int i = 0; i < MARKER_SEGMENTS; i++) {
+                float a0 = i * step;
+                float a1 = (i + 1) * step;
+                triangle(center.getX(), center.getY(),
+                        center.getX() + (float) Math.cos(a0) * MARKER_RADIUS,
+                        center.getY() + (float) Math.sin(a0) * MARKER_RADIUS,
+                        center.getX() + (float) Math.cos(a1) * MARKER_RADIUS,
+                        center.getY() + (float) Math.sin(a1) * MARKER_RADIUS, color);
+            }
+        }
+
+        private void triangle(float x1, float y1, float x2, float y2, float x3, float y3, float color) {
+            vertex(x1, y1, color);
+            vertex(x2, y2, color);
+            vertex(x3, y3, color);
+        }
+
+        private void vertex(float x, float y, float color) {
+            if (size + FLOATS_PER_VERTEX > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size++] = x;
+            data[size++] = y;
+            data[size++] = color;
+        }
+
+        float[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -137,6 +137,19 @@ public class TowerDefenseGame extends ApplicationAdapter {
 
     @Override
     public void dispose() {
+        // Only shown when the application log level is LOG_DEBUG.
+        if (gameWorld != null && Gdx.app != null) {
+            Gdx.app.debug("Pools", gameWorld.describePools());
+        }
+
+        try {
+            if (renderer != null) {
+                renderer.dispose();
+            }
+        } catch (Exception e) {
+            System.err.println("Error disposing renderer: " + e.getMessage());
+        }
+
         try {
             if (batch != null) {
                 batch.dispose();
@@ -0,0 +1,65 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Shared timing and fixture helpers for the benchmark suites.
+ */
+public final class BenchmarkSupport {
+    private static final int WARMUP_ROUNDS = 5;
+    // Short bodies need more than a few rounds before the JIT has compiled them.
+    private static final long MIN_WARMUP_NANOS = 300_000_000L;
+    private static final int MEASURED_ROUNDS = 10;
+
+    // Results are folded into this field so the JIT cannot discard the measured work.
+    private static volatile double sink;
+
+    private BenchmarkSupport() {
+    }
+
+    public static void consume(double value) {
+        sink += value;
+    }
+
+    /**
+     * Runs {@code body} through warmup and measured rounds and returns the best
+     * observed nanoseconds per operation, where one round performs {@code opsPerRound} operations.
+     */
+    public static double nanosPerOp(long opsPerRound, Runnable body) {
+        long warmupStart = System.nanoTime();
+        for (int i = 0; i < WARMUP_ROUNDS || System.nanoTime() - warmupStart < MIN_WARMUP_NANOS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / opsPerRound;
+    }
+
+    /**
+     * Generates a meandering path that sweeps left to right across a
+     * 1280x720 world, so segment lengths stay comparable at any waypoint count.
+     */
+    public static List<Position> generateWaypoints(int count, long seed) {
+        Random random = new Random(seed);
+        List<Position> waypoints = new ArrayList<>(count);
+        float stepX = count > 1 ? 1280f / (count - 1) : 0f;
+        for (int i = 0; i < count; i++) {
+            float y = 360f + (random.nextFloat() - 0.5f) * 600f;
+            waypoints.add(new Position(i * stepX, y));
+        }
+        return waypoints;
+    }
+
+    public static void printHeader(String title) {
+        System.out.println();
+        System.out.println("=== " + title + " ===");
+    }
+}
@@ -0,0 +1,47 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Entry point for the performance benchmarks. Runs every suite, or only the
+ * suites named on the command line (for example {@code gradle benchmark -Psuite=path-lookup}).
+ */
+public class BenchmarkTool {
+
+    private static final Map<String, Runnable> SUITES = new LinkedHashMap<>();
+
+    static {
+        SUITES.put("path-lookup", PathLookupBenchmark::run);
+        SUITES.put("path-construction", PathConstructionBenchmark::run);
+        SUITES.put("path-projection", PathProjectionBenchmark::run);
+        SUITES.put("lanes", LaneScalingBenchmark::run);
+        SUITES.put("path-cache", PathCacheBenchmark::run);
+        SUITES.put("enemy-store", EnemyStoreBenchmark::run);
+        SUITES.put("removal", RemovalBenchmark::run);
+        SUITES.put("kinematics", KinematicsBenchmark::run);
+        SUITES.put("swarm", SwarmBenchmark::run);
+        SUITES.put("simd", SimdBenchmark::run);
+        SUITES.put("world-state", WorldStateBenchmark::run);
+        SUITES.put("grid", GridBenchmark::run);
+        SUITES.put("progress-index", ProgressIndexBenchmark::run);
+        SUITES.put("targeting", TargetingBenchmark::run);
+        SUITES.put("target-lock", TargetLockBenchmark::run);
+        SUITES.put("tower-scheduler", TowerSchedulerBenchmark::run);
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            SUITES.values().forEach(Runnable::run);
+            return;
+        }
+        for (String name : args) {
+            Runnable suite = SUITES.get(name);
+            if (suite == null) {
+                System.err.println("Unknown benchmark suite: " + name + " (available: " + SUITES.keySet() + ")");
+                System.exit(1);
+            }
+            suite.run();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.NearestEnemyStrategy;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathSample;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Per-tick cost of moving, targeting and drawing live enemies held in an
+ * {@link EnemyStore} versus one heap object per enemy, as the model used
+ * before the store was introduced.
+ */
+public class EnemyStoreBenchmark {
+    private static final int[] ENEMY_COUNTS = {10_000, 100_000};
+    private static final int TOWERS = 20;
+    private static final int TOWER_RANGE = 100;
+    private static final float TICK = 1f / 60f;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Enemy storage: objects vs EnemyStore arrays (" + TOWERS + " towers)");
+        System.out.printf("%10s %10s %14s %14s%n", "enemies", "phase", "objects us", "store us");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        for (int count : ENEMY_COUNTS) {
+            Random random = new Random(7L);
+            List<ObjectEnemy> objects = new ArrayList<>(count);
+            EnemyStore store = new EnemyStore(path, count);
+            for (int i = 0; i < count; i++) {
+                // Slow enough that no enemy reaches the end during the run.
+                float speed = 0.01f + random.nextFloat() * 0.01f;
+                float progress = random.nextFloat() * 0.9f;
+                objects.add(new ObjectEnemy(path, 100, speed, progress));
+                store.add(100, speed, progress, 10);
+            }
+            List<Position> towers = new ArrayList<>(TOWERS);
+            for (int i = 0; i < TOWERS; i++) {
+                Position anchor = path.getPositionAt(random.nextFloat());
+                towers.add(new Position(anchor.getX(), anchor.getY() + 40f));
+            }
+            NearestEnemyStrategy strategy = new NearestEnemyStrategy();
+
+            double objectUpdate = BenchmarkSupport.nanosPerOp(1, () -> {
+                for (ObjectEnemy enemy : objects) {
+                    enemy.update(TICK);
+                }
+            });
+            double storeUpdate = BenchmarkSupport.nanosPerOp(1, () -> store.update(TICK));
+            print(count, "update", objectUpdate, storeUpdate);
+
+            double objectTargeting = BenchmarkSupport.nanosPerOp(1, () -> {
+                int found = 0;
+                for (Position tower : towers) {
+                    found += selectNearest(tower, objects) != null ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            double storeTargeting = BenchmarkSupport.nanosPerOp(1, () -> {
+                int found = 0;
+                for (Position tower : towers) {
+                    found += strategy.selectTarget(tower, TOWER_RANGE, null, store) != EnemyStore.NONE ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            print(count, "target", objectTargeting, storeTargeting);
+
+            // What the renderer reads per enemy: position, animation time and direction row.
+            double objectDraw = BenchmarkSupport.nanosPerOp(1, () -> {
+                float sum = 0f;
+                for (ObjectEnemy enemy : objects) {
+                    Position position = enemy.getPosition();
+                    sum += position.getX() + position.getY() + enemy.animationTime + enemy.directionRow;
+                }
+                BenchmarkSupport.consume(sum);
+            });
+            double storeDraw = BenchmarkSupport.nanosPerOp(1, () -> {
+                float sum = 0f;
+                for (int i = 0; i < store.size(); i++) {
+                    sum += store.getX(i) + store.getY(i) + store.getAnimationTime(i) + store.getDirectionRow(i);
+                }
+                BenchmarkSupport.consume(sum);
+            });
+            print(count, "draw", objectDraw, storeDraw);
+        }
+    }
+
+    private static void print(int count, String phase, double objectNanos, double storeNanos) {
+        System.out.printf("%10d %10s %14.1f %14.1f%n", count, phase, objectNanos / 1_000.0, storeNanos / 1_000.0);
+    }
+
+    private static ObjectEnemy selectNearest(Position tower, List<ObjectEnemy> enemies) {
+        ObjectEnemy nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+        for (ObjectEnemy enemy : enemies) {
+            if (enemy.health <= 0) {
+                continue;
+            }
+            float distance = Position.distance(tower, enemy.getPosition());
+            if (distance <= TOWER_RANGE && distance < nearestDistance) {
+                nearest = enemy;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * The per-object enemy layout the store replaced: its own sample buffer and a
+     * position object rebuilt after every move.
+     */
+    private static class ObjectEnemy {
+        private final Path path;
+        private final PathSample pathSample = new PathSample();
+        private Position position;
+        private final int health;
+        private final float speed;
+        private float pathProgress;
+        private float animationTime;
+        private int directionRow;
+
+        ObjectEnemy(Path path, int health, float speed, float progress) {
+            this.path = path;
+            this.health = health;
+            this.speed = speed;
+            this.pathProgress = progress;
+            path.sample(progress, pathSample);
+        }
+
+        Position getPosition() {
+            if (position == null) {
+                position = new Position(pathSample.getX(), pathSample.getY());
+            }
+            return position;
+        }
+
+        void update(float deltaTime) {
+            animationTime += deltaTime;
+            if (pathProgress >= 1f) {
+                return;
+            }
+            pathProgress = Math.min(1f, pathProgress + speed * deltaTime / path.getPathLength());
+            path.sample(pathProgress, pathSample);
+            position = null;
+            if (!pathSample.hasTangent()) {
+                return;
+            }
+            float angle = (float) Math.toDegrees(Math.atan2(pathSample.getTangentY(), pathSample.getTangentX()));
+            if (angle < 0) {
+                angle += 360;
+            }
+            directionRow = angle >= 225 && angle < 315 ? 0 : angle >= 135 && angle < 225 ? 1
+                    : angle >= 315 || angle < 45 ? 2 : 3;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyGrid;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.NearestEnemyStrategy;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathCoverage;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Per-tick targeting cost with every tower scanning the whole store, with path
+ * coverage pruning, and with an {@link EnemyGrid} rebuilt once per tick (the
+ * rebuild is included in the grid timing). Enemies are spread along the whole path.
+ */
+public class GridBenchmark {
+    private static final int[][] SCENARIOS = {{20, 2_000}, {200, 20_000}, {200, 100_000}};
+    private static final int TOWER_RANGE = 100;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Targeting: full scan vs path coverage vs uniform grid");
+        System.out.printf("%8s %10s %12s %12s %12s %12s %10s%n", "towers", "enemies", "scan us", "coverage us",
+                "grid us", "rebuild us", "speedup");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        for (int[] scenario : SCENARIOS) {
+            int towerCount = scenario[0];
+            int enemyCount = scenario[1];
+            Random random = new Random(11L);
+            EnemyStore store = new EnemyStore(path, enemyCount);
+            for (int i = 0; i < enemyCount; i++) {
+                store.add(100, 10f, random.nextFloat(), 1);
+            }
+            store.update(0f);
+            List<Position> towers = new ArrayList<>(towerCount);
+            List<PathCoverage> coverages = new ArrayList<>(towerCount);
+            for (int i = 0; i < towerCount; i++) {
+                Position anchor = path.getPositionAt(random.nextFloat());
+                Position tower = new Position(anchor.getX(), anchor.getY() + 40f);
+                towers.add(tower);
+                coverages.add(new PathCoverage(path, tower, TOWER_RANGE));
+            }
+            NearestEnemyStrategy strategy = new NearestEnemyStrategy();
+
+            // No grid exists yet, so these scan the store.
+            double scan = BenchmarkSupport.nanosPerOp(1,
+                    () -> BenchmarkSupport.consume(targetAll(strategy, towers, null, store)));
+            double coverage = BenchmarkSupport.nanosPerOp(1,
+                    () -> BenchmarkSupport.consume(targetAll(strategy, towers, coverages, store)));
+            double rebuild = BenchmarkSupport.nanosPerOp(1, () -> store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE));
+            double grid = BenchmarkSupport.nanosPerOp(1, () -> {
+                store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+                BenchmarkSupport.consume(targetAll(strategy, towers, null, store));
+            });
+            System.out.printf("%8d %10d %12.1f %12.1f %12.1f %12.1f %9.1fx%n", towerCount, enemyCount,
+                    scan / 1_000.0, coverage / 1_000.0, grid / 1_000.0, rebuild / 1_000.0, scan / grid);
+        }
+    }
+
+    private static int targetAll(NearestEnemyStrategy strategy, List<Position> towers, List<PathCoverage> coverages,
+            EnemyStore store) {
+        int found = 0;
+        for (int i = 0; i < towers.size(); i++) {
+            PathCoverage coverage = coverages != null ? coverages.get(i) : null;
+            found += strategy.selectTarget(towers.get(i), TOWER_RANGE, coverage, store) != EnemyStore.NONE ? 1 : 0;
+        }
+        return found;
+    }
+}
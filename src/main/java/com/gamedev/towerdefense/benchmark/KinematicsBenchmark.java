@@ -0,0 +1,69 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.Kinematics;
+import com.gamedev.towerdefense.model.MoneyCoin;
+import com.gamedev.towerdefense.model.MovingObject;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.Position;
+import com.gamedev.towerdefense.model.Projectile;
+
+/**
+ * Per-tick cost of moving projectiles and coins one object at a time through
+ * {@link MovingObject#update} versus one {@link Kinematics#step} over arrays.
+ * Half of the movers home on enemies and half fly to a fixed point; nothing
+ * arrives during the run, so both sides do the same work every tick.
+ */
+public class KinematicsBenchmark {
+    private static final int[] MOVER_COUNTS = {10_000, 100_000, 300_000};
+    private static final int ENEMIES = 1_000;
+    private static final float TICK = 1f / 60f;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Movers: per-object update vs Kinematics step");
+        System.out.printf("%10s %14s %14s %10s%n", "movers", "objects us", "kinematics us", "speedup");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        EnemyStore enemies = new EnemyStore(path, ENEMIES);
+        Random random = new Random(5L);
+        for (int i = 0; i < ENEMIES; i++) {
+            enemies.add(100, 0f, random.nextFloat(), 1);
+        }
+        // Far enough away, and slow enough, that no mover arrives.
+        Position farAway = new Position(1_000_000f, 1_000_000f);
+
+        for (int count : MOVER_COUNTS) {
+            List<MovingObject> objects = new ArrayList<>(count);
+            Kinematics kinematics = new Kinematics(count);
+            for (int i = 0; i < count; i++) {
+                float x = random.nextFloat() * 1280f;
+                float y = -1_000_000f;
+                if (i % 2 == 0) {
+                    int target = enemies.handleAt(random.nextInt(ENEMIES));
+                    objects.add(new Projectile().init(new Position(x, y), enemies, target, 1f, 10));
+                    kinematics.addHoming(Projectile.KIND, x, y, enemies, target, 1f, 5f, 10);
+                } else {
+                    objects.add(new MoneyCoin(new Position(x, y), farAway, 1f, 10));
+                    kinematics.add(MoneyCoin.KIND, x, y, farAway.getX(), farAway.getY(), 1f, 10f, 10);
+                }
+            }
+
+            double objectNanos = BenchmarkSupport.nanosPerOp(1, () -> {
+                for (int i = 0; i < objects.size(); i++) {
+                    objects.get(i).update(TICK);
+                }
+                BenchmarkSupport.consume(objects.get(0).getX());
+            });
+            double kinematicsNanos = BenchmarkSupport.nanosPerOp(1, () -> {
+                BenchmarkSupport.consume(kinematics.step(TICK) + kinematics.getX(0));
+            });
+            System.out.printf("%10d %14.1f %14.1f %9.1fx%n", count, objectNanos / 1_000.0,
+                    kinematicsNanos / 1_000.0, objectNanos / kinematicsNanos);
+        }
+    }
+}
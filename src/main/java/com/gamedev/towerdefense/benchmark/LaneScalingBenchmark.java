@@ -0,0 +1,85 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.Enemy;
+import com.gamedev.towerdefense.model.PathNetwork;
+import com.gamedev.towerdefense.model.Position;
+import com.gamedev.towerdefense.model.Tower;
+
+/**
+ * Per-tick tower targeting cost as the number of concurrent lanes grows, with the
+ * same total enemy count: one flat enemy list versus per-lane buckets scanned
+ * only for lanes a tower covers.
+ */
+public class LaneScalingBenchmark {
+    private static final int[] LANE_COUNTS = {1, 2, 4, 8, 16};
+    private static final int TOTAL_ENEMIES = 4_000;
+    private static final int TOWERS = 64;
+    private static final int TOWER_RANGE = 100;
+    private static final int TICKS_PER_ROUND = 25;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Tower targeting across lanes (" + TOTAL_ENEMIES + " enemies, "
+                + TOWERS + " towers)");
+        System.out.printf("%8s %16s %16s%n", "lanes", "flat us/tick", "bucketed us/tick");
+
+        for (int laneCount : LANE_COUNTS) {
+            Random random = new Random(42L);
+            PathNetwork network = new PathNetwork();
+            for (int lane = 0; lane < laneCount; lane++) {
+                float y = 720f * (lane + 1) / (laneCount + 1);
+                network.addLane("lane-" + lane, new CurvedPath(Arrays.asList(
+                        new Position(1280, y),
+                        new Position(860, y + 20),
+                        new Position(430, y - 20),
+                        new Position(0, y)), CurvedPath.DEFAULT_ALPHA, 1f));
+            }
+
+            List<Enemy> allEnemies = new ArrayList<>();
+            for (int i = 0; i < TOTAL_ENEMIES; i++) {
+                PathNetwork.Lane lane = network.getLanes().get(i % laneCount);
+                Enemy enemy = new Enemy(lane.getPath(), 100, 50f, 0, 10);
+                enemy.update(random.nextFloat() * 25f);
+                lane.getEnemies().add(enemy);
+                allEnemies.add(enemy);
+            }
+
+            List<Tower> flatTowers = new ArrayList<>();
+            List<Tower> laneTowers = new ArrayList<>();
+            for (int i = 0; i < TOWERS; i++) {
+                PathNetwork.Lane lane = network.getLanes().get(random.nextInt(laneCount));
+                Position anchor = lane.getPath().getPositionAt(random.nextFloat());
+                Position position = new Position(anchor.getX(), anchor.getY() + 40f);
+                flatTowers.add(new Tower(30, TOWER_RANGE, 10, 0.5f, 300f, position, 1));
+                Tower laneTower = new Tower(30, TOWER_RANGE, 10, 0.5f, 300f, position, 1);
+                laneTower.setPaths(network.getPaths());
+                laneTowers.add(laneTower);
+            }
+
+            double flat = BenchmarkSupport.nanosPerOp(TICKS_PER_ROUND, () -> {
+                int found = 0;
+                for (int tick = 0; tick < TICKS_PER_ROUND; tick++) {
+                    for (Tower tower : flatTowers) {
+                        found += tower.selectTarget(allEnemies) != null ? 1 : 0;
+                    }
+                }
+                BenchmarkSupport.consume(found);
+            });
+            double bucketed = BenchmarkSupport.nanosPerOp(TICKS_PER_ROUND, () -> {
+                int found = 0;
+                for (int tick = 0; tick < TICKS_PER_ROUND; tick++) {
+                    for (Tower tower : laneTowers) {
+                        found += tower.selectTarget(network) != null ? 1 : 0;
+                    }
+                }
+                BenchmarkSupport.consume(found);
+            });
+            System.out.printf("%8d %16.1f %16.1f%n", laneCount, flat / 1_000.0, bucketed / 1_000.0);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.CurvedPathCache;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Startup cost of a baked {@link CurvedPath} with a cold cache (build and write)
+ * versus a warm one (memory-mapped read).
+ */
+public class PathCacheBenchmark {
+    private static final int[] WAYPOINT_COUNTS = {100, 1_000, 10_000};
+    private static final float BAKE_SPACING = 1f;
+    private static final int ROUNDS = 5;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("CurvedPathCache cold vs warm load");
+        System.out.printf("%10s %12s %12s %12s%n", "waypoints", "baked pts", "cold ms", "warm ms");
+
+        File root;
+        try {
+            root = Files.createTempDirectory("path-cache-bench").toFile();
+        } catch (IOException e) {
+            System.err.println("Cannot create benchmark directory: " + e.getMessage());
+            return;
+        }
+
+        try {
+            for (int count : WAYPOINT_COUNTS) {
+                List<Position> waypoints = BenchmarkSupport.generateWaypoints(count, 42L);
+                double cold = Double.MAX_VALUE;
+                double warm = Double.MAX_VALUE;
+                int baked = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    File directory = new File(root, count + "-" + round);
+
+                    long start = System.nanoTime();
+                    CurvedPath built = new CurvedPathCache(directory)
+                            .load(waypoints, CurvedPath.DEFAULT_ALPHA, BAKE_SPACING, 0f);
+                    cold = Math.min(cold, (System.nanoTime() - start) / 1e6);
+
+                    start = System.nanoTime();
+                    CurvedPath loaded = new CurvedPathCache(directory)
+                            .load(waypoints, CurvedPath.DEFAULT_ALPHA, BAKE_SPACING, 0f);
+                    warm = Math.min(warm, (System.nanoTime() - start) / 1e6);
+
+                    baked = loaded.getBakedPointCount();
+                    BenchmarkSupport.consume(built.getPathLength() + loaded.getPathLength());
+                }
+                System.out.printf("%10d %12d %12.2f %12.2f%n", count, baked, cold, warm);
+            }
+        } finally {
+            deleteRecursively(root);
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,121 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Compares construction time and retained heap per segment of the original
+ * fixed-sample arc-length tables against the adaptive quadrature in {@link CurvedPath}.
+ */
+public class PathConstructionBenchmark {
+    private static final int[] WAYPOINT_COUNTS = {100, 1_000, 10_000};
+
+    public static void run() {
+        BenchmarkSupport.printHeader("CurvedPath construction: 100-sample tables vs adaptive Gauss-Legendre");
+        System.out.printf("%10s %-10s %14s %14s %14s%n", "waypoints", "approach", "us/segment", "bytes/segment",
+                "path length");
+
+        for (int count : WAYPOINT_COUNTS) {
+            List<Position> waypoints = BenchmarkSupport.generateWaypoints(count, 42L);
+            int segments = count - 1;
+
+            double sampledNanos = BenchmarkSupport.nanosPerOp(segments,
+                    () -> BenchmarkSupport.consume(new SampledArcLengthTable(waypoints).length));
+            long sampledBytes = retainedBytes(() -> new SampledArcLengthTable(waypoints));
+            float sampledLength = new SampledArcLengthTable(waypoints).length;
+
+            double adaptiveNanos = BenchmarkSupport.nanosPerOp(segments,
+                    () -> BenchmarkSupport.consume(new CurvedPath(waypoints).getPathLength()));
+            long adaptiveBytes = retainedBytes(() -> new CurvedPath(waypoints));
+            float adaptiveLength = new CurvedPath(waypoints).getPathLength();
+
+            System.out.printf("%10d %-10s %14.2f %14d %14.3f%n", count, "sampled", sampledNanos / 1000.0,
+                    sampledBytes / segments, sampledLength);
+            System.out.printf("%10d %-10s %14.2f %14d %14.3f%n", count, "adaptive", adaptiveNanos / 1000.0,
+                    adaptiveBytes / segments, adaptiveLength);
+        }
+    }
+
+    private interface Builder {
+        Object build();
+    }
+
+    private static long retainedBytes(Builder builder) {
+        long before = usedHeapAfterGc();
+        Object retained = builder.build();
+        long after = usedHeapAfterGc();
+        BenchmarkSupport.consume(retained.hashCode());
+        return Math.max(0L, after - before);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Replica of the original CurvedPath tables: 100 chord samples per segment kept
+     * as boxed objects in nested lists.
+     */
+    private static class SampledArcLengthTable {
+        private static final int SAMPLES_PER_SEGMENT = 100;
+        private final List<Position> positions;
+        private final List<Float> segmentLengths = new ArrayList<>();
+        private final List<List<ArcLengthSample>> arcLengthTables = new ArrayList<>();
+        private float length;
+
+        private static class ArcLengthSample {
+            float t;
+            float distance;
+
+            ArcLengthSample(float t, float distance) {
+                this.t = t;
+                this.distance = distance;
+            }
+        }
+
+        SampledArcLengthTable(List<Position> positions) {
+            this.positions = new ArrayList<>(positions);
+            for (int i = 0; i < positions.size() - 1; i++) {
+                List<ArcLengthSample> table = new ArrayList<>();
+                float segmentLength = 0f;
+                Position prev = pointOnCurve(i, 0f);
+                table.add(new ArcLengthSample(0f, 0f));
+                for (int j = 1; j <= SAMPLES_PER_SEGMENT; j++) {
+                    float t = (float) j / SAMPLES_PER_SEGMENT;
+                    Position current = pointOnCurve(i, t);
+                    segmentLength += Position.distance(prev, current);
+                    table.add(new ArcLengthSample(t, segmentLength));
+                    prev = current;
+                }
+                segmentLengths.add(segmentLength);
+                arcLengthTables.add(table);
+                length += segmentLength;
+            }
+        }
+
+        private Position pointOnCurve(int segmentIndex, float t) {
+            float alpha = CurvedPath.DEFAULT_ALPHA;
+            Position p0 = positions.get(Math.max(0, segmentIndex - 1));
+            Position p1 = positions.get(segmentIndex);
+            Position p2 = positions.get(segmentIndex + 1);
+            Position p3 = positions.get(Math.min(positions.size() - 1, segmentIndex + 2));
+
+            float t2 = t * t;
+            float t3 = t2 * t;
+            float b0 = -alpha * t3 + 2 * alpha * t2 - alpha * t;
+            float b1 = (2 - alpha) * t3 + (alpha - 3) * t2 + 1;
+            float b2 = (alpha - 2) * t3 + (3 - 2 * alpha) * t2 + alpha * t;
+            float b3 = alpha * t3 - alpha * t2;
+
+            return new Position(b0 * p0.getX() + b1 * p1.getX() + b2 * p2.getX() + b3 * p3.getX(),
+                    b0 * p0.getY() + b1 * p1.getY() + b2 * p2.getY() + b3 * p3.getY());
+        }
+    }
+}
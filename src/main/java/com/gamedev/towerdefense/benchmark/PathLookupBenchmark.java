@@ -0,0 +1,45 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Measures {@link CurvedPath#getPositionAt(float)} cost as the waypoint count grows,
+ * for both the exact arc-length lookup and the baked polyline.
+ */
+public class PathLookupBenchmark {
+    private static final int[] WAYPOINT_COUNTS = {7, 100, 1_000, 10_000};
+    private static final int LOOKUPS = 200_000;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("CurvedPath.getPositionAt lookup cost");
+        System.out.printf("%10s %14s %14s%n", "waypoints", "exact ns/op", "baked ns/op");
+
+        float[] queries = new float[LOOKUPS];
+        Random random = new Random(7L);
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = random.nextFloat();
+        }
+
+        for (int count : WAYPOINT_COUNTS) {
+            List<Position> waypoints = BenchmarkSupport.generateWaypoints(count, 42L);
+            double exact = measure(new CurvedPath(waypoints), queries);
+            double baked = measure(new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 1f), queries);
+            System.out.printf("%10d %14.1f %14.1f%n", count, exact, baked);
+        }
+    }
+
+    private static double measure(Path path, float[] queries) {
+        return BenchmarkSupport.nanosPerOp(queries.length, () -> {
+            float sum = 0f;
+            for (float t : queries) {
+                sum += path.getPositionAt(t).getX();
+            }
+            BenchmarkSupport.consume(sum);
+        });
+    }
+}
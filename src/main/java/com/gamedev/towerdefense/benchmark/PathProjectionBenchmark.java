@@ -0,0 +1,80 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.PathProjection;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Compares {@link CurvedPath#project(float, float, PathProjection)} against a
+ * straight scan over the same baked polyline as the path grows.
+ */
+public class PathProjectionBenchmark {
+    private static final int[] WAYPOINT_COUNTS = {7, 100, 1_000};
+    private static final int QUERIES = 20_000;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Path.project point-to-path query cost");
+        System.out.printf("%10s %10s %14s %14s%n", "waypoints", "segments", "scan ns/op", "tree ns/op");
+
+        float[] queryX = new float[QUERIES];
+        float[] queryY = new float[QUERIES];
+        Random random = new Random(7L);
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = random.nextFloat() * 1280f;
+            queryY[i] = random.nextFloat() * 720f;
+        }
+
+        for (int count : WAYPOINT_COUNTS) {
+            List<Position> waypoints = BenchmarkSupport.generateWaypoints(count, 42L);
+            CurvedPath path = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 1f);
+            int segments = path.getBakedPointCount() - 1;
+            float[] pointX = new float[segments + 1];
+            float[] pointY = new float[segments + 1];
+            for (int i = 0; i <= segments; i++) {
+                Position p = path.getPositionAt((float) i / segments);
+                pointX[i] = p.getX();
+                pointY[i] = p.getY();
+            }
+
+            int scanQueries = Math.max(100, QUERIES / Math.max(1, segments / 100));
+            double scan = BenchmarkSupport.nanosPerOp(scanQueries, () -> {
+                float sum = 0f;
+                for (int q = 0; q < scanQueries; q++) {
+                    sum += scanDistance(pointX, pointY, queryX[q], queryY[q]);
+                }
+                BenchmarkSupport.consume(sum);
+            });
+
+            PathProjection projection = new PathProjection();
+            path.project(0f, 0f, projection);
+            double tree = BenchmarkSupport.nanosPerOp(QUERIES, () -> {
+                float sum = 0f;
+                for (int q = 0; q < QUERIES; q++) {
+                    path.project(queryX[q], queryY[q], projection);
+                    sum += projection.getDistance();
+                }
+                BenchmarkSupport.consume(sum);
+            });
+            System.out.printf("%10d %10d %14.1f %14.1f%n", count, segments, scan, tree);
+        }
+    }
+
+    private static float scanDistance(float[] pointX, float[] pointY, float x, float y) {
+        float best = Float.MAX_VALUE;
+        for (int i = 0; i < pointX.length - 1; i++) {
+            float abx = pointX[i + 1] - pointX[i];
+            float aby = pointY[i + 1] - pointY[i];
+            float lengthSquared = abx * abx + aby * aby;
+            float param = lengthSquared > 0f
+                    ? Math.max(0f, Math.min(1f, ((x - pointX[i]) * abx + (y - pointY[i]) * aby) / lengthSquared))
+                    : 0f;
+            float dx = x - (pointX[i] + param * abx);
+            float dy = y - (pointY[i] + param * aby);
+            best = Math.min(best, dx * dx + dy * dy);
+        }
+        return (float) Math.sqrt(best);
+    }
+}
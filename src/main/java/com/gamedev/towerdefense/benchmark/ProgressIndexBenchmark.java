@@ -0,0 +1,91 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.FirstEnemyStrategy;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathCoverage;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * "First" targeting per tick: every tower scanning every enemy for the highest
+ * progress in range, versus {@link FirstEnemyStrategy} walking the store's
+ * progress index from the far end of each covered stretch. Both timings
+ * include the tick's movement, and the index timing its repair afterwards.
+ */
+public class ProgressIndexBenchmark {
+    private static final int[][] SCENARIOS = {{20, 2_000}, {200, 20_000}};
+    private static final int TOWER_RANGE = 100;
+    private static final float TICK = 1f / 60f;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("First targeting: full scan vs progress index");
+        System.out.printf("%8s %10s %12s %12s %12s %10s%n", "towers", "enemies", "move us", "+scan us",
+                "+index us", "speedup");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        for (int[] scenario : SCENARIOS) {
+            int towerCount = scenario[0];
+            int enemyCount = scenario[1];
+            Random random = new Random(13L);
+            EnemyStore store = new EnemyStore(path, enemyCount);
+            for (int i = 0; i < enemyCount; i++) {
+                // Slow enough that no enemy reaches the end during the run.
+                store.add(100, 0.01f + random.nextFloat() * 0.01f, random.nextFloat() * 0.9f, 1);
+            }
+            store.update(0f);
+            List<Position> towers = new ArrayList<>(towerCount);
+            List<PathCoverage> coverages = new ArrayList<>(towerCount);
+            for (int i = 0; i < towerCount; i++) {
+                Position anchor = path.getPositionAt(random.nextFloat());
+                Position tower = new Position(anchor.getX(), anchor.getY() + 40f);
+                towers.add(tower);
+                coverages.add(new PathCoverage(path, tower, TOWER_RANGE));
+            }
+            FirstEnemyStrategy strategy = new FirstEnemyStrategy();
+
+            double scan = BenchmarkSupport.nanosPerOp(1, () -> {
+                store.update(TICK);
+                int found = 0;
+                for (Position tower : towers) {
+                    found += scanFirst(tower, store) != EnemyStore.NONE ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            double index = BenchmarkSupport.nanosPerOp(1, () -> {
+                store.update(TICK);
+                int found = 0;
+                for (int i = 0; i < towers.size(); i++) {
+                    found += strategy.selectTarget(towers.get(i), TOWER_RANGE, coverages.get(i), store)
+                            != EnemyStore.NONE ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            double update = BenchmarkSupport.nanosPerOp(1, () -> store.update(TICK));
+            System.out.printf("%8d %10d %12.1f %12.1f %12.1f %9.1fx%n", towerCount, enemyCount, update / 1_000.0,
+                    scan / 1_000.0, index / 1_000.0, scan / index);
+        }
+    }
+
+    private static int scanFirst(Position tower, EnemyStore store) {
+        float rangeSquared = (float) TOWER_RANGE * TOWER_RANGE;
+        int best = EnemyStore.NONE;
+        float highestProgress = -1f;
+        for (int i = 0; i < store.size(); i++) {
+            if (store.getHealth(i) <= 0) {
+                continue;
+            }
+            float dx = store.getX(i) - tower.getX();
+            float dy = store.getY(i) - tower.getY();
+            if (dx * dx + dy * dy <= rangeSquared && store.getProgress(i) > highestProgress) {
+                best = i;
+                highestProgress = store.getProgress(i);
+            }
+        }
+        return best != EnemyStore.NONE ? store.handleAt(best) : EnemyStore.NONE;
+    }
+}
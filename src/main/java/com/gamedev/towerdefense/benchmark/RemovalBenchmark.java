@@ -0,0 +1,110 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.LinearPath;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Cost of removing half of the live entities in a single tick, as a splash
+ * kill does: {@link Iterator#remove()} on an {@link ArrayList} (the old
+ * per-entity removal), a single compaction pass, and swap removal from an
+ * {@link EnemyStore}. Every round first refills the container, so the refill
+ * cost is reported separately and subtracted.
+ */
+public class RemovalBenchmark {
+    private static final int ENTITIES = 5_000;
+    private static final float DYING_FRACTION = 0.5f;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Removal: " + ENTITIES + " entities, "
+                + (int) (DYING_FRACTION * 100) + "% dying in one tick");
+        System.out.printf("%22s %12s %12s%n", "strategy", "tick us", "vs iterator");
+
+        Random random = new Random(11L);
+        Entity[] template = new Entity[ENTITIES];
+        boolean[] dying = new boolean[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            dying[i] = random.nextFloat() < DYING_FRACTION;
+            template[i] = new Entity(dying[i]);
+        }
+        List<Entity> templateList = Arrays.asList(template);
+        List<Entity> list = new ArrayList<>(ENTITIES);
+
+        double listRefill = BenchmarkSupport.nanosPerOp(1, () -> {
+            list.clear();
+            list.addAll(templateList);
+            BenchmarkSupport.consume(list.size());
+        });
+        double iterator = BenchmarkSupport.nanosPerOp(1, () -> {
+            list.clear();
+            list.addAll(templateList);
+            for (Iterator<Entity> it = list.iterator(); it.hasNext();) {
+                if (it.next().dead) {
+                    it.remove();
+                }
+            }
+            BenchmarkSupport.consume(list.size());
+        }) - listRefill;
+        double compact = BenchmarkSupport.nanosPerOp(1, () -> {
+            list.clear();
+            list.addAll(templateList);
+            int kept = 0;
+            for (int i = 0; i < list.size(); i++) {
+                Entity entity = list.get(i);
+                if (!entity.dead) {
+                    list.set(kept++, entity);
+                }
+            }
+            for (int i = list.size() - 1; i >= kept; i--) {
+                list.remove(i);
+            }
+            BenchmarkSupport.consume(list.size());
+        }) - listRefill;
+
+        EnemyStore store = new EnemyStore(new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0))),
+                ENTITIES);
+        double storeRefill = BenchmarkSupport.nanosPerOp(1, () -> {
+            store.clear();
+            fill(store, dying);
+            BenchmarkSupport.consume(store.size());
+        });
+        double swap = BenchmarkSupport.nanosPerOp(1, () -> {
+            store.clear();
+            fill(store, dying);
+            for (int i = store.size() - 1; i >= 0; i--) {
+                if (store.getHealth(i) <= 0) {
+                    store.remove(store.handleAt(i));
+                }
+            }
+            BenchmarkSupport.consume(store.size());
+        }) - storeRefill;
+
+        print("ArrayList iterator", iterator, iterator);
+        print("ArrayList compact", compact, iterator);
+        print("EnemyStore swap", swap, iterator);
+    }
+
+    private static void fill(EnemyStore store, boolean[] dying) {
+        for (boolean dead : dying) {
+            store.add(dead ? 0 : 10, 1f, 0f, 1);
+        }
+    }
+
+    private static void print(String strategy, double nanos, double baselineNanos) {
+        System.out.printf("%22s %12.1f %11.1fx%n", strategy, nanos / 1_000.0, baselineNanos / Math.max(1.0, nanos));
+    }
+
+    private static class Entity {
+        private final boolean dead;
+
+        Entity(boolean dead) {
+            this.dead = dead;
+        }
+    }
+}
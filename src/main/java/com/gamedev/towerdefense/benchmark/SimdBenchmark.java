@@ -0,0 +1,121 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.Kinematics;
+import com.gamedev.towerdefense.model.KinematicsBackend;
+import com.gamedev.towerdefense.model.KinematicsBackends;
+import com.gamedev.towerdefense.model.MoneyCoin;
+import com.gamedev.towerdefense.model.Path;
+
+/**
+ * Scalar versus Vector API {@link KinematicsBackend} across entity counts: the
+ * bare kernels, then the full {@link EnemyStore#update} (which still samples
+ * the path per enemy) and {@link Kinematics#step} (coins flying to fixed points).
+ * Skipped when the JVM was not started with {@code --add-modules jdk.incubator.vector}.
+ */
+public class SimdBenchmark {
+    private static final int[] COUNTS = {64, 1_000, 10_000, 100_000, 1_000_000};
+    private static final float TICK = 1f / 60f;
+
+    public static void run() {
+        KinematicsBackend scalar = KinematicsBackends.scalar();
+        KinematicsBackend vector = KinematicsBackends.vector();
+        if (vector == null) {
+            BenchmarkSupport.printHeader("SIMD kinematics: skipped, jdk.incubator.vector not present");
+            return;
+        }
+        BenchmarkSupport.printHeader("SIMD kinematics: " + scalar.getName() + " vs " + vector.getName());
+        System.out.printf("%10s %16s %12s %12s %10s%n", "entities", "phase", "scalar us", "vector us", "speedup");
+
+        warmUp(scalar);
+        warmUp(vector);
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        for (int count : COUNTS) {
+            Random random = new Random(9L);
+            float[] progress = new float[count];
+            float[] speed = new float[count];
+            float[] animationTime = new float[count];
+            boolean[] moved = new boolean[count];
+            float[] x = new float[count];
+            float[] y = new float[count];
+            float[] targetX = new float[count];
+            float[] targetY = new float[count];
+            float[] hitThresholdSquared = new float[count];
+            boolean[] arrived = new boolean[count];
+            boolean[] arriving = new boolean[count];
+            EnemyStore scalarStore = new EnemyStore(path, count);
+            EnemyStore vectorStore = new EnemyStore(path, count);
+            scalarStore.setBackend(scalar);
+            vectorStore.setBackend(vector);
+            Kinematics scalarMovers = new Kinematics(count);
+            Kinematics vectorMovers = new Kinematics(count);
+            scalarMovers.setBackend(scalar);
+            vectorMovers.setBackend(vector);
+            for (int i = 0; i < count; i++) {
+                // Slow enough, and far enough away, that nothing finishes during the run.
+                speed[i] = 0.01f + random.nextFloat() * 0.01f;
+                progress[i] = random.nextFloat() * 0.9f;
+                x[i] = random.nextFloat() * 1280f;
+                y[i] = -1_000_000f;
+                targetX[i] = 1_000_000f;
+                targetY[i] = 1_000_000f;
+                hitThresholdSquared[i] = 100f;
+                scalarStore.add(100, speed[i], progress[i], 1);
+                vectorStore.add(100, speed[i], progress[i], 1);
+                scalarMovers.add(MoneyCoin.KIND, x[i], y[i], targetX[i], targetY[i], 1f, 10f, 1);
+                vectorMovers.add(MoneyCoin.KIND, x[i], y[i], targetX[i], targetY[i], 1f, 10f, 1);
+            }
+            int n = count;
+            float pathLength = path.getPathLength();
+
+            print(count, "progress kernel",
+                    BenchmarkSupport.nanosPerOp(1, () -> scalar.advanceProgress(progress, speed, animationTime, moved,
+                            n, TICK, pathLength)),
+                    BenchmarkSupport.nanosPerOp(1, () -> vector.advanceProgress(progress, speed, animationTime, moved,
+                            n, TICK, pathLength)));
+            print(count, "move kernel",
+                    BenchmarkSupport.nanosPerOp(1, () -> scalar.stepTowards(x, y, targetX, targetY, speed,
+                            hitThresholdSquared, arrived, arriving, n, TICK)),
+                    BenchmarkSupport.nanosPerOp(1, () -> vector.stepTowards(x, y, targetX, targetY, speed,
+                            hitThresholdSquared, arrived, arriving, n, TICK)));
+            print(count, "enemy update",
+                    BenchmarkSupport.nanosPerOp(1, () -> scalarStore.update(TICK)),
+                    BenchmarkSupport.nanosPerOp(1, () -> vectorStore.update(TICK)));
+            print(count, "mover step",
+                    BenchmarkSupport.nanosPerOp(1, () -> BenchmarkSupport.consume(scalarMovers.step(TICK))),
+                    BenchmarkSupport.nanosPerOp(1, () -> BenchmarkSupport.consume(vectorMovers.step(TICK))));
+        }
+    }
+
+    // Compiles both kernels on representative data before the first, smallest, row is timed.
+    private static void warmUp(KinematicsBackend backend) {
+        int n = 1_000;
+        float[] progress = new float[n];
+        float[] speed = new float[n];
+        float[] time = new float[n];
+        float[] x = new float[n];
+        float[] y = new float[n];
+        float[] far = new float[n];
+        float[] hitThresholdSquared = new float[n];
+        boolean[] flags = new boolean[n];
+        boolean[] arriving = new boolean[n];
+        Arrays.fill(speed, 0.01f);
+        Arrays.fill(far, 1_000_000f);
+        Arrays.fill(hitThresholdSquared, 100f);
+        for (int i = 0; i < 20_000; i++) {
+            backend.advanceProgress(progress, speed, time, flags, n, TICK, 1_000f);
+            Arrays.fill(flags, false);
+            backend.stepTowards(x, y, far, far, speed, hitThresholdSquared, flags, arriving, n, TICK);
+        }
+    }
+
+    private static void print(int count, String phase, double scalarNanos, double vectorNanos) {
+        System.out.printf("%10d %16s %12.2f %12.2f %9.1fx%n", count, phase, scalarNanos / 1_000.0,
+                vectorNanos / 1_000.0, scalarNanos / vectorNanos);
+    }
+}
@@ -0,0 +1,92 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.NearestEnemyStrategy;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.Position;
+
+/**
+ * Per-tick cost of a wave of {@value #MEMBERS} pests added as individual
+ * enemies, as {@value #SWARMS} swarms sharing their slots, and, for scale, as
+ * many ordinary enemies as there are swarms.
+ */
+public class SwarmBenchmark {
+    private static final int MEMBERS = 5_000;
+    private static final int SWARMS = 40;
+    private static final int TOWERS = 20;
+    private static final int TOWER_RANGE = 100;
+    private static final float TICK = 1f / 60f;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Swarms: " + MEMBERS + " pests as enemies vs " + SWARMS + " swarms ("
+                + TOWERS + " towers)");
+        System.out.printf("%10s %14s %14s %14s%n", "phase", "individual us", "swarms us", SWARMS + " enemies us");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        Random random = new Random(7L);
+        EnemyStore individual = new EnemyStore(path, MEMBERS);
+        EnemyStore swarms = new EnemyStore(path, SWARMS);
+        EnemyStore plain = new EnemyStore(path, SWARMS);
+        for (int s = 0; s < SWARMS; s++) {
+            // Slow enough that nothing reaches the end during the run.
+            float speed = 0.01f + random.nextFloat() * 0.01f;
+            float progress = random.nextFloat() * 0.9f;
+            swarms.addSwarm(5, speed, progress, 1, MEMBERS / SWARMS);
+            plain.add(100, speed, progress, 10);
+            for (int m = 0; m < MEMBERS / SWARMS; m++) {
+                individual.add(5, speed, progress, 1);
+            }
+        }
+        List<Position> towers = new ArrayList<>(TOWERS);
+        for (int i = 0; i < TOWERS; i++) {
+            Position anchor = path.getPositionAt(random.nextFloat());
+            towers.add(new Position(anchor.getX(), anchor.getY() + 40f));
+        }
+        NearestEnemyStrategy strategy = new NearestEnemyStrategy();
+
+        print("update",
+                BenchmarkSupport.nanosPerOp(1, () -> individual.update(TICK)),
+                BenchmarkSupport.nanosPerOp(1, () -> swarms.update(TICK)),
+                BenchmarkSupport.nanosPerOp(1, () -> plain.update(TICK)));
+        print("target",
+                targeting(strategy, towers, individual),
+                targeting(strategy, towers, swarms),
+                targeting(strategy, towers, plain));
+        // What the renderer reads: one sprite per live member.
+        print("draw",
+                BenchmarkSupport.nanosPerOp(1, () -> BenchmarkSupport.consume(sprites(individual))),
+                BenchmarkSupport.nanosPerOp(1, () -> BenchmarkSupport.consume(sprites(swarms))),
+                BenchmarkSupport.nanosPerOp(1, () -> BenchmarkSupport.consume(sprites(plain))));
+    }
+
+    private static double targeting(NearestEnemyStrategy strategy, List<Position> towers, EnemyStore store) {
+        return BenchmarkSupport.nanosPerOp(1, () -> {
+            int found = 0;
+            for (Position tower : towers) {
+                found += strategy.selectTarget(tower, TOWER_RANGE, null, store) != EnemyStore.NONE ? 1 : 0;
+            }
+            BenchmarkSupport.consume(found);
+        });
+    }
+
+    private static float sprites(EnemyStore store) {
+        float sum = 0f;
+        for (int i = 0; i < store.size(); i++) {
+            int alive = store.getAliveMembers(i);
+            for (int m = 0; m < alive; m++) {
+                sum += store.getX(i) + store.getY(i);
+            }
+        }
+        return sum;
+    }
+
+    private static void print(String phase, double individualNanos, double swarmNanos, double plainNanos) {
+        System.out.printf("%10s %14.1f %14.1f %14.1f%n", phase, individualNanos / 1_000.0, swarmNanos / 1_000.0,
+                plainNanos / 1_000.0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyGrid;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.NearestEnemyStrategy;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathNetwork;
+import com.gamedev.towerdefense.model.Position;
+import com.gamedev.towerdefense.model.Projectile;
+import com.gamedev.towerdefense.model.TargetQuery;
+import com.gamedev.towerdefense.model.Tower;
+
+/**
+ * One second of play (60 ticks) for slow-firing towers that re-select every tick
+ * versus towers holding a sticky target lock. Enemies that reach the end of the
+ * path re-enter at the start, so the lane stays equally full throughout. The
+ * first row is the enemy update and grid rebuild alone, which the tower rows
+ * include; selections counts strategy runs over the second.
+ */
+public class TargetLockBenchmark {
+    private static final int TOWERS = 200;
+    private static final int ENEMIES = 20_000;
+    private static final int TICKS = 60;
+    private static final float TICK = 1f / TICKS;
+    // Ant Bomber stats from game-config.json.
+    private static final int TOWER_RANGE = 60;
+    private static final float TOWER_COOLDOWN = 1f;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Sticky target lock (" + TOWERS + " towers, " + ENEMIES + " enemies, "
+                + TICKS + " ticks)");
+        System.out.printf("%14s %12s %12s %14s%n", "towers", "total ms", "towers ms", "selections");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        PathNetwork network = new PathNetwork();
+        EnemyStore store = network.addLane("main", path).getStore();
+        store.reserve(ENEMIES);
+        Random random = new Random(23L);
+        for (int i = 0; i < ENEMIES; i++) {
+            store.add(100_000, 20f + random.nextFloat() * 40f, random.nextFloat(), 1);
+        }
+        store.update(0f);
+
+        CountingStrategy everyTickStrategy = new CountingStrategy();
+        CountingStrategy stickyStrategy = new CountingStrategy();
+        List<Tower> everyTick = new ArrayList<>(TOWERS);
+        List<Tower> sticky = new ArrayList<>(TOWERS);
+        for (int i = 0; i < TOWERS; i++) {
+            Position anchor = path.getPositionAt(random.nextFloat());
+            Position position = new Position(anchor.getX(), anchor.getY() + 30f);
+            Tower plain = new Tower(65, TOWER_RANGE, 200, TOWER_COOLDOWN, 300f, position, 2, everyTickStrategy);
+            Tower locked = new Tower(65, TOWER_RANGE, 200, TOWER_COOLDOWN, 300f, position, 2, stickyStrategy);
+            locked.setTargetLock(true, 1f, 10f);
+            plain.setPaths(network.getPaths());
+            locked.setPaths(network.getPaths());
+            everyTick.add(plain);
+            sticky.add(locked);
+        }
+        List<Projectile> projectiles = new ArrayList<>();
+
+        double movement = BenchmarkSupport.nanosPerOp(1, () -> playSecond(store, network, null, projectiles));
+        double plainNanos = BenchmarkSupport.nanosPerOp(1,
+                () -> playSecond(store, network, everyTick, projectiles));
+        double stickyNanos = BenchmarkSupport.nanosPerOp(1,
+                () -> playSecond(store, network, sticky, projectiles));
+
+        everyTickStrategy.selections = 0;
+        stickyStrategy.selections = 0;
+        playSecond(store, network, everyTick, projectiles);
+        playSecond(store, network, sticky, projectiles);
+
+        System.out.printf("%14s %12.2f %12s %14s%n", "none", movement / 1_000_000.0, "", "");
+        printRow("every tick", plainNanos, movement, everyTickStrategy.selections);
+        printRow("sticky", stickyNanos, movement, stickyStrategy.selections);
+    }
+
+    // The tower share is the difference of two best-of timings, so it is floored at zero.
+    private static void printRow(String label, double nanos, double movement, long selections) {
+        System.out.printf("%14s %12.2f %12.2f %14d%n", label, nanos / 1_000_000.0,
+                Math.max(0.0, nanos - movement) / 1_000_000.0, selections);
+    }
+
+    private static void playSecond(EnemyStore store, PathNetwork network, List<Tower> towers,
+            List<Projectile> projectiles) {
+        for (int tick = 0; tick < TICKS; tick++) {
+            store.update(TICK);
+            // Walk backwards: re-adding at the start swaps the last enemy into the removed slot.
+            for (int i = store.size() - 1; i >= 0; i--) {
+                if (store.getProgress(i) >= 1f) {
+                    float speed = store.getSpeed(i);
+                    store.remove(store.handleAt(i));
+                    store.add(100_000, speed, 0f, 1);
+                }
+            }
+            store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+            if (towers != null) {
+                for (int i = 0; i < towers.size(); i++) {
+                    towers.get(i).update(TICK, network, projectiles);
+                }
+            }
+            BenchmarkSupport.consume(projectiles.size());
+            projectiles.clear();
+        }
+    }
+
+    private static class CountingStrategy extends NearestEnemyStrategy {
+        long selections;
+
+        @Override
+        public int select(TargetQuery query) {
+            selections++;
+            return super.select(query);
+        }
+    }
+}
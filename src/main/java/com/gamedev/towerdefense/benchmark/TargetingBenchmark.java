@@ -0,0 +1,112 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.Enemy;
+import com.gamedev.towerdefense.model.EnemyGrid;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.NearestEnemyStrategy;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathCoverage;
+import com.gamedev.towerdefense.model.Position;
+import com.gamedev.towerdefense.model.StrongestEnemyStrategy;
+import com.gamedev.towerdefense.model.TargetQuery;
+import com.gamedev.towerdefense.model.TargetSelector;
+import com.gamedev.towerdefense.model.TargetSelectors;
+import com.gamedev.towerdefense.model.TargetingStrategy;
+
+/**
+ * Per-tick targeting through the v1 {@link TargetingStrategy} list and store
+ * overloads versus v2 {@link TargetSelector}s over a reused {@link TargetQuery},
+ * with the store's grid current. The store overload builds a fresh query per
+ * call; the adapter column runs a list-only strategy over the store's views.
+ */
+public class TargetingBenchmark {
+    private static final int TOWERS = 200;
+    private static final int ENEMIES = 20_000;
+    private static final int TOWER_RANGE = 100;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Targeting API: v1 list / v1 store vs v2 query (" + TOWERS + " towers, "
+                + ENEMIES + " enemies)");
+        System.out.printf("%12s %12s %12s %12s %14s%n", "strategy", "v1 list us", "v1 store us", "v2 query us",
+                "v2 adapter us");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        Random random = new Random(17L);
+        EnemyStore store = new EnemyStore(path, ENEMIES);
+        for (int i = 0; i < ENEMIES; i++) {
+            store.add(1 + random.nextInt(200), 10f, random.nextFloat(), 1);
+        }
+        store.update(0f);
+        store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+        List<Enemy> views = new ArrayList<>(store.asList());
+        List<Position> towers = new ArrayList<>(TOWERS);
+        List<PathCoverage> coverages = new ArrayList<>(TOWERS);
+        for (int i = 0; i < TOWERS; i++) {
+            Position anchor = path.getPositionAt(random.nextFloat());
+            Position tower = new Position(anchor.getX(), anchor.getY() + 40f);
+            towers.add(tower);
+            coverages.add(new PathCoverage(path, tower, TOWER_RANGE));
+        }
+        TargetQuery query = new TargetQuery();
+
+        TargetingStrategy[] strategies = {new NearestEnemyStrategy(), new StrongestEnemyStrategy()};
+        for (TargetingStrategy strategy : strategies) {
+            TargetSelector native2 = TargetSelectors.of(strategy);
+            // Hide the native selector behind a plain strategy to time the adapter path.
+            TargetingStrategy wrapped = new TargetingStrategy() {
+                @Override
+                public Enemy selectTarget(Position towerPosition, int range, List<Enemy> enemies) {
+                    return strategy.selectTarget(towerPosition, range, enemies);
+                }
+
+                @Override
+                public Enemy selectTarget(Position towerPosition, int range, PathCoverage coverage,
+                        List<Enemy> enemies) {
+                    return strategy.selectTarget(towerPosition, range, coverage, enemies);
+                }
+            };
+            TargetSelector adapter = TargetSelectors.of(wrapped);
+
+            double list = BenchmarkSupport.nanosPerOp(1, () -> {
+                int found = 0;
+                for (int i = 0; i < TOWERS; i++) {
+                    found += strategy.selectTarget(towers.get(i), TOWER_RANGE, coverages.get(i), views) != null
+                            ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            double storeScan = BenchmarkSupport.nanosPerOp(1, () -> {
+                int found = 0;
+                for (int i = 0; i < TOWERS; i++) {
+                    found += strategy.selectTarget(towers.get(i), TOWER_RANGE, coverages.get(i), store)
+                            != EnemyStore.NONE ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            double v2 = BenchmarkSupport.nanosPerOp(1, () -> {
+                int found = 0;
+                for (int i = 0; i < TOWERS; i++) {
+                    query.reset(towers.get(i), TOWER_RANGE, coverages.get(i), store);
+                    found += native2.select(query) != EnemyStore.NONE ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            double adapted = BenchmarkSupport.nanosPerOp(1, () -> {
+                int found = 0;
+                for (int i = 0; i < TOWERS; i++) {
+                    query.reset(towers.get(i), TOWER_RANGE, coverages.get(i), store);
+                    found += adapter.select(query) != EnemyStore.NONE ? 1 : 0;
+                }
+                BenchmarkSupport.consume(found);
+            });
+            System.out.printf("%12s %12.1f %12.1f %12.1f %14.1f%n", strategy.getClass().getSimpleName()
+                    .replace("EnemyStrategy", ""), list / 1_000.0, storeScan / 1_000.0, v2 / 1_000.0,
+                    adapted / 1_000.0);
+        }
+    }
+}
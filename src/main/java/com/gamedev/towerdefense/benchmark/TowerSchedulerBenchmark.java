@@ -0,0 +1,113 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.GameWorld;
+import com.gamedev.towerdefense.config.GameConfig;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.Position;
+import com.gamedev.towerdefense.model.Tower;
+import com.gamedev.towerdefense.util.TickProfiler;
+
+/**
+ * The first minute of the shipped waves with 500 towers along the path, timed
+ * by the world's {@link TickProfiler}. Scheduled towers are the world's own;
+ * polled towers are kept outside the world and updated every tick after it,
+ * timed the same way, as towers were before the scheduler.
+ */
+public class TowerSchedulerBenchmark {
+    private static final int TOWERS = 500;
+    private static final int TICKS = 60 * 60;
+    private static final float TICK = 1f / 60f;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("Tower scheduling (" + TOWERS + " towers, shipped waves, " + TICKS + " ticks)");
+        System.out.printf("%12s %14s %14s %14s %12s%n", "towers", "towers us", "enemies us", "tick us",
+                "runs/tick");
+
+        GameConfig config = loadShippedConfig();
+        // Warm both paths up before measuring either.
+        play(config, true, false);
+        play(config, false, false);
+        play(config, true, true);
+        play(config, false, true);
+    }
+
+    // GameConfig.load needs a running Gdx application; read the resource directly instead.
+    private static GameConfig loadShippedConfig() {
+        try (InputStream in = TowerSchedulerBenchmark.class.getResourceAsStream("/game-config.json")) {
+            if (in == null) {
+                throw new RuntimeException("Config file not found on the classpath: game-config.json");
+            }
+            return GameConfig.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Failed to read game config: " + e.getMessage());
+            throw new RuntimeException("Failed to read game configuration", e);
+        }
+    }
+
+    private static void play(GameConfig config, boolean scheduled, boolean report) {
+        GameWorld world = new GameWorld(config);
+        TickProfiler profiler = world.enableProfiling();
+        List<Tower> towers = createTowers(config, world);
+        List<Tower> polled = new ArrayList<>();
+        for (Tower tower : towers) {
+            if (scheduled) {
+                world.addTower(tower);
+            } else {
+                polled.add(tower);
+            }
+        }
+
+        long polledNanos = 0L;
+        long runs = 0L;
+        for (int tick = 0; tick < TICKS; tick++) {
+            world.update(TICK);
+            if (scheduled) {
+                runs += world.getTowerScheduler().getLastWakeCount();
+            } else {
+                long start = System.nanoTime();
+                for (int i = 0; i < polled.size(); i++) {
+                    polled.get(i).update(TICK, world.getPathNetwork(), world.getProjectiles(),
+                            world.getProjectilePool());
+                }
+                polledNanos += System.nanoTime() - start;
+                runs += polled.size();
+            }
+        }
+
+        if (!report) {
+            return;
+        }
+        double towerNanos = scheduled ? profiler.getAverageNanos(TickProfiler.TOWERS) : (double) polledNanos / TICKS;
+        double tickNanos = towerNanos;
+        for (int phase = 0; phase < TickProfiler.PHASE_COUNT; phase++) {
+            tickNanos += phase != TickProfiler.TOWERS ? profiler.getAverageNanos(phase) : 0.0;
+        }
+        System.out.printf("%12s %14.2f %14.2f %14.2f %12.2f%n", scheduled ? "scheduled" : "polled",
+                towerNanos / 1_000.0, profiler.getAverageNanos(TickProfiler.ENEMIES) / 1_000.0, tickNanos / 1_000.0,
+                (double) runs / TICKS);
+    }
+
+    private static List<Tower> createTowers(GameConfig config, GameWorld world) {
+        GameConfig.TowerTypeConfig type = config.getTowerTypes().get(0);
+        Path path = world.getPathNetwork().getDefaultLane().getPath();
+        Random random = new Random(5L);
+        List<Tower> towers = new ArrayList<>(TOWERS);
+        for (int i = 0; i < TOWERS; i++) {
+            Position anchor = path.getPositionAt(random.nextFloat());
+            float side = random.nextBoolean() ? 1f : -1f;
+            Position position = new Position(anchor.getX(), anchor.getY() + side * (30f + random.nextFloat() * 40f));
+            Tower tower = new Tower(type.getCost(), type.getRange(), type.getDamage(), type.getAttackCooldown(),
+                    type.getProjectileSpeed(), position, type.getId());
+            tower.setPaths(world.getPathNetwork().getPaths());
+            towers.add(tower);
+        }
+        return towers;
+    }
+}
@@ -0,0 +1,75 @@
+package com.gamedev.towerdefense.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.Kinematics;
+import com.gamedev.towerdefense.model.MoneyCoin;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.PathNetwork;
+import com.gamedev.towerdefense.model.Position;
+import com.gamedev.towerdefense.model.Tower;
+import com.gamedev.towerdefense.model.WorldStateBuffer;
+import com.gamedev.towerdefense.model.WorldStateView;
+
+/**
+ * Cost of the off-heap {@link WorldStateBuffer}: packing the live state,
+ * snapshotting it with one bulk copy, and reading every enemy back through a
+ * {@link WorldStateView}, next to copying the same enemies out as objects.
+ */
+public class WorldStateBenchmark {
+    private static final int[] ENEMY_COUNTS = {10_000, 100_000};
+    private static final int TOWERS = 200;
+
+    public static void run() {
+        BenchmarkSupport.printHeader("World state: capture, bulk snapshot and view reads");
+        System.out.printf("%10s %10s %12s %12s %14s %14s%n", "enemies", "bytes", "capture us", "snapshot us",
+                "view read us", "objects us");
+
+        Path path = new CurvedPath(BenchmarkSupport.generateWaypoints(50, 42L), CurvedPath.DEFAULT_ALPHA, 1f);
+        for (int count : ENEMY_COUNTS) {
+            Random random = new Random(3L);
+            PathNetwork network = new PathNetwork();
+            EnemyStore store = network.addLane("main", path).getStore();
+            store.reserve(count);
+            Kinematics movers = new Kinematics(count);
+            for (int i = 0; i < count; i++) {
+                store.add(100, 10f, random.nextFloat(), 1);
+                movers.add(MoneyCoin.KIND, i, i, 0f, 0f, 100f, 10f, 1);
+            }
+            store.update(0f);
+            List<Tower> towers = new ArrayList<>(TOWERS);
+            for (int i = 0; i < TOWERS; i++) {
+                towers.add(new Tower(30, 100, 10, 0.5f, 300f, new Position(i, i), 1));
+            }
+            WorldStateBuffer state = new WorldStateBuffer(count, TOWERS, count);
+            WorldStateBuffer snapshot = new WorldStateBuffer(count, TOWERS, count);
+            state.capture(0f, 3, 0, network, towers, movers);
+
+            double capture = BenchmarkSupport.nanosPerOp(1,
+                    () -> state.capture(0f, 3, 0, network, towers, movers));
+            double copy = BenchmarkSupport.nanosPerOp(1, () -> state.copyTo(snapshot));
+            WorldStateView view = snapshot.view();
+            double read = BenchmarkSupport.nanosPerOp(1, () -> {
+                float sum = 0f;
+                for (int i = 0; i < view.getEnemyCount(); i++) {
+                    sum += view.getEnemyX(i) + view.getEnemyY(i) + view.getEnemyHealth(i);
+                }
+                BenchmarkSupport.consume(sum);
+            });
+            // The alternative: one snapshot object per enemy, as a save built from Enemy views would.
+            double objects = BenchmarkSupport.nanosPerOp(1, () -> {
+                List<float[]> copies = new ArrayList<>(store.size());
+                for (int i = 0; i < store.size(); i++) {
+                    copies.add(new float[] {store.getProgress(i), store.getHealth(i), store.getX(i), store.getY(i)});
+                }
+                BenchmarkSupport.consume(copies.size());
+            });
+            System.out.printf("%10d %10d %12.1f %12.1f %14.1f %14.1f%n", count, state.getSizeBytes(),
+                    capture / 1_000.0, copy / 1_000.0, read / 1_000.0, objects / 1_000.0);
+        }
+    }
+}
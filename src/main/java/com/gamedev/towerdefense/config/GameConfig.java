@@ -12,7 +12,9 @@ public class GameConfig {
     private int initialBudget;
     private int initialLives;
     private PathConfig path;
+    private List<PathConfig> paths;
     private List<EnemyConfig> initialEnemies;
+    private List<EnemyTypeConfig> enemyTypes;
     private List<WaveConfig> waves;
     private List<TowerTypeConfig> towerTypes;
     private int worldWidth;
@@ -22,6 +24,7 @@ public class GameConfig {
     private TowerPlacementConfig towerPlacement;
     private VisualConfig visual;
     private UpgradeConfig upgrades;
+    private String pathCacheDirectory;
 
     public static GameConfig load(String filename) {
         try {
@@ -35,12 +38,11 @@ public class GameConfig {
                 throw new RuntimeException("Config file is empty: " + filename);
             }
 
-            Gson gson = new Gson();
-            GameConfig config = gson.fromJson(json, GameConfig.class);
-
+            GameConfig config = parse(json);
             if (config == null) {
                 throw new RuntimeException("Failed to parse config file: " + filename);
             }
+            config.validatePathReferences();
 
             return config;
         } catch (RuntimeException e) {
@@ -53,6 +55,11 @@ public class GameConfig {
         }
     }
 
+    public static GameConfig parse(String json) {
+        Gson gson = new Gson();
+        return gson.fromJson(json, GameConfig.class);
+    }
+
     public int getInitialBudget() {
         return initialBudget;
     }
@@ -65,10 +72,28 @@ public class GameConfig {
         return path;
     }
 
+    /**
+     * All configured paths, in declaration order. Configs with a single
+     * {@code path} entry instead of a {@code paths} list yield just that path.
+     */
+    public List<PathConfig> getPaths() {
+        List<PathConfig> result = new ArrayList<>();
+        if (paths != null && !paths.isEmpty()) {
+            result.addAll(paths);
+        } else if (path != null) {
+            result.add(path);
+        }
+        return result;
+    }
+
     public List<EnemyConfig> getInitialEnemies() {
         return initialEnemies;
     }
 
+    public List<EnemyTypeConfig> getEnemyTypes() {
+        return enemyTypes;
+    }
+
     public List<WaveConfig> getWaves() {
         return waves;
     }
@@ -105,22 +130,135 @@ public class GameConfig {
         return upgrades;
     }
 
+    /**
+     * Where baked path tables are cached between launches, or null (the
+     * default) to bake on every start. Worth setting only for large maps.
+     */
+    public String getPathCacheDirectory() {
+        return pathCacheDirectory;
+    }
+
     public List<Position> getPathWaypoints() {
+        List<PathConfig> allPaths = getPaths();
+        if (allPaths.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return getPathWaypoints(allPaths.get(0));
+    }
+
+    /**
+     * Full waypoint route of {@code pathConfig}. A branch starts with its parent's
+     * route up to and including {@code branchWaypoint}, followed by its own waypoints.
+     */
+    public List<Position> getPathWaypoints(PathConfig pathConfig) {
+        return resolveWaypoints(pathConfig, 0);
+    }
+
+    private List<Position> resolveWaypoints(PathConfig pathConfig, int depth) {
+        List<PathConfig> allPaths = getPaths();
+        if (depth > allPaths.size()) {
+            throw new RuntimeException("Path branches form a cycle at: " + pathConfig.getId());
+        }
+
         List<Position> waypoints = new ArrayList<>();
-        if (path != null && path.getWaypoints() != null) {
-            for (WaypointConfig waypoint : path.getWaypoints()) {
+        if (pathConfig.getBranchFrom() != null) {
+            PathConfig parent = findPath(pathConfig.getBranchFrom());
+            if (parent == null) {
+                throw new RuntimeException("Unknown parent path '" + pathConfig.getBranchFrom()
+                        + "' for branch " + pathConfig.getId());
+            }
+            List<Position> parentRoute = resolveWaypoints(parent, depth + 1);
+            int end = Math.min(pathConfig.getBranchWaypoint(), parentRoute.size() - 1);
+            waypoints.addAll(parentRoute.subList(0, end + 1));
+        }
+        if (pathConfig.getWaypoints() != null) {
+            for (WaypointConfig waypoint : pathConfig.getWaypoints()) {
                 waypoints.add(new Position(waypoint.getX(), waypoint.getY()));
             }
         }
         return waypoints;
     }
 
+    /**
+     * Fails if a branch or a wave names a path id that no path defines, which
+     * would otherwise send enemies down the default lane without a word.
+     */
+    public void validatePathReferences() {
+        for (PathConfig pathConfig : getPaths()) {
+            if (pathConfig.getBranchFrom() != null && findPath(pathConfig.getBranchFrom()) == null) {
+                throw new RuntimeException("Unknown parent path '" + pathConfig.getBranchFrom()
+                        + "' for branch " + pathConfig.getId());
+            }
+        }
+        if (waves == null) {
+            return;
+        }
+        for (WaveConfig wave : waves) {
+            requireKnownPath(wave.getPath(), wave);
+            if (wave.getEnemies() != null) {
+                for (WaveEnemyConfig enemy : wave.getEnemies()) {
+                    requireKnownPath(enemy.getPath(), wave);
+                }
+            }
+        }
+    }
+
+    private void requireKnownPath(String id, WaveConfig wave) {
+        if (id != null && findPath(id) == null) {
+            throw new RuntimeException("Unknown path '" + id + "' in wave " + wave.getWaveNumber());
+        }
+    }
+
+    public PathConfig findPath(String id) {
+        if (id == null) {
+            return null;
+        }
+        for (PathConfig candidate : getPaths()) {
+            if (id.equals(candidate.getId())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
     public static class PathConfig {
+        public static final float DEFAULT_BAKE_SPACING = 1f;
+
+        private String id;
+        private String branchFrom;
+        private int branchWaypoint;
         private List<WaypointConfig> waypoints;
+        private float bakeSpacing = DEFAULT_BAKE_SPACING;
+        private float arcLengthTolerance;
+
+        public String getId() {
+            return id;
+        }
+
+        public String getBranchFrom() {
+            return branchFrom;
+        }
+
+        public int getBranchWaypoint() {
+            return branchWaypoint;
+        }
 
         public List<WaypointConfig> getWaypoints() {
             return waypoints;
         }
+
+        /**
+         * World units between baked path points; {@link #DEFAULT_BAKE_SPACING}
+         * when missing or negative. An explicit 0 opts out of baking and keeps
+         * the exact spline lookup.
+         */
+        public float getBakeSpacing() {
+            return bakeSpacing < 0f ? DEFAULT_BAKE_SPACING : bakeSpacing;
+        }
+
+        public float getArcLengthTolerance() {
+            return arcLengthTolerance;
+        }
     }
 
     public static class WaypointConfig {
@@ -159,11 +297,39 @@ public class GameConfig {
         }
     }
 
+    public static class EnemyTypeConfig {
+        private String name;
+        private int health;
+        private float speed;
+        private int reward;
+
+        public String getName() {
+            return name;
+        }
+
+        public int getHealth() {
+            return health;
+        }
+
+        public float getSpeed() {
+            return speed;
+        }
+
+        public int getReward() {
+            return reward;
+        }
+    }
+
     public static class WaveConfig {
         private int waveNumber;
         private float startTime;
+        private String path;
         private List<WaveEnemyConfig> enemies;
 
+        public String getPath() {
+            return path;
+        }
+
         public int getWaveNumber() {
             return waveNumber;
         }
@@ -183,11 +349,29 @@ public class GameConfig {
         private float speed;
         private float spawnDelay;
         private int reward;
+        private String path;
+        private int swarmSize;
 
         public String getType() {
             return type;
         }
 
+        /**
+         * Members of a swarm spawned by this entry, each with the entry's stats,
+         * or 0 for a single enemy.
+         */
+        public int getSwarmSize() {
+            return swarmSize;
+        }
+
+        public boolean isSwarm() {
+            return swarmSize > 1;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
         public int getHealth() {
             return health;
         }
@@ -217,6 +401,10 @@ public class GameConfig {
         private int damage;
         private float attackCooldown;
         private float projectileSpeed;
+        private boolean splash;
+        private boolean stickyTarget;
+        private float retargetInterval;
+        private float rangeHysteresis;
         private ColorConfig color;
 
         public int getId() {
@@ -247,6 +435,35 @@ public class GameConfig {
             return projectileSpeed;
         }
 
+        /**
+         * Whether this type's shots carry on through a swarm's members instead
+         * of stopping at the one they hit.
+         */
+        public boolean isSplash() {
+            return splash;
+        }
+
+        /**
+         * Whether towers of this type keep their target until it dies, leaves
+         * range plus {@link #getRangeHysteresis()}, or {@link #getRetargetInterval()}
+         * runs out, instead of re-selecting every tick.
+         */
+        public boolean isStickyTarget() {
+            return stickyTarget;
+        }
+
+        /**
+         * Seconds between forced re-selections of a sticky target; zero or less
+         * keeps the target until it dies or leaves range.
+         */
+        public float getRetargetInterval() {
+            return retargetInterval;
+        }
+
+        public float getRangeHysteresis() {
+            return rangeHysteresis;
+        }
+
         public ColorConfig getColor() {
             return color;
         }
@@ -0,0 +1,31 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * The precomputed tables of a {@link CurvedPath}: enough to restore it without
+ * repeating the arc-length quadrature or the bake.
+ */
+final class BakedPathTables {
+    final float[] segmentLengths;
+    final float[] cumulativeLengths;
+    final float bakeSpacing;
+    // Null when the path was not baked.
+    final float[] bakedX;
+    final float[] bakedY;
+    final float[] bakedTangentX;
+    final float[] bakedTangentY;
+
+    BakedPathTables(float[] segmentLengths, float[] cumulativeLengths, float bakeSpacing,
+            float[] bakedX, float[] bakedY, float[] bakedTangentX, float[] bakedTangentY) {
+        this.segmentLengths = segmentLengths;
+        this.cumulativeLengths = cumulativeLengths;
+        this.bakeSpacing = bakeSpacing;
+        this.bakedX = bakedX;
+        this.bakedY = bakedY;
+        this.bakedTangentX = bakedTangentX;
+        this.bakedTangentY = bakedTangentY;
+    }
+
+    int getBakedPointCount() {
+        return bakedX != null ? bakedX.length : 0;
+    }
+}
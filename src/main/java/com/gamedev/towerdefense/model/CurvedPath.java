@@ -1,102 +1,219 @@
 package com.gamedev.towerdefense.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class CurvedPath extends Path {
-    private static final float DEFAULT_ALPHA = 0.5f;
-    private static final int SAMPLES_PER_SEGMENT = 100;
+    public static final float DEFAULT_ALPHA = 0.5f;
+    public static final float DEFAULT_ARC_LENGTH_TOLERANCE = 0.001f;
+    // Five-point Gauss-Legendre nodes and weights on [-1, 1].
+    private static final double[] GAUSS_NODES = {
+            0.0, -0.5384693101056831, 0.5384693101056831, -0.9061798459386640, 0.9061798459386640 };
+    private static final double[] GAUSS_WEIGHTS = {
+            0.5688888888888889, 0.4786286704993665, 0.4786286704993665, 0.2369268850561891, 0.2369268850561891 };
+    private static final int MAX_SUBDIVISION_DEPTH = 16;
+    private static final int MAX_NEWTON_ITERATIONS = 12;
     private float alpha;
-    private List<Float> segmentLengths;
-    private List<List<ArcLengthSample>> arcLengthTables;
+    private float tolerance;
+    private float[] waypointX;
+    private float[] waypointY;
+    // cumulativeLengths[i] is the arc length from the start of the path to waypoint i.
+    private float[] cumulativeLengths;
+    private float[] segmentLengths;
     private float cachedLength;
-
-    private static class ArcLengthSample {
-        float t;
-        float distance;
-
-        ArcLengthSample(float t, float distance) {
-            this.t = t;
-            this.distance = distance;
-        }
-    }
+    // Optional baked polyline, resampled at a uniform arc-length spacing.
+    private float bakeSpacing;
+    private float[] bakedX;
+    private float[] bakedY;
+    private float[] bakedTangentX;
+    private float[] bakedTangentY;
 
     public CurvedPath(List<Position> positions) {
-        super(positions);
-        this.alpha = DEFAULT_ALPHA;
-        calculateSegmentLengths();
+        this(positions, DEFAULT_ALPHA);
     }
 
     public CurvedPath(Position[] positions) {
         super(positions);
         this.alpha = DEFAULT_ALPHA;
+        this.tolerance = DEFAULT_ARC_LENGTH_TOLERANCE;
         calculateSegmentLengths();
     }
 
     public CurvedPath(List<Position> positions, float alpha) {
+        this(positions, alpha, 0f);
+    }
+
+    /**
+     * Creates a path that is additionally baked into a polyline with points every
+     * {@code bakeSpacing} world units along the arc. Lookups then cost one index
+     * computation and a lerp. A spacing of zero or less keeps the exact spline lookup.
+     */
+    public CurvedPath(List<Position> positions, float alpha, float bakeSpacing) {
+        this(positions, alpha, bakeSpacing, DEFAULT_ARC_LENGTH_TOLERANCE);
+    }
+
+    /**
+     * As {@link #CurvedPath(List, float, float)}, with the absolute arc-length error
+     * (in world units) that quadrature and Newton inversion refine to.
+     */
+    public CurvedPath(List<Position> positions, float alpha, float bakeSpacing, float tolerance) {
         super(positions);
         this.alpha = alpha;
+        this.tolerance = tolerance > 0f ? tolerance : DEFAULT_ARC_LENGTH_TOLERANCE;
         calculateSegmentLengths();
+        bake(bakeSpacing);
+    }
+
+    /**
+     * Restores a path from tables produced by {@link #exportTables()} for the same
+     * waypoints, alpha and tolerance, skipping quadrature and baking.
+     */
+    CurvedPath(List<Position> positions, float alpha, float tolerance, BakedPathTables tables) {
+        super(positions);
+        this.alpha = alpha;
+        this.tolerance = tolerance > 0f ? tolerance : DEFAULT_ARC_LENGTH_TOLERANCE;
+        copyWaypoints();
+        segmentLengths = tables.segmentLengths;
+        cumulativeLengths = tables.cumulativeLengths;
+        cachedLength = cumulativeLengths[cumulativeLengths.length - 1];
+        if (tables.bakedX != null) {
+            bakeSpacing = tables.bakeSpacing;
+            bakedX = tables.bakedX;
+            bakedY = tables.bakedY;
+            bakedTangentX = tables.bakedTangentX;
+            bakedTangentY = tables.bakedTangentY;
+        }
+    }
+
+    BakedPathTables exportTables() {
+        return new BakedPathTables(segmentLengths, cumulativeLengths, bakeSpacing,
+                bakedX, bakedY, bakedTangentX, bakedTangentY);
+    }
+
+    private void copyWaypoints() {
+        int count = positions.size();
+        waypointX = new float[count];
+        waypointY = new float[count];
+        for (int i = 0; i < count; i++) {
+            waypointX[i] = positions.get(i).getX();
+            waypointY[i] = positions.get(i).getY();
+        }
     }
 
     private void calculateSegmentLengths() {
-        segmentLengths = new ArrayList<>();
-        arcLengthTables = new ArrayList<>();
-        cachedLength = 0f;
+        copyWaypoints();
+
+        int count = positions.size();
+        int segmentCount = Math.max(0, count - 1);
+        cumulativeLengths = new float[segmentCount + 1];
+        segmentLengths = new float[segmentCount];
+
+        double total = 0.0;
+        for (int i = 0; i < segmentCount; i++) {
+            double segmentLength = arcLength(i, 0.0, 1.0);
+            segmentLengths[i] = (float) segmentLength;
+            total += segmentLength;
+            cumulativeLengths[i + 1] = (float) total;
+        }
+        cachedLength = (float) total;
+    }
 
-        if (positions.size() < 2) {
+    private void bake(float spacing) {
+        if (spacing <= 0f || waypointX.length < 2 || cachedLength <= 0f) {
             return;
         }
 
-        for (int i = 0; i < positions.size() - 1; i++) {
-            List<ArcLengthSample> arcLengthTable = new ArrayList<>();
-            float segmentLength = 0f;
-            Position prev = getPointOnCurve(i, 0f);
-            arcLengthTable.add(new ArcLengthSample(0f, 0f));
-
-            for (int j = 1; j <= SAMPLES_PER_SEGMENT; j++) {
-                float t = (float) j / SAMPLES_PER_SEGMENT;
-                Position current = getPointOnCurve(i, t);
-                float distance = Position.distance(prev, current);
-                segmentLength += distance;
-                arcLengthTable.add(new ArcLengthSample(t, segmentLength));
-                prev = current;
+        int intervals = Math.max(1, (int) Math.ceil(cachedLength / spacing));
+        bakeSpacing = cachedLength / intervals;
+        bakedX = new float[intervals + 1];
+        bakedY = new float[intervals + 1];
+        bakedTangentX = new float[intervals + 1];
+        bakedTangentY = new float[intervals + 1];
+
+        for (int k = 0; k <= intervals; k++) {
+            float distance = k == intervals ? cachedLength : k * bakeSpacing;
+            int segmentIndex = findSegmentForDistance(distance);
+            float localT = findTForDistance(segmentIndex, distance - cumulativeLengths[segmentIndex]);
+
+            bakedX[k] = curveX(segmentIndex, localT);
+            bakedY[k] = curveY(segmentIndex, localT);
+
+            float directionX = tangentX(segmentIndex, localT);
+            float directionY = tangentY(segmentIndex, localT);
+            if (directionX == 0f && directionY == 0f) {
+                directionX = waypointX[segmentIndex + 1] - waypointX[segmentIndex];
+                directionY = waypointY[segmentIndex + 1] - waypointY[segmentIndex];
             }
+            float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+            if (length > 0f) {
+                bakedTangentX[k] = directionX / length;
+                bakedTangentY[k] = directionY / length;
+            }
+        }
+    }
 
-            segmentLengths.add(segmentLength);
-            arcLengthTables.add(arcLengthTable);
-            cachedLength += segmentLength;
+    @Override
+    PathSegmentTree buildSegmentTree() {
+        if (bakedX == null) {
+            return super.buildSegmentTree();
+        }
+        float[] cumulative = new float[bakedX.length];
+        for (int k = 1; k < cumulative.length; k++) {
+            cumulative[k] = k * bakeSpacing;
         }
+        cumulative[cumulative.length - 1] = cachedLength;
+        return new PathSegmentTree(bakedX, bakedY, cumulative);
+    }
+
+    public boolean isBaked() {
+        return bakedX != null;
+    }
+
+    public float getBakeSpacing() {
+        return bakeSpacing;
+    }
+
+    public int getBakedPointCount() {
+        return bakedX != null ? bakedX.length : 0;
     }
 
     private Position getPointOnCurve(int segmentIndex, float t) {
-        if (segmentIndex < 0 || segmentIndex >= positions.size() - 1) {
+        if (segmentIndex < 0 || segmentIndex >= waypointX.length - 1) {
             throw new IndexOutOfBoundsException("Invalid segment index: " + segmentIndex);
         }
 
         t = Math.max(0f, Math.min(1f, t));
+        return new Position(curveX(segmentIndex, t), curveY(segmentIndex, t));
+    }
 
-        Position p0, p1, p2, p3;
+    private float curveX(int segmentIndex, float t) {
+        return catmullRomSpline(waypointX, segmentIndex, t);
+    }
 
-        if (segmentIndex == 0) {
-            p0 = positions.get(0);
-        } else {
-            p0 = positions.get(segmentIndex - 1);
-        }
+    private float curveY(int segmentIndex, float t) {
+        return catmullRomSpline(waypointY, segmentIndex, t);
+    }
 
-        p1 = positions.get(segmentIndex);
-        p2 = positions.get(segmentIndex + 1);
+    private float tangentX(int segmentIndex, float t) {
+        return (float) catmullRomDerivative(waypointX, segmentIndex, t);
+    }
 
-        if (segmentIndex == positions.size() - 2) {
-            p3 = positions.get(positions.size() - 1);
-        } else {
-            p3 = positions.get(segmentIndex + 2);
-        }
+    private float tangentY(int segmentIndex, float t) {
+        return (float) catmullRomDerivative(waypointY, segmentIndex, t);
+    }
 
-        return catmullRomSpline(p0, p1, p2, p3, t);
+    private double speed(int segmentIndex, double t) {
+        double dx = catmullRomDerivative(waypointX, segmentIndex, t);
+        double dy = catmullRomDerivative(waypointY, segmentIndex, t);
+        return Math.sqrt(dx * dx + dy * dy);
     }
 
-    private Position catmullRomSpline(Position p0, Position p1, Position p2, Position p3, float t) {
+    private float catmullRomSpline(float[] coords, int segmentIndex, float t) {
+        int last = coords.length - 1;
+        float p0 = coords[Math.max(0, segmentIndex - 1)];
+        float p1 = coords[segmentIndex];
+        float p2 = coords[segmentIndex + 1];
+        float p3 = coords[Math.min(last, segmentIndex + 2)];
+
         float t2 = t * t;
         float t3 = t2 * t;
 
@@ -105,15 +222,79 @@ public class CurvedPath extends Path {
         float b2 = (alpha - 2) * t3 + (3 - 2 * alpha) * t2 + alpha * t;
         float b3 = alpha * t3 - alpha * t2;
 
-        float x = b0 * p0.getX() + b1 * p1.getX() + b2 * p2.getX() + b3 * p3.getX();
-        float y = b0 * p0.getY() + b1 * p1.getY() + b2 * p2.getY() + b3 * p3.getY();
+        return b0 * p0 + b1 * p1 + b2 * p2 + b3 * p3;
+    }
+
+    private double catmullRomDerivative(float[] coords, int segmentIndex, double t) {
+        int last = coords.length - 1;
+        double p0 = coords[Math.max(0, segmentIndex - 1)];
+        double p1 = coords[segmentIndex];
+        double p2 = coords[segmentIndex + 1];
+        double p3 = coords[Math.min(last, segmentIndex + 2)];
 
-        return new Position(x, y);
+        double t2 = t * t;
+
+        double d0 = -3 * alpha * t2 + 4 * alpha * t - alpha;
+        double d1 = 3 * (2 - alpha) * t2 + 2 * (alpha - 3) * t;
+        double d2 = 3 * (alpha - 2) * t2 + 2 * (3 - 2 * alpha) * t + alpha;
+        double d3 = 3 * alpha * t2 - 2 * alpha * t;
+
+        return d0 * p0 + d1 * p1 + d2 * p2 + d3 * p3;
+    }
+
+    private double gaussLegendre(int segmentIndex, double a, double b) {
+        double halfWidth = (b - a) * 0.5;
+        double mid = (a + b) * 0.5;
+        double sum = 0.0;
+        for (int i = 0; i < GAUSS_NODES.length; i++) {
+            sum += GAUSS_WEIGHTS[i] * speed(segmentIndex, mid + halfWidth * GAUSS_NODES[i]);
+        }
+        return sum * halfWidth;
     }
 
+    /**
+     * Arc length of the segment between parameters {@code a} and {@code b}, bisecting
+     * until the two halves agree with the whole to within the configured tolerance.
+     */
+    private double arcLength(int segmentIndex, double a, double b) {
+        return adaptiveArcLength(segmentIndex, a, b, gaussLegendre(segmentIndex, a, b), tolerance, 0);
+    }
+
+    private double adaptiveArcLength(int segmentIndex, double a, double b, double whole, double allowedError,
+            int depth) {
+        double mid = (a + b) * 0.5;
+        double left = gaussLegendre(segmentIndex, a, mid);
+        double right = gaussLegendre(segmentIndex, mid, b);
+        if (depth >= MAX_SUBDIVISION_DEPTH || Math.abs(left + right - whole) <= allowedError) {
+            return left + right;
+        }
+        return adaptiveArcLength(segmentIndex, a, mid, left, allowedError * 0.5, depth + 1)
+                + adaptiveArcLength(segmentIndex, mid, b, right, allowedError * 0.5, depth + 1);
+    }
+
+    /**
+     * Returns the first segment whose end lies at or beyond {@code targetDistance}.
+     */
+    private int findSegmentForDistance(float targetDistance) {
+        int low = 0;
+        int high = cumulativeLengths.length - 2;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeLengths[mid + 1] >= targetDistance) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inverts the segment's arc length with Newton iterations, falling back to
+     * bisection whenever a Newton step would leave the bracketing interval.
+     */
     private float findTForDistance(int segmentIndex, float targetDistance) {
-        List<ArcLengthSample> table = arcLengthTables.get(segmentIndex);
-        float segmentLength = segmentLengths.get(segmentIndex);
+        float segmentLength = segmentLengths[segmentIndex];
 
         if (targetDistance <= 0f) {
             return 0f;
@@ -122,17 +303,32 @@ public class CurvedPath extends Path {
             return 1f;
         }
 
-        for (int i = 0; i < table.size() - 1; i++) {
-            ArcLengthSample sample1 = table.get(i);
-            ArcLengthSample sample2 = table.get(i + 1);
+        double low = 0.0;
+        double high = 1.0;
+        double t = targetDistance / segmentLength;
+        double length = arcLength(segmentIndex, 0.0, t);
 
-            if (targetDistance >= sample1.distance && targetDistance <= sample2.distance) {
-                float ratio = (targetDistance - sample1.distance) / (sample2.distance - sample1.distance);
-                return sample1.t + (sample2.t - sample1.t) * ratio;
+        for (int i = 0; i < MAX_NEWTON_ITERATIONS; i++) {
+            double error = length - targetDistance;
+            if (Math.abs(error) <= tolerance) {
+                break;
+            }
+            if (error > 0) {
+                high = t;
+            } else {
+                low = t;
             }
-        }
 
-        return 1f;
+            double speed = speed(segmentIndex, t);
+            double next = speed > 0.0 ? t - error / speed : (low + high) * 0.5;
+            if (next <= low || next >= high) {
+                next = (low + high) * 0.5;
+            }
+            // Newton steps span short intervals, where a single quadrature rule is already accurate.
+            length += next > t ? gaussLegendre(segmentIndex, t, next) : -gaussLegendre(segmentIndex, next, t);
+            t = next;
+        }
+        return (float) t;
     }
 
     @Override
@@ -154,22 +350,71 @@ public class CurvedPath extends Path {
         }
 
         float targetDistance = cachedLength * t;
-        float accumulatedDistance = 0f;
+        if (bakedX != null) {
+            float index = targetDistance / bakeSpacing;
+            int i = Math.min((int) index, bakedX.length - 2);
+            float ratio = Math.min(1f, index - i);
+            return new Position(bakedX[i] + (bakedX[i + 1] - bakedX[i]) * ratio,
+                    bakedY[i] + (bakedY[i + 1] - bakedY[i]) * ratio);
+        }
+
+        int segmentIndex = findSegmentForDistance(targetDistance);
+        float localDistance = targetDistance - cumulativeLengths[segmentIndex];
+        float localT = findTForDistance(segmentIndex, localDistance);
+        return getPointOnCurve(segmentIndex, localT);
+    }
 
-        for (int i = 0; i < segmentLengths.size(); i++) {
-            float segmentLength = segmentLengths.get(i);
+    @Override
+    public void sample(float t, PathSample out) {
+        t = Math.max(0f, Math.min(1f, t));
 
-            if (accumulatedDistance + segmentLength >= targetDistance) {
-                float localDistance = targetDistance - accumulatedDistance;
-                float localT = findTForDistance(i, localDistance);
-                return getPointOnCurve(i, localT);
-            }
+        if (waypointX.length == 1) {
+            out.set(waypointX[0], waypointY[0], 0f, 0f);
+            return;
+        }
+
+        if (bakedX != null) {
+            sampleBaked(t, out);
+            return;
+        }
+
+        int segmentIndex;
+        float localT;
+        if (t <= 0f) {
+            segmentIndex = 0;
+            localT = 0f;
+        } else if (t >= 1f) {
+            segmentIndex = waypointX.length - 2;
+            localT = 1f;
+        } else {
+            float targetDistance = cachedLength * t;
+            segmentIndex = findSegmentForDistance(targetDistance);
+            localT = findTForDistance(segmentIndex, targetDistance - cumulativeLengths[segmentIndex]);
+        }
 
-            accumulatedDistance += segmentLength;
+        float directionX = tangentX(segmentIndex, localT);
+        float directionY = tangentY(segmentIndex, localT);
+        if (directionX == 0f && directionY == 0f) {
+            directionX = waypointX[segmentIndex + 1] - waypointX[segmentIndex];
+            directionY = waypointY[segmentIndex + 1] - waypointY[segmentIndex];
         }
+        out.set(curveX(segmentIndex, localT), curveY(segmentIndex, localT), directionX, directionY);
+    }
 
-        Position last = positions.get(positions.size() - 1);
-        return new Position(last.getX(), last.getY());
+    private void sampleBaked(float t, PathSample out) {
+        float index = cachedLength * t / bakeSpacing;
+        int i = Math.min((int) index, bakedX.length - 2);
+        float ratio = Math.min(1f, index - i);
+
+        float x = bakedX[i] + (bakedX[i + 1] - bakedX[i]) * ratio;
+        float y = bakedY[i] + (bakedY[i + 1] - bakedY[i]) * ratio;
+        float directionX = bakedTangentX[i] + (bakedTangentX[i + 1] - bakedTangentX[i]) * ratio;
+        float directionY = bakedTangentY[i] + (bakedTangentY[i + 1] - bakedTangentY[i]) * ratio;
+        if (directionX == 0f && directionY == 0f) {
+            directionX = bakedX[i + 1] - bakedX[i];
+            directionY = bakedY[i + 1] - bakedY[i];
+        }
+        out.set(x, y, directionX, directionY);
     }
 
     @Override
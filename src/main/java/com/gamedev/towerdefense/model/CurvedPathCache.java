@@ -0,0 +1,184 @@
+package com.gamedev.towerdefense.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * On-disk cache of {@link CurvedPath} tables, so large maps skip arc-length
+ * quadrature and baking on later launches. Each path is stored in its own file
+ * named after a hash of the waypoints, alpha, bake spacing and tolerance. The
+ * file is read back through a memory mapping. Missing, stale or unreadable
+ * files are rebuilt.
+ *
+ * <p>File layout (little-endian): magic, version, key (long), segment count,
+ * baked point count, bake spacing; then segment lengths, cumulative lengths and
+ * the baked x, y, tangent x and tangent y arrays, all as floats.
+ */
+public class CurvedPathCache {
+    private static final int MAGIC = 0x43505448;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 4;
+
+    private final File directory;
+    private int hits;
+    private int misses;
+
+    public CurvedPathCache(File directory) {
+        this.directory = directory;
+    }
+
+    public CurvedPath load(List<Position> waypoints, float alpha, float bakeSpacing, float tolerance) {
+        float effectiveSpacing = Math.max(0f, bakeSpacing);
+        float effectiveTolerance = tolerance > 0f ? tolerance : CurvedPath.DEFAULT_ARC_LENGTH_TOLERANCE;
+        long key = key(waypoints, alpha, effectiveSpacing, effectiveTolerance);
+        File file = fileFor(key);
+
+        if (file.isFile()) {
+            try {
+                BakedPathTables tables = read(file, key, Math.max(0, waypoints.size() - 1));
+                if (tables != null) {
+                    hits++;
+                    return new CurvedPath(waypoints, alpha, effectiveTolerance, tables);
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Ignoring unreadable path cache " + file + ": " + e.getMessage());
+            }
+        }
+
+        misses++;
+        CurvedPath path = new CurvedPath(waypoints, alpha, effectiveSpacing, effectiveTolerance);
+        try {
+            write(file, key, path.exportTables());
+        } catch (IOException e) {
+            System.err.println("Failed to write path cache " + file + ": " + e.getMessage());
+        }
+        return path;
+    }
+
+    File fileFor(long key) {
+        return new File(directory, String.format("path-%016x.bin", key));
+    }
+
+    static long key(List<Position> waypoints, float alpha, float bakeSpacing, float tolerance) {
+        // 64-bit FNV-1a over the inputs that determine the tables.
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, VERSION);
+        hash = mix(hash, waypoints.size());
+        for (Position waypoint : waypoints) {
+            hash = mix(hash, Float.floatToIntBits(waypoint.getX()));
+            hash = mix(hash, Float.floatToIntBits(waypoint.getY()));
+        }
+        hash = mix(hash, Float.floatToIntBits(alpha));
+        hash = mix(hash, Float.floatToIntBits(bakeSpacing));
+        return mix(hash, Float.floatToIntBits(tolerance));
+    }
+
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private BakedPathTables read(File file, long key, int segmentCount) throws IOException {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r");
+                FileChannel channel = input.getChannel()) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION || mapped.getLong() != key
+                    || mapped.getInt() != segmentCount) {
+                return null;
+            }
+            int bakedCount = mapped.getInt();
+            float bakeSpacing = mapped.getFloat();
+            long expectedBytes = HEADER_BYTES + 4L * (2L * segmentCount + 1 + 4L * bakedCount);
+            if (bakedCount < 0 || channel.size() != expectedBytes) {
+                return null;
+            }
+
+            float[] segmentLengths = readFloats(mapped, segmentCount);
+            float[] cumulativeLengths = readFloats(mapped, segmentCount + 1);
+            if (bakedCount == 0) {
+                return new BakedPathTables(segmentLengths, cumulativeLengths, 0f, null, null, null, null);
+            }
+            return new BakedPathTables(segmentLengths, cumulativeLengths, bakeSpacing,
+                    readFloats(mapped, bakedCount), readFloats(mapped, bakedCount),
+                    readFloats(mapped, bakedCount), readFloats(mapped, bakedCount));
+        }
+    }
+
+    private static float[] readFloats(ByteBuffer buffer, int count) {
+        float[] values = new float[count];
+        buffer.asFloatBuffer().get(values);
+        buffer.position(buffer.position() + count * 4);
+        return values;
+    }
+
+    private void write(File file, long key, BakedPathTables tables) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create cache directory " + directory);
+        }
+
+        int segmentCount = tables.segmentLengths.length;
+        int bakedCount = tables.getBakedPointCount();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 4 * (2 * segmentCount + 1 + 4 * bakedCount))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(key).putInt(segmentCount).putInt(bakedCount)
+                .putFloat(tables.bakeSpacing);
+        writeFloats(buffer, tables.segmentLengths);
+        writeFloats(buffer, tables.cumulativeLengths);
+        if (bakedCount > 0) {
+            writeFloats(buffer, tables.bakedX);
+            writeFloats(buffer, tables.bakedY);
+            writeFloats(buffer, tables.bakedTangentX);
+            writeFloats(buffer, tables.bakedTangentY);
+        }
+        buffer.flip();
+
+        // Write beside the target and move it into place, so readers never see a partial file.
+        File temp = File.createTempFile("path-", ".tmp", directory);
+        try {
+            try (RandomAccessFile output = new RandomAccessFile(temp, "rw");
+                    FileChannel channel = output.getChannel()) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    private static void writeFloats(ByteBuffer buffer, float[] values) {
+        buffer.asFloatBuffer().put(values);
+        buffer.position(buffer.position() + values.length * 4);
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
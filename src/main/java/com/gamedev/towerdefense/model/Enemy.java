@@ -1,113 +1,203 @@
 package com.gamedev.towerdefense.model;
 
+/**
+ * One enemy, as a view onto a slot of an {@link EnemyStore}. An enemy built with
+ * the public constructor lives in a store of its own until it is added to a
+ * lane, which moves its state into the lane's store. Once removed from its
+ * store, the enemy is detached and keeps a copy of its final state.
+ */
 public class Enemy {
 
+    private EnemyStore store;
+    private int handle;
     private Position position;
-    private int health;
-    private float speed;
+    private float positionProgress = -1f;
+
+    // The state it had when removed, while detached (store is null).
     private Path path;
-    private float pathProgress;
+    private float x;
+    private float y;
+    private float progress;
+    private float speed;
+    private int health;
     private int reward;
+    private int typeId;
+    private int memberCount;
+    private int memberHealth;
     private float animationTime;
     private int directionRow;
 
     public Enemy(Path path, int health, float speed, int currentWaypointIndex, int reward) {
-        this.path = path;
-        this.health = health;
-        this.speed = speed;
-        this.reward = reward;
-        this.animationTime = 0f;
-        this.directionRow = 0;
+        EnemyStore own = new EnemyStore(path, 1);
+        int ownHandle = own.add(health, speed, startProgress(path, currentWaypointIndex), reward);
+        attach(own, ownHandle);
+        own.enemy(ownHandle);
+    }
 
+    public Enemy(Path path, EnemyType type, int currentWaypointIndex) {
+        EnemyStore own = new EnemyStore(path, 1);
+        int ownHandle = own.add(type, startProgress(path, currentWaypointIndex));
+        attach(own, ownHandle);
+        own.enemy(ownHandle);
+    }
+
+    private static float startProgress(Path path, int currentWaypointIndex) {
         if (currentWaypointIndex <= 0) {
-            this.pathProgress = 0f;
+            return 0f;
         } else if (currentWaypointIndex >= path.getWaypointCount()) {
-            this.pathProgress = 1f;
-        } else {
-            this.pathProgress = (float) currentWaypointIndex / Math.max(1, path.getWaypointCount() - 1);
+            return 1f;
         }
+        return (float) currentWaypointIndex / Math.max(1, path.getWaypointCount() - 1);
+    }
 
-        Position startPos = path.getPositionAt(this.pathProgress);
-        this.position = new Position(startPos.getX(), startPos.getY());
+    Enemy(EnemyStore store, int handle) {
+        attach(store, handle);
     }
 
-    public int getReward() {
-        return reward;
+    void attach(EnemyStore store, int handle) {
+        this.store = store;
+        this.handle = handle;
     }
 
-    public Position getPosition() {
-        return position;
+    /**
+     * Copies slot {@code index} of {@code from}, which is about to remove it,
+     * so the enemy keeps reporting its final state without a store.
+     */
+    void detach(EnemyStore from, int index) {
+        path = from.getPath();
+        x = from.getX(index);
+        y = from.getY(index);
+        progress = from.getProgress(index);
+        speed = from.getSpeed(index);
+        health = from.getHealth(index);
+        reward = from.getReward(index);
+        typeId = from.getTypeId(index);
+        memberCount = from.getMemberCount(index);
+        memberHealth = from.getMemberHealth(index);
+        animationTime = from.getAnimationTime(index);
+        directionRow = from.getDirectionRow(index);
+        store = null;
+        handle = EnemyStore.NONE;
     }
 
-    public int getHealth() {
-        return health;
+    boolean isDetached() {
+        return store == null;
     }
 
-    public float getSpeed() {
-        return speed;
+    // A detached enemy only needs a store again when something asks to act on
+    // it through one, so it is given a private store then.
+    EnemyStore getStore() {
+        if (store == null) {
+            new EnemyStore(path, 1).adopt(this);
+        }
+        return store;
     }
 
-    public boolean isAlive() {
-        return health > 0;
+    int getHandle() {
+        getStore();
+        return handle;
     }
 
-    public void takeDamage(int amount) {
-        this.health -= amount;
+    private int index() {
+        return store.indexOf(handle);
     }
 
-    public boolean hasReachedEnd() {
-        return pathProgress >= 1.0f;
+    /**
+     * The {@link EnemyType} id, or {@link EnemyType#CUSTOM}.
+     */
+    public int getTypeId() {
+        return store != null ? store.getTypeId(index()) : typeId;
     }
 
-    public void update(float deltaTime) {
-        animationTime += deltaTime;
+    public int getMemberCount() {
+        return store != null ? store.getMemberCount(index()) : memberCount;
+    }
 
-        if (hasReachedEnd()) {
-            return;
-        }
+    /**
+     * Health of one swarm member, or of the whole enemy when it is not a swarm.
+     */
+    public int getMemberHealth() {
+        return store != null ? store.getMemberHealth(index()) : memberHealth;
+    }
+
+    public int getAliveMembers() {
+        return store != null ? store.getAliveMembers(index())
+                : EnemyStore.aliveMembers(health, memberCount, memberHealth);
+    }
+
+    public int getReward() {
+        return store != null ? store.getReward(index()) : reward;
+    }
 
-        float pathLength = path.getPathLength();
-        if (pathLength <= 0f) {
-            return;
+    public Position getPosition() {
+        float progress = getPathProgress();
+        if (position == null || progress != positionProgress) {
+            position = new Position(getX(), getY());
+            positionProgress = progress;
         }
+        return position;
+    }
 
-        float moveDistance = speed * deltaTime;
-        float progressDelta = moveDistance / pathLength;
+    public float getX() {
+        return store != null ? store.getX(index()) : x;
+    }
 
-        pathProgress = Math.min(1.0f, pathProgress + progressDelta);
+    public float getY() {
+        return store != null ? store.getY(index()) : y;
+    }
 
-        Position newPosition = path.getPositionAt(pathProgress);
-        this.position = new Position(newPosition.getX(), newPosition.getY());
+    public int getHealth() {
+        return store != null ? store.getHealth(index()) : health;
+    }
 
-        float lookAheadT = Math.min(1.0f, pathProgress + 0.01f);
-        Position lookAheadPos = path.getPositionAt(lookAheadT);
-        float dx = lookAheadPos.getX() - position.getX();
-        float dy = lookAheadPos.getY() - position.getY();
+    /**
+     * Health of the member the next single-target hit lands on; the same as
+     * {@link #getHealth()} unless this is a swarm.
+     */
+    public int getFrontHealth() {
+        return store != null ? store.getFrontHealth(index())
+                : EnemyStore.frontHealth(health, memberCount, memberHealth);
+    }
 
-        float angle = (float) Math.toDegrees(Math.atan2(dy, dx));
-        if (angle < 0) {
-            angle += 360;
-        }
-        directionRow = getDirectionRow(angle);
+    public float getSpeed() {
+        return store != null ? store.getSpeed(index()) : speed;
+    }
+
+    public boolean isAlive() {
+        return getHealth() > 0;
     }
 
-    private int getDirectionRow(float angle) {
-        if (angle >= 225 && angle < 315) {
-            return 0;
-        } else if (angle >= 135 && angle < 225) {
-            return 1;
-        } else if (angle >= 315 || angle < 45) {
-            return 2;
+    public void takeDamage(int amount) {
+        if (store != null) {
+            store.damage(handle, amount);
         } else {
-            return 3;
+            health -= memberCount > 1 && health > 0
+                    ? Math.min(amount, EnemyStore.frontHealth(health, memberCount, memberHealth)) : amount;
         }
     }
 
+    public Path getPath() {
+        return store != null ? store.getPath() : path;
+    }
+
+    public float getPathProgress() {
+        return store != null ? store.getProgress(index()) : progress;
+    }
+
+    public boolean hasReachedEnd() {
+        return getPathProgress() >= 1.0f;
+    }
+
+    public void update(float deltaTime) {
+        EnemyStore own = getStore();
+        own.update(own.indexOf(handle), deltaTime);
+    }
+
     public float getAnimationTime() {
-        return animationTime;
+        return store != null ? store.getAnimationTime(index()) : animationTime;
     }
 
     public int getDirectionRow() {
-        return directionRow;
+        return store != null ? store.getDirectionRow(index()) : directionRow;
     }
 }
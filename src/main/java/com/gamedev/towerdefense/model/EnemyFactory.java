@@ -3,50 +3,76 @@ package com.gamedev.towerdefense.model;
 /**
  * Factory Method pattern for creating different types of enemies.
  * Encapsulates enemy creation logic and provides a central place to create enemies.
+ * Stats come from the {@link EnemyTypes} it was built with; unknown type names
+ * fall back to the default type.
  */
 public class EnemyFactory {
     
-    // Enemy type constants
+    // Names of the built-in types, see EnemyTypes.defaults()
     public static final String TYPE_BASIC = "basic";
     public static final String TYPE_FAST = "fast";
     public static final String TYPE_TANK = "tank";
     public static final String TYPE_BOSS = "boss";
-    
-    // Default stats for different enemy types
-    private static final int BASIC_HEALTH = 100;
-    private static final float BASIC_SPEED = 50f;
-    private static final int BASIC_REWARD = 10;
-    
-    private static final int FAST_HEALTH = 50;
-    private static final float FAST_SPEED = 100f;
-    private static final int FAST_REWARD = 15;
-    
-    private static final int TANK_HEALTH = 300;
-    private static final float TANK_SPEED = 25f;
-    private static final int TANK_REWARD = 30;
-    
-    private static final int BOSS_HEALTH = 1000;
-    private static final float BOSS_SPEED = 20f;
-    private static final int BOSS_REWARD = 100;
+
+    private final EnemyTypes types;
+
+    public EnemyFactory() {
+        this(EnemyTypes.defaults());
+    }
+
+    public EnemyFactory(EnemyTypes types) {
+        this.types = types;
+    }
+
+    public EnemyTypes getTypes() {
+        return types;
+    }
+
+    /**
+     * Id of the type called {@code name}, or of the default type if there is
+     * none. Resolve names once, up front; spawning by id does no string work.
+     */
+    public int resolveTypeId(String name) {
+        int id = types.idOf(name);
+        return id != EnemyType.CUSTOM ? id : types.getDefault().getId();
+    }
 
     public Enemy createEnemy(String type, Path path) {
         return createEnemy(type, path, 0);
     }
     
     public Enemy createEnemy(String type, Path path, int startWaypointIndex) {
-        switch (type.toLowerCase()) {
-            case TYPE_FAST:
-                return new Enemy(path, FAST_HEALTH, FAST_SPEED, startWaypointIndex, FAST_REWARD);
-            case TYPE_TANK:
-                return new Enemy(path, TANK_HEALTH, TANK_SPEED, startWaypointIndex, TANK_REWARD);
-            case TYPE_BOSS:
-                return new Enemy(path, BOSS_HEALTH, BOSS_SPEED, startWaypointIndex, BOSS_REWARD);
-            case TYPE_BASIC:
-            default:
-                return new Enemy(path, BASIC_HEALTH, BASIC_SPEED, startWaypointIndex, BASIC_REWARD);
-        }
+        return new Enemy(path, types.get(resolveTypeId(type)), startWaypointIndex);
     }
     
+    /**
+     * Adds an enemy of {@code type} at the start of the store's path without
+     * creating an {@link Enemy} object, and returns its handle.
+     */
+    public int spawnEnemy(String type, EnemyStore store) {
+        return spawnEnemy(resolveTypeId(type), store);
+    }
+
+    public int spawnEnemy(int typeId, EnemyStore store) {
+        return store.add(types.get(typeId), 0f);
+    }
+
+    /**
+     * Adds a swarm of {@code members} enemies of type {@code typeId} as one
+     * store slot, and returns its handle.
+     */
+    public int spawnSwarm(int typeId, int members, EnemyStore store) {
+        return store.addSwarm(types.get(typeId), members, 0f);
+    }
+
+    public int spawnCustomSwarm(EnemyStore store, int memberHealth, float speed, int memberReward, int members) {
+        return store.addSwarm(memberHealth, speed, 0f, memberReward, members);
+    }
+
+    public int spawnCustomEnemy(EnemyStore store, int health, float speed, int reward) {
+        return store.add(health, speed, 0f, reward);
+    }
+
     public Enemy createCustomEnemy(Path path, int health, float speed, int reward) {
         return createCustomEnemy(path, health, speed, 0, reward);
     }
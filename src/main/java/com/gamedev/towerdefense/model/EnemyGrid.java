@@ -0,0 +1,171 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid over one {@link EnemyStore}'s enemy positions, so a range
+ * query looks only at the cells its circle overlaps instead of every enemy.
+ * Built from scratch with a counting sort in O(n); cheaper than keeping it up
+ * to date as every enemy moves every tick. The grid covers the bounding box of
+ * the enemies at build time, and cells widen if that box is too big for
+ * {@value #MAX_CELLS_PER_AXIS} cells a side.
+ */
+public class EnemyGrid {
+    public static final float DEFAULT_CELL_SIZE = 64f;
+    private static final int MAX_CELLS_PER_AXIS = 256;
+
+    private float requestedCellSize;
+    private float cellSize;
+    private float originX;
+    private float originY;
+    private int columns;
+    private int rows;
+    private int builtVersion = -1;
+
+    // Enemy slot indices grouped by cell: cell c holds entries[cellStart[c] .. cellStart[c + 1] - 1].
+    private int[] cellStart = new int[1];
+    private int[] entries = new int[0];
+    private int[] cellOf = new int[0];
+    private int[] candidates = new int[0];
+
+    public EnemyGrid(float cellSize) {
+        this.requestedCellSize = cellSize;
+    }
+
+    void build(EnemyStore store, float cellSize) {
+        requestedCellSize = cellSize;
+        builtVersion = store.getVersion();
+        int count = store.size();
+        if (count == 0) {
+            columns = 0;
+            rows = 0;
+            return;
+        }
+
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            float x = store.getX(i);
+            float y = store.getY(i);
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+        originX = minX;
+        originY = minY;
+        this.cellSize = Math.max(cellSize, Math.max(maxX - minX, maxY - minY) / (MAX_CELLS_PER_AXIS - 1));
+        columns = (int) ((maxX - minX) / this.cellSize) + 1;
+        rows = (int) ((maxY - minY) / this.cellSize) + 1;
+
+        int cells = columns * rows;
+        // Grow with headroom: the bounding box and enemy count creep up as a wave spreads out.
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[Math.max(cells + 1, cellStart.length * 2)];
+        } else {
+            Arrays.fill(cellStart, 0, cells + 1, 0);
+        }
+        if (entries.length < count) {
+            int capacity = Math.max(count, entries.length * 2);
+            entries = new int[capacity];
+            cellOf = new int[capacity];
+            candidates = new int[capacity];
+        }
+
+        for (int i = 0; i < count; i++) {
+            int cell = row(store.getY(i)) * columns + column(store.getX(i));
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        // cellStart[c] doubles as cell c's write cursor; walking indices upwards
+        // keeps each cell's entries in ascending index order.
+        for (int i = 0; i < count; i++) {
+            entries[cellStart[cellOf[i]]++] = i;
+        }
+        // Each cursor now sits at the start of the next cell; shift them back.
+        for (int c = cells; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) ((x - originX) / cellSize)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) ((y - originY) / cellSize)));
+    }
+
+    /**
+     * Collects the slot indices of enemies in cells that overlap the circle, a
+     * superset of those within {@code range} of ({@code x}, {@code y}), and
+     * returns how many there are. Read them with {@link #getCandidate(int)}
+     * before the next query.
+     */
+    public int query(float x, float y, float range) {
+        if (columns == 0) {
+            return 0;
+        }
+        float left = x - range;
+        float right = x + range;
+        float bottom = y - range;
+        float top = y + range;
+        float extentX = columns * cellSize;
+        float extentY = rows * cellSize;
+        if (right < originX || left > originX + extentX || top < originY || bottom > originY + extentY) {
+            return 0;
+        }
+        int firstColumn = column(left);
+        int lastColumn = column(right);
+        int firstRow = row(bottom);
+        int lastRow = row(top);
+        float rangeSquared = range * range;
+
+        int found = 0;
+        for (int r = firstRow; r <= lastRow; r++) {
+            float cellBottom = originY + r * cellSize;
+            float dy = Math.max(0f, Math.max(cellBottom - y, y - (cellBottom + cellSize)));
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                float cellLeft = originX + c * cellSize;
+                float dx = Math.max(0f, Math.max(cellLeft - x, x - (cellLeft + cellSize)));
+                if (dx * dx + dy * dy > rangeSquared) {
+                    continue;
+                }
+                int cell = r * columns + c;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    candidates[found++] = entries[k];
+                }
+            }
+        }
+        return found;
+    }
+
+    public int getCandidate(int n) {
+        return candidates[n];
+    }
+
+    /**
+     * The cell size in use, which may be wider than requested for widely spread enemies.
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public float getRequestedCellSize() {
+        return requestedCellSize;
+    }
+
+    public int getCellCount() {
+        return columns * rows;
+    }
+
+    int getBuiltVersion() {
+        return builtVersion;
+    }
+}
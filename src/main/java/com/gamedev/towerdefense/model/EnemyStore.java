@@ -0,0 +1,664 @@
+package com.gamedev.towerdefense.model;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enemies walking one path, kept as parallel primitive arrays so per-tick work
+ * (movement, targeting, drawing) streams through memory instead of chasing
+ * objects. Slots are dense: indices {@code 0..size()-1} are live, and removal
+ * moves the last slot into the gap. Callers that need to refer to an enemy
+ * across ticks hold its generational handle (see {@link Handles}), which stops
+ * resolving once the enemy is removed, even if its handle slot is reused.
+ * {@link Enemy} objects are created only on request, as views onto a slot.
+ * A slot may hold a swarm: several members sharing one path progress, whose
+ * health column is the members' pooled health (see {@link #addSwarm}).
+ */
+public class EnemyStore {
+    public static final int NONE = Handles.NONE;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Path path;
+    private final PathSample sample = new PathSample();
+
+    private int size;
+    private float[] x;
+    private float[] y;
+    private float[] progress;
+    private float[] speed;
+    private int[] health;
+    private int[] reward;
+    private int[] typeId;
+    private int[] memberCount;
+    private int[] memberHealth;
+    private float[] animationTime;
+    private int[] directionRow;
+    private int[] spawnSequence;
+    private int[] indexToHandle;
+    private int nextSpawnSequence;
+    // Fastest speed ever added; speeds never change, so no enemy here is faster.
+    private float maxSpeed;
+    // Scratch for update: which enemies the backend advanced and so need resampling.
+    private boolean[] moved;
+    private KinematicsBackend backend = KinematicsBackends.preferred();
+    // Bumped whenever slots or positions change, so a grid built earlier is known to be stale.
+    private int version;
+    private EnemyGrid grid;
+    private ProgressIndex progressIndex;
+    // Scratch for indicesInSpawnOrder: spawn sequence in the high bits, slot index in the low.
+    private long[] orderKeys = new long[0];
+
+    // Indexed by the handle's slot; NONE marks a free slot.
+    private int[] handleToIndex = new int[0];
+    private int[] generations = new int[0];
+    private Enemy[] views = new Enemy[0];
+    private int[] freeHandles = new int[0];
+    private int freeHandleCount;
+    private int slotHits;
+    private int slotMisses;
+
+    public EnemyStore(Path path) {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    public EnemyStore(Path path, int capacity) {
+        this.path = path;
+        int initial = Math.max(1, capacity);
+        x = new float[initial];
+        y = new float[initial];
+        progress = new float[initial];
+        speed = new float[initial];
+        health = new int[initial];
+        reward = new int[initial];
+        typeId = new int[initial];
+        memberCount = new int[initial];
+        memberHealth = new int[initial];
+        animationTime = new float[initial];
+        directionRow = new int[initial];
+        spawnSequence = new int[initial];
+        indexToHandle = new int[initial];
+        moved = new boolean[initial];
+    }
+
+    /**
+     * Adds an enemy of {@code type} at {@code startProgress} along the path and
+     * returns its handle.
+     */
+    public int add(EnemyType type, float startProgress) {
+        int handle = add(type.getHealth(), type.getSpeed(), startProgress, type.getReward());
+        typeId[handleToIndex[Handles.index(handle)]] = type.getId();
+        return handle;
+    }
+
+    /**
+     * Adds a swarm of {@code members} enemies of {@code type} sharing one slot,
+     * and so one path evaluation per tick, and returns its handle. Damage comes
+     * off the pooled health; members die from the last one down, each time the
+     * pool drops by a member's health, which {@link #getAliveMembers} works out
+     * on demand. A single-target hit stops at the member it lands on (see
+     * {@link #damage}); only {@link #damageSplash} spills into the next one.
+     * The reward column holds the reward per member.
+     */
+    public int addSwarm(EnemyType type, int members, float startProgress) {
+        int handle = addSwarm(type.getHealth(), type.getSpeed(), startProgress, type.getReward(), members);
+        typeId[handleToIndex[Handles.index(handle)]] = type.getId();
+        return handle;
+    }
+
+    public int addSwarm(int memberHealth, float speed, float startProgress, int memberReward, int members) {
+        if (members < 1) {
+            throw new IllegalArgumentException("A swarm needs at least one member: " + members);
+        }
+        int pooledHealth = (int) Math.min(Integer.MAX_VALUE, (long) memberHealth * members);
+        int handle = add(pooledHealth, speed, startProgress, memberReward);
+        int index = handleToIndex[Handles.index(handle)];
+        this.memberCount[index] = members;
+        this.memberHealth[index] = Math.max(1, memberHealth);
+        return handle;
+    }
+
+    /**
+     * Adds an enemy with custom stats, of type {@link EnemyType#CUSTOM}, at
+     * {@code startProgress} along the path and returns its handle.
+     */
+    public int add(int health, float speed, float startProgress, int reward) {
+        if (size == x.length) {
+            slotMisses++;
+            grow(size * 2);
+        } else {
+            slotHits++;
+        }
+        int handle = allocateHandle();
+        int index = size++;
+        version++;
+        handleToIndex[Handles.index(handle)] = index;
+        indexToHandle[index] = handle;
+
+        this.health[index] = health;
+        this.speed[index] = speed;
+        this.maxSpeed = Math.max(maxSpeed, speed);
+        this.reward[index] = reward;
+        this.typeId[index] = EnemyType.CUSTOM;
+        this.memberCount[index] = 1;
+        this.memberHealth[index] = Math.max(1, health);
+        this.progress[index] = Math.max(0f, Math.min(1f, startProgress));
+        this.animationTime[index] = 0f;
+        this.directionRow[index] = 0;
+        this.spawnSequence[index] = nextSpawnSequence++;
+        path.sample(this.progress[index], sample);
+        this.x[index] = sample.getX();
+        this.y[index] = sample.getY();
+        return handle;
+    }
+
+    private int allocateHandle() {
+        if (freeHandleCount == 0) {
+            growHandles();
+        }
+        int slot = freeHandles[--freeHandleCount];
+        return Handles.make(slot, generations[slot]);
+    }
+
+    private void growHandles() {
+        int used = handleToIndex.length;
+        if (used == Handles.MAX_SLOTS) {
+            throw new IllegalStateException("Enemy store is full: " + used + " handles");
+        }
+        int capacity = Math.min(Handles.MAX_SLOTS, Math.max(DEFAULT_CAPACITY, used * 2));
+        handleToIndex = Arrays.copyOf(handleToIndex, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        views = Arrays.copyOf(views, capacity);
+        freeHandles = Arrays.copyOf(freeHandles, capacity);
+        Arrays.fill(handleToIndex, used, capacity, NONE);
+        // Hand out new handle slots in ascending order.
+        for (int slot = capacity - 1; slot >= used; slot--) {
+            freeHandles[freeHandleCount++] = slot;
+        }
+    }
+
+    /**
+     * Grows the arrays so at least {@code capacity} enemies fit without resizing.
+     */
+    public void reserve(int capacity) {
+        if (capacity > x.length) {
+            grow(capacity);
+        }
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        progress = Arrays.copyOf(progress, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        health = Arrays.copyOf(health, capacity);
+        reward = Arrays.copyOf(reward, capacity);
+        typeId = Arrays.copyOf(typeId, capacity);
+        memberCount = Arrays.copyOf(memberCount, capacity);
+        memberHealth = Arrays.copyOf(memberHealth, capacity);
+        animationTime = Arrays.copyOf(animationTime, capacity);
+        directionRow = Arrays.copyOf(directionRow, capacity);
+        spawnSequence = Arrays.copyOf(spawnSequence, capacity);
+        indexToHandle = Arrays.copyOf(indexToHandle, capacity);
+        moved = new boolean[capacity];
+    }
+
+    /**
+     * Removes the enemy and frees its handle. The last slot moves into its place,
+     * so removing while iterating indices is safe only when walking backwards.
+     * An {@link Enemy} view of the removed enemy is detached and keeps its final
+     * state.
+     */
+    public void remove(int handle) {
+        int index = indexOf(handle);
+        if (index == NONE) {
+            throw new IllegalArgumentException("Unknown enemy handle: " + handle);
+        }
+        int slot = Handles.index(handle);
+        Enemy view = views[slot];
+        if (view != null) {
+            views[slot] = null;
+            view.detach(this, index);
+        }
+
+        int last = --size;
+        version++;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            progress[index] = progress[last];
+            speed[index] = speed[last];
+            health[index] = health[last];
+            reward[index] = reward[last];
+            typeId[index] = typeId[last];
+            memberCount[index] = memberCount[last];
+            memberHealth[index] = memberHealth[last];
+            animationTime[index] = animationTime[last];
+            directionRow[index] = directionRow[last];
+            spawnSequence[index] = spawnSequence[last];
+            int movedHandle = indexToHandle[last];
+            indexToHandle[index] = movedHandle;
+            handleToIndex[Handles.index(movedHandle)] = index;
+        }
+        handleToIndex[slot] = NONE;
+        generations[slot] = Handles.nextGeneration(generations[slot]);
+        freeHandles[freeHandleCount++] = slot;
+    }
+
+    /**
+     * Fills {@code order} with slot indices sorted oldest spawn first, growing it
+     * if it is too small, and returns it. Removal reorders slots, so anything
+     * that must keep spawn order (such as sprite draw order) goes through this.
+     */
+    public int[] indicesInSpawnOrder(int[] order) {
+        if (orderKeys.length < size) {
+            orderKeys = new long[x.length];
+        }
+        for (int i = 0; i < size; i++) {
+            orderKeys[i] = ((long) spawnSequence[i] << 32) | i;
+        }
+        Arrays.sort(orderKeys, 0, size);
+
+        int[] result = order != null && order.length >= size ? order : new int[x.length];
+        for (int i = 0; i < size; i++) {
+            result[i] = (int) orderKeys[i];
+        }
+        return result;
+    }
+
+    public void clear() {
+        for (int i = size - 1; i >= 0; i--) {
+            remove(indexToHandle[i]);
+        }
+    }
+
+    /**
+     * Moves every enemy along the path by {@code speed * deltaTime}. Progress
+     * advances in one backend pass over the arrays; only enemies that moved are
+     * then resampled on the path.
+     */
+    public void update(float deltaTime) {
+        version++;
+        float pathLength = path.getPathLength();
+        if (pathLength <= 0f) {
+            for (int i = 0; i < size; i++) {
+                animationTime[i] += deltaTime;
+            }
+            return;
+        }
+        backend.advanceProgress(progress, speed, animationTime, moved, size, deltaTime, pathLength);
+        for (int i = 0; i < size; i++) {
+            if (moved[i]) {
+                resample(i);
+            }
+        }
+    }
+
+    void update(int index, float deltaTime) {
+        version++;
+        advance(index, deltaTime, path.getPathLength());
+    }
+
+    private void advance(int i, float deltaTime, float pathLength) {
+        animationTime[i] += deltaTime;
+        if (progress[i] >= 1f || pathLength <= 0f) {
+            return;
+        }
+
+        progress[i] = Math.min(1f, progress[i] + speed[i] * deltaTime / pathLength);
+        resample(i);
+    }
+
+    private void resample(int i) {
+        path.sample(progress[i], sample);
+        x[i] = sample.getX();
+        y[i] = sample.getY();
+
+        if (sample.hasTangent()) {
+            directionRow[i] = directionRow(sample.getTangentX(), sample.getTangentY());
+        }
+    }
+
+    /**
+     * Bulk-copies the columns {@link WorldStateBuffer} keeps into its word views,
+     * this store's first enemy at word {@code at}, with {@code columnStride} words
+     * between the start of one column and the next.
+     */
+    void copyColumnsTo(FloatBuffer floats, IntBuffer ints, int at, int columnStride) {
+        floats.put(at + WorldStateBuffer.ENEMY_PROGRESS * columnStride, progress, 0, size);
+        ints.put(at + WorldStateBuffer.ENEMY_HEALTH * columnStride, health, 0, size);
+        floats.put(at + WorldStateBuffer.ENEMY_X * columnStride, x, 0, size);
+        floats.put(at + WorldStateBuffer.ENEMY_Y * columnStride, y, 0, size);
+        floats.put(at + WorldStateBuffer.ENEMY_ANIMATION_TIME * columnStride, animationTime, 0, size);
+        ints.put(at + WorldStateBuffer.ENEMY_DIRECTION_ROW * columnStride, directionRow, 0, size);
+        ints.put(at + WorldStateBuffer.ENEMY_MEMBER_COUNT * columnStride, memberCount, 0, size);
+        ints.put(at + WorldStateBuffer.ENEMY_MEMBER_HEALTH * columnStride, memberHealth, 0, size);
+    }
+
+    /**
+     * Rebuilds the spatial grid over the current positions, creating it on first
+     * use. Strategies use the grid, through {@link #getGrid()}, until the store
+     * next adds, removes or moves enemies.
+     */
+    public EnemyGrid rebuildGrid(float cellSize) {
+        if (grid == null) {
+            grid = new EnemyGrid(cellSize);
+        }
+        grid.build(this, cellSize);
+        return grid;
+    }
+
+    /**
+     * The grid built over the current positions, or null if there is none or
+     * the store changed since it was built.
+     */
+    public EnemyGrid getGrid() {
+        return grid != null && grid.getBuiltVersion() == version ? grid : null;
+    }
+
+    /**
+     * The enemies in path progress order, repaired first if the store changed
+     * since it was last asked for.
+     */
+    public ProgressIndex getProgressIndex() {
+        if (progressIndex == null) {
+            progressIndex = new ProgressIndex();
+        }
+        progressIndex.repair(this);
+        return progressIndex;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    int getNextSpawnSequence() {
+        return nextSpawnSequence;
+    }
+
+    /**
+     * An upper bound on the speed of every enemy in the store.
+     */
+    float getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    public KinematicsBackend getBackend() {
+        return backend;
+    }
+
+    public void setBackend(KinematicsBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Sprite row for a direction of travel: 0 down, 1 left, 2 right, 3 up. Same
+     * bands as bucketing atan2 at 45/135/225/315 degrees, without the atan2.
+     */
+    static int directionRow(float dx, float dy) {
+        if (dy >= dx && dy > -dx) {
+            return 3;
+        } else if (-dx >= dy && dy > dx) {
+            return 1;
+        } else if (dy <= dx && -dy > dx) {
+            return 0;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Deals a single-target hit. On a swarm it kills at most the member it lands
+     * on, so the rest of the pool is not spent by one shot.
+     */
+    public void damage(int handle, int amount) {
+        int index = requireIndex(handle);
+        if (memberCount[index] > 1 && health[index] > 0) {
+            amount = Math.min(amount, getFrontHealth(index));
+        }
+        health[index] -= amount;
+    }
+
+    /**
+     * Deals an area hit, which on a swarm carries on through as many members
+     * as the damage covers.
+     */
+    public void damageSplash(int handle, int amount) {
+        health[requireIndex(handle)] -= amount;
+    }
+
+    /**
+     * The {@link Enemy} view for {@code handle}. The same object is returned for
+     * as long as the enemy stays in this store.
+     */
+    public Enemy enemy(int handle) {
+        requireIndex(handle);
+        int slot = Handles.index(handle);
+        Enemy view = views[slot];
+        if (view == null) {
+            view = new Enemy(this, handle);
+            views[slot] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Moves a standalone enemy into this store. The enemy object stays valid and
+     * becomes a view of its new slot.
+     */
+    public int adopt(Enemy enemy) {
+        if (enemy.getPath() != path) {
+            throw new IllegalArgumentException("Enemy walks a different path than this store");
+        }
+        if (enemy.isDetached()) {
+            int handle = copyFrom(enemy);
+            enemy.attach(this, handle);
+            views[Handles.index(handle)] = enemy;
+            return handle;
+        }
+        EnemyStore previous = enemy.getStore();
+        int previousHandle = enemy.getHandle();
+        if (previous == this) {
+            return previousHandle;
+        }
+        int handle = copyFrom(enemy);
+        previous.views[Handles.index(previousHandle)] = null;
+        previous.remove(previousHandle);
+        enemy.attach(this, handle);
+        views[Handles.index(handle)] = enemy;
+        return handle;
+    }
+
+    private int copyFrom(Enemy enemy) {
+        int handle = add(enemy.getHealth(), enemy.getSpeed(), 0f, enemy.getReward());
+        int index = handleToIndex[Handles.index(handle)];
+        progress[index] = enemy.getPathProgress();
+        typeId[index] = enemy.getTypeId();
+        memberCount[index] = enemy.getMemberCount();
+        memberHealth[index] = enemy.getMemberHealth();
+        x[index] = enemy.getX();
+        y[index] = enemy.getY();
+        animationTime[index] = enemy.getAnimationTime();
+        directionRow[index] = enemy.getDirectionRow();
+        return handle;
+    }
+
+    /**
+     * A live {@link List} view of this store in slot order. {@code add} adopts
+     * the enemy; element removal is by handle through {@link #remove(int)}.
+     */
+    public List<Enemy> asList() {
+        return new AbstractList<Enemy>() {
+            @Override
+            public Enemy get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+                }
+                return enemy(indexToHandle[index]);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean add(Enemy enemy) {
+                adopt(enemy);
+                return true;
+            }
+
+            @Override
+            public Enemy remove(int index) {
+                Enemy enemy = get(index);
+                EnemyStore.this.remove(indexToHandle[index]);
+                return enemy;
+            }
+        };
+    }
+
+    /**
+     * The slot index of {@code handle}, or {@link #NONE} if the enemy has been
+     * removed. Constant time, so it doubles as the validity check.
+     */
+    public int indexOf(int handle) {
+        if (handle < 0) {
+            return NONE;
+        }
+        int slot = Handles.index(handle);
+        if (slot >= handleToIndex.length || generations[slot] != Handles.generation(handle)) {
+            return NONE;
+        }
+        return handleToIndex[slot];
+    }
+
+    private int requireIndex(int handle) {
+        int index = indexOf(handle);
+        if (index == NONE) {
+            throw new IllegalArgumentException("Unknown enemy handle: " + handle);
+        }
+        return index;
+    }
+
+    public boolean contains(int handle) {
+        return indexOf(handle) != NONE;
+    }
+
+    public int handleAt(int index) {
+        return indexToHandle[index];
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    /**
+     * Adds that reused a free slot, like hits on an {@link ObjectPool}.
+     */
+    public int getSlotHits() {
+        return slotHits;
+    }
+
+    /**
+     * Adds that had to grow the arrays.
+     */
+    public int getSlotMisses() {
+        return slotMisses;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public float getProgress(int index) {
+        return progress[index];
+    }
+
+    public float getSpeed(int index) {
+        return speed[index];
+    }
+
+    public int getHealth(int index) {
+        return health[index];
+    }
+
+    public int getReward(int index) {
+        return reward[index];
+    }
+
+    /**
+     * The {@link EnemyType} id of the enemy, or {@link EnemyType#CUSTOM}.
+     */
+    public int getTypeId(int index) {
+        return typeId[index];
+    }
+
+    /**
+     * Members the enemy spawned with: 1 for a single enemy, more for a swarm.
+     */
+    public int getMemberCount(int index) {
+        return memberCount[index];
+    }
+
+    public int getMemberHealth(int index) {
+        return memberHealth[index];
+    }
+
+    /**
+     * Members still alive, from the pooled health: every member's worth of
+     * health left keeps one alive, and a partial one keeps one more.
+     */
+    public int getAliveMembers(int index) {
+        return aliveMembers(health[index], memberCount[index], memberHealth[index]);
+    }
+
+    /**
+     * Health left on the member the next single-target hit lands on: the
+     * enemy's health unless it is a swarm, where it is the partly spent last
+     * member's share of the pool.
+     */
+    public int getFrontHealth(int index) {
+        return frontHealth(health[index], memberCount[index], memberHealth[index]);
+    }
+
+    static int frontHealth(int pooledHealth, int memberCount, int memberHealth) {
+        int alive = aliveMembers(pooledHealth, memberCount, memberHealth);
+        return alive > 1 ? pooledHealth - (alive - 1) * memberHealth : pooledHealth;
+    }
+
+    static int aliveMembers(int pooledHealth, int memberCount, int memberHealth) {
+        if (pooledHealth <= 0) {
+            return 0;
+        }
+        return Math.min(memberCount, 1 + (pooledHealth - 1) / memberHealth);
+    }
+
+    public float getAnimationTime(int index) {
+        return animationTime[index];
+    }
+
+    public int getDirectionRow(int index) {
+        return directionRow[index];
+    }
+
+    /**
+     * Increases with every add, so it orders enemies by spawn time.
+     */
+    public int getSpawnSequence(int index) {
+        return spawnSequence[index];
+    }
+}
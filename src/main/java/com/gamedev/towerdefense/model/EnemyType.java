@@ -0,0 +1,46 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Shared, immutable stats for one kind of enemy. Every enemy of a type refers
+ * to it by {@link #getId()}; only per-instance state lives in the {@link EnemyStore}.
+ */
+public final class EnemyType {
+    /**
+     * Type id of enemies spawned with custom stats rather than from a type.
+     */
+    public static final int CUSTOM = -1;
+
+    private final int id;
+    private final String name;
+    private final int health;
+    private final float speed;
+    private final int reward;
+
+    EnemyType(int id, String name, int health, float speed, int reward) {
+        this.id = id;
+        this.name = name;
+        this.health = health;
+        this.speed = speed;
+        this.reward = reward;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public int getReward() {
+        return reward;
+    }
+}
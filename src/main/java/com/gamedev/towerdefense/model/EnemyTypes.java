@@ -0,0 +1,99 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.gamedev.towerdefense.config.GameConfig;
+
+/**
+ * The enemy types of a game, compiled once from config into {@link EnemyType}
+ * flyweights indexed by id. Names are resolved to ids here, at load time, so
+ * spawning never touches strings.
+ */
+public class EnemyTypes {
+    private final EnemyType[] types;
+    private final Map<String, Integer> idsByName = new HashMap<>();
+
+    public EnemyTypes(List<GameConfig.EnemyTypeConfig> configs) {
+        this(compile(configs));
+    }
+
+    private EnemyTypes(EnemyType[] types) {
+        this.types = types;
+        for (EnemyType type : types) {
+            String key = type.getName().toLowerCase(Locale.ROOT);
+            if (idsByName.put(key, type.getId()) != null) {
+                throw new IllegalArgumentException("Duplicate enemy type: " + type.getName());
+            }
+        }
+    }
+
+    private static EnemyType[] compile(List<GameConfig.EnemyTypeConfig> configs) {
+        if (configs == null || configs.isEmpty()) {
+            throw new IllegalArgumentException("At least one enemy type is required");
+        }
+        EnemyType[] compiled = new EnemyType[configs.size()];
+        for (int id = 0; id < compiled.length; id++) {
+            GameConfig.EnemyTypeConfig config = configs.get(id);
+            if (config.getName() == null || config.getName().isEmpty()) {
+                throw new IllegalArgumentException("Enemy type " + id + " has no name");
+            }
+            compiled[id] = new EnemyType(id, config.getName(), config.getHealth(), config.getSpeed(),
+                    config.getReward());
+        }
+        return compiled;
+    }
+
+    /**
+     * The types from {@code config}, or {@link #defaults()} when it declares none.
+     */
+    public static EnemyTypes fromConfig(GameConfig config) {
+        List<GameConfig.EnemyTypeConfig> configs = config != null ? config.getEnemyTypes() : null;
+        return configs != null && !configs.isEmpty() ? new EnemyTypes(configs) : defaults();
+    }
+
+    /**
+     * The basic, fast, tank and boss types the game shipped with before enemy
+     * types moved into config.
+     */
+    public static EnemyTypes defaults() {
+        return new EnemyTypes(new EnemyType[] {
+            new EnemyType(0, EnemyFactory.TYPE_BASIC, 100, 50f, 10),
+            new EnemyType(1, EnemyFactory.TYPE_FAST, 50, 100f, 15),
+            new EnemyType(2, EnemyFactory.TYPE_TANK, 300, 25f, 30),
+            new EnemyType(3, EnemyFactory.TYPE_BOSS, 1000, 20f, 100)
+        });
+    }
+
+    public EnemyType get(int id) {
+        return types[id];
+    }
+
+    /**
+     * Id of the type called {@code name}, ignoring case, or {@link EnemyType#CUSTOM}
+     * if there is none.
+     */
+    public int idOf(String name) {
+        Integer id = name != null ? idsByName.get(name.toLowerCase(Locale.ROOT)) : null;
+        return id != null ? id : EnemyType.CUSTOM;
+    }
+
+    /**
+     * The type unknown names fall back to: the first declared.
+     */
+    public EnemyType getDefault() {
+        return types[0];
+    }
+
+    public List<EnemyType> all() {
+        return new ArrayList<>(Arrays.asList(types));
+    }
+
+    public int size() {
+        return types.length;
+    }
+}
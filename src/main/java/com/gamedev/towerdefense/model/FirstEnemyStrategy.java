@@ -0,0 +1,18 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Targets the enemy in range that is furthest along its path, the one closest
+ * to getting through.
+ */
+public class FirstEnemyStrategy extends RankedTargetingStrategy {
+
+    @Override
+    protected float rank(float distanceSquared, float progress, int health) {
+        return -progress;
+    }
+
+    @Override
+    public int select(TargetQuery query) {
+        return ProgressOrder.select(query, true);
+    }
+}
@@ -0,0 +1,36 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Layout of the generational handles used by {@link EnemyStore} and
+ * {@link SlotMap}: a slot index in the low {@value #INDEX_BITS} bits and the
+ * slot's generation above it. A slot's generation advances every time it is
+ * freed, so a handle kept past its entity's removal stops resolving instead of
+ * silently pointing at whatever reuses the slot. Generations wrap after 2048
+ * reuses of one slot; the sign bit is never set, so {@link #NONE} never resolves.
+ */
+public final class Handles {
+    public static final int NONE = -1;
+    static final int INDEX_BITS = 20;
+    static final int MAX_SLOTS = 1 << INDEX_BITS;
+    private static final int INDEX_MASK = MAX_SLOTS - 1;
+    private static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;
+
+    private Handles() {
+    }
+
+    static int make(int index, int generation) {
+        return (generation << INDEX_BITS) | index;
+    }
+
+    public static int index(int handle) {
+        return handle & INDEX_MASK;
+    }
+
+    public static int generation(int handle) {
+        return handle >>> INDEX_BITS;
+    }
+
+    static int nextGeneration(int generation) {
+        return (generation + 1) & GENERATION_MASK;
+    }
+}
@@ -0,0 +1,349 @@
+package com.gamedev.towerdefense.model;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Projectiles, coins and anything else that flies toward a point, kept as
+ * parallel primitive arrays and advanced together by {@link #step(float)}.
+ * A mover either heads for a fixed point or homes on an enemy, re-reading the
+ * enemy's position from its {@link EnemyStore} every step. Movement is one
+ * {@link KinematicsBackend} pass over the arrays with no per-mover virtual
+ * calls, in SIMD lanes where the Vector API is available; what happens on
+ * arrival is up to the caller, which reads the movers that arrived during the
+ * last step through {@link #getArrival(int)} and handles them by kind.
+ * Movers are addressed by generational handles (see {@link Handles}) and stay
+ * in the arrays, no longer moving, after they arrive until they are removed.
+ */
+public class Kinematics {
+    public static final int NONE = Handles.NONE;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int size;
+    private float[] x;
+    private float[] y;
+    private float[] targetX;
+    private float[] targetY;
+    private float[] speed;
+    private float[] hitThresholdSquared;
+    private int[] kind;
+    private int[] payload;
+    private EnemyStore[] targetStore;
+    private int[] targetHandle;
+    private boolean[] arrived;
+    private boolean[] targetLost;
+    private int[] indexToHandle;
+    // Scratch for step: movers arriving this step, collected in index order afterwards.
+    private boolean[] arriving;
+    private KinematicsBackend backend = KinematicsBackends.preferred();
+
+    // Indexed by the handle's slot; NONE marks a free slot.
+    private int[] handleToIndex = new int[0];
+    private int[] generations = new int[0];
+    private int[] freeHandles = new int[0];
+    private int freeHandleCount;
+
+    private int[] arrivals;
+    private int arrivalCount;
+
+    public Kinematics() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Kinematics(int capacity) {
+        int initial = Math.max(1, capacity);
+        x = new float[initial];
+        y = new float[initial];
+        targetX = new float[initial];
+        targetY = new float[initial];
+        speed = new float[initial];
+        hitThresholdSquared = new float[initial];
+        kind = new int[initial];
+        payload = new int[initial];
+        targetStore = new EnemyStore[initial];
+        targetHandle = new int[initial];
+        arrived = new boolean[initial];
+        targetLost = new boolean[initial];
+        indexToHandle = new int[initial];
+        arriving = new boolean[initial];
+        arrivals = new int[initial];
+    }
+
+    /**
+     * Adds a mover heading for a fixed point and returns its handle. {@code kind}
+     * and {@code payload} are not interpreted here; they tell the caller how to
+     * handle the mover when it arrives.
+     */
+    public int add(int kind, float x, float y, float targetX, float targetY, float speed, float hitThreshold,
+            int payload) {
+        int handle = allocate();
+        int index = handleToIndex[Handles.index(handle)];
+        this.kind[index] = kind;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.targetX[index] = targetX;
+        this.targetY[index] = targetY;
+        this.speed[index] = speed;
+        this.hitThresholdSquared[index] = hitThreshold * hitThreshold;
+        this.payload[index] = payload;
+        this.targetStore[index] = null;
+        this.targetHandle[index] = EnemyStore.NONE;
+        this.arrived[index] = false;
+        this.targetLost[index] = false;
+        return handle;
+    }
+
+    /**
+     * Adds a mover homing on the enemy {@code targetHandle} in {@code store}. If
+     * that enemy is removed or dies first, the mover arrives with its target
+     * marked lost.
+     */
+    public int addHoming(int kind, float x, float y, EnemyStore store, int targetHandle, float speed,
+            float hitThreshold, int payload) {
+        int target = store.indexOf(targetHandle);
+        float startTargetX = target != EnemyStore.NONE ? store.getX(target) : x;
+        float startTargetY = target != EnemyStore.NONE ? store.getY(target) : y;
+        int handle = add(kind, x, y, startTargetX, startTargetY, speed, hitThreshold, payload);
+        int index = handleToIndex[Handles.index(handle)];
+        this.targetStore[index] = store;
+        this.targetHandle[index] = targetHandle;
+        return handle;
+    }
+
+    private int allocate() {
+        if (size == x.length) {
+            grow(size * 2);
+        }
+        if (freeHandleCount == 0) {
+            growHandles();
+        }
+        int slot = freeHandles[--freeHandleCount];
+        int handle = Handles.make(slot, generations[slot]);
+        int index = size++;
+        handleToIndex[slot] = index;
+        indexToHandle[index] = handle;
+        return handle;
+    }
+
+    private void growHandles() {
+        int used = handleToIndex.length;
+        if (used == Handles.MAX_SLOTS) {
+            throw new IllegalStateException("Kinematics is full: " + used + " handles");
+        }
+        int capacity = Math.min(Handles.MAX_SLOTS, Math.max(DEFAULT_CAPACITY, used * 2));
+        handleToIndex = Arrays.copyOf(handleToIndex, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        freeHandles = Arrays.copyOf(freeHandles, capacity);
+        Arrays.fill(handleToIndex, used, capacity, NONE);
+        // Hand out new handle slots in ascending order.
+        for (int slot = capacity - 1; slot >= used; slot--) {
+            freeHandles[freeHandleCount++] = slot;
+        }
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        hitThresholdSquared = Arrays.copyOf(hitThresholdSquared, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        payload = Arrays.copyOf(payload, capacity);
+        targetStore = Arrays.copyOf(targetStore, capacity);
+        targetHandle = Arrays.copyOf(targetHandle, capacity);
+        arrived = Arrays.copyOf(arrived, capacity);
+        targetLost = Arrays.copyOf(targetLost, capacity);
+        indexToHandle = Arrays.copyOf(indexToHandle, capacity);
+        arriving = new boolean[capacity];
+    }
+
+    /**
+     * Grows the arrays so at least {@code capacity} movers fit without resizing.
+     */
+    public void reserve(int capacity) {
+        if (capacity > x.length) {
+            grow(capacity);
+        }
+    }
+
+    /**
+     * Bulk-copies the columns {@link WorldStateBuffer} keeps into its word views,
+     * starting at word {@code at}.
+     */
+    void copyColumnsTo(FloatBuffer floats, IntBuffer ints, int at) {
+        floats.put(at + WorldStateBuffer.MOVER_X * size, x, 0, size);
+        floats.put(at + WorldStateBuffer.MOVER_Y * size, y, 0, size);
+        floats.put(at + WorldStateBuffer.MOVER_TARGET_X * size, targetX, 0, size);
+        floats.put(at + WorldStateBuffer.MOVER_TARGET_Y * size, targetY, 0, size);
+        floats.put(at + WorldStateBuffer.MOVER_SPEED * size, speed, 0, size);
+        ints.put(at + WorldStateBuffer.MOVER_KIND * size, kind, 0, size);
+    }
+
+    public KinematicsBackend getBackend() {
+        return backend;
+    }
+
+    public void setBackend(KinematicsBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Removes the mover. The last slot moves into its place, so removing while
+     * iterating indices is safe only when walking backwards.
+     */
+    public void remove(int handle) {
+        int index = indexOf(handle);
+        if (index == NONE) {
+            throw new IllegalArgumentException("Unknown mover handle: " + handle);
+        }
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            targetX[index] = targetX[last];
+            targetY[index] = targetY[last];
+            speed[index] = speed[last];
+            hitThresholdSquared[index] = hitThresholdSquared[last];
+            kind[index] = kind[last];
+            payload[index] = payload[last];
+            targetStore[index] = targetStore[last];
+            targetHandle[index] = targetHandle[last];
+            arrived[index] = arrived[last];
+            targetLost[index] = targetLost[last];
+            int movedHandle = indexToHandle[last];
+            indexToHandle[index] = movedHandle;
+            handleToIndex[Handles.index(movedHandle)] = index;
+        }
+        targetStore[last] = null;
+        int slot = Handles.index(handle);
+        handleToIndex[slot] = NONE;
+        generations[slot] = Handles.nextGeneration(generations[slot]);
+        freeHandles[freeHandleCount++] = slot;
+    }
+
+    /**
+     * Advances every mover that has not arrived by {@code speed * deltaTime}
+     * toward its target, and returns how many arrived during this step. A mover
+     * arrives once it starts a step within its hit threshold of the target, or
+     * when its homing target is gone.
+     */
+    public int step(float deltaTime) {
+        arrivalCount = 0;
+        // Locals let the JIT keep the arrays in registers across the store calls.
+        float[] targetX = this.targetX;
+        float[] targetY = this.targetY;
+        EnemyStore[] targetStore = this.targetStore;
+        int[] targetHandle = this.targetHandle;
+        boolean[] arrived = this.arrived;
+        boolean[] arriving = this.arriving;
+        int count = size;
+        // Homing targets are looked up one by one; a lost target arrives now
+        // and takes no further part in the step.
+        for (int i = 0; i < count; i++) {
+            EnemyStore store = targetStore[i];
+            if (store == null || arrived[i]) {
+                continue;
+            }
+            int target = store.indexOf(targetHandle[i]);
+            if (target == EnemyStore.NONE || store.getHealth(target) <= 0) {
+                targetLost[i] = true;
+                arrived[i] = true;
+                arriving[i] = true;
+                continue;
+            }
+            targetX[i] = store.getX(target);
+            targetY[i] = store.getY(target);
+        }
+
+        backend.stepTowards(x, y, targetX, targetY, speed, hitThresholdSquared, arrived, arriving, count,
+                deltaTime);
+
+        for (int i = 0; i < count; i++) {
+            if (arriving[i]) {
+                arriving[i] = false;
+                arrive(i);
+            }
+        }
+        return arrivalCount;
+    }
+
+    private void arrive(int index) {
+        arrived[index] = true;
+        if (arrivalCount == arrivals.length) {
+            arrivals = Arrays.copyOf(arrivals, arrivals.length * 2);
+        }
+        arrivals[arrivalCount++] = indexToHandle[index];
+    }
+
+    /**
+     * Handle of the {@code n}th mover that arrived during the last {@link #step}.
+     */
+    public int getArrival(int n) {
+        return arrivals[n];
+    }
+
+    public int getArrivalCount() {
+        return arrivalCount;
+    }
+
+    public int indexOf(int handle) {
+        if (handle < 0) {
+            return NONE;
+        }
+        int slot = Handles.index(handle);
+        if (slot >= handleToIndex.length || generations[slot] != Handles.generation(handle)) {
+            return NONE;
+        }
+        return handleToIndex[slot];
+    }
+
+    public boolean contains(int handle) {
+        return indexOf(handle) != NONE;
+    }
+
+    public int handleAt(int index) {
+        return indexToHandle[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public int getKind(int index) {
+        return kind[index];
+    }
+
+    public int getPayload(int index) {
+        return payload[index];
+    }
+
+    public EnemyStore getTargetStore(int index) {
+        return targetStore[index];
+    }
+
+    public int getTargetHandle(int index) {
+        return targetHandle[index];
+    }
+
+    public boolean isArrived(int index) {
+        return arrived[index];
+    }
+
+    /**
+     * Whether the mover arrived because its homing target was removed or died,
+     * rather than by reaching it.
+     */
+    public boolean isTargetLost(int index) {
+        return targetLost[index];
+    }
+}
@@ -0,0 +1,30 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * The arithmetic of per-tick movement over primitive arrays, kept apart from
+ * the stores so it can run scalar or in SIMD lanes. Both kernels only touch
+ * entries {@code 0..count-1} and must give the same results whichever backend
+ * runs them. {@link KinematicsBackends#preferred()} picks the backend.
+ */
+public interface KinematicsBackend {
+
+    /**
+     * Advances enemies along a path of length {@code pathLength}: adds
+     * {@code deltaTime} to every animation time and {@code speed * deltaTime / pathLength}
+     * to every progress below 1, clamping at 1. Sets {@code moved[i]} to whether
+     * enemy {@code i} was still below 1, and so needs its position resampled.
+     */
+    void advanceProgress(float[] progress, float[] speed, float[] animationTime, boolean[] moved, int count,
+            float deltaTime, float pathLength);
+
+    /**
+     * Moves every mover that has not {@code arrived} by {@code speed * deltaTime}
+     * toward its target, without overshooting. A mover that starts within its
+     * squared hit threshold of the target stays put and gets {@code arriving[i]}
+     * set instead. {@code arriving} is only ever set, never cleared.
+     */
+    void stepTowards(float[] x, float[] y, float[] targetX, float[] targetY, float[] speed,
+            float[] hitThresholdSquared, boolean[] arrived, boolean[] arriving, int count, float deltaTime);
+
+    String getName();
+}
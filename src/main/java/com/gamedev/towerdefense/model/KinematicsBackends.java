@@ -0,0 +1,44 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Chooses the {@link KinematicsBackend}: the vector one when the JVM was started
+ * with {@code --add-modules jdk.incubator.vector}, otherwise the scalar one.
+ */
+public final class KinematicsBackends {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final KinematicsBackend SCALAR = new ScalarKinematicsBackend();
+    private static final KinematicsBackend VECTOR = loadVector();
+
+    private KinematicsBackends() {
+    }
+
+    public static KinematicsBackend preferred() {
+        return VECTOR != null ? VECTOR : SCALAR;
+    }
+
+    public static KinematicsBackend scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * The vector backend, or null when the Vector API module is not available.
+     */
+    public static KinematicsBackend vector() {
+        return VECTOR;
+    }
+
+    // Loaded by name so the Vector API classes are never touched without the module.
+    // It is built in the separate vector source set, the only one compiled against it.
+    private static KinematicsBackend loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (KinematicsBackend) Class.forName("com.gamedev.towerdefense.model.VectorKinematicsBackend")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            System.err.println("Vector kinematics unavailable, using scalar: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Targets the enemy in range that is least far along its path, the newest
+ * arrival in the tower's reach.
+ */
+public class LastEnemyStrategy extends RankedTargetingStrategy {
+
+    @Override
+    protected float rank(float distanceSquared, float progress, int health) {
+        return progress;
+    }
+
+    @Override
+    public int select(TargetQuery query) {
+        return ProgressOrder.select(query, false);
+    }
+}
@@ -4,6 +4,10 @@ import java.util.List;
 
 public class LinearPath extends Path {
     private float cachedLength;
+    // cumulativeLengths[i] is the distance from the start of the path to waypoint i.
+    private float[] cumulativeLengths;
+    private float[] directionX;
+    private float[] directionY;
 
     public LinearPath(List<Position> positions) {
         super(positions);
@@ -16,14 +20,39 @@ public class LinearPath extends Path {
     }
 
     private void calculateLength() {
-        if (positions.size() < 2) {
-            cachedLength = 0f;
-            return;
-        }
+        int segmentCount = Math.max(0, positions.size() - 1);
+        cumulativeLengths = new float[segmentCount + 1];
+        directionX = new float[segmentCount];
+        directionY = new float[segmentCount];
         cachedLength = 0f;
-        for (int i = 0; i < positions.size() - 1; i++) {
-            cachedLength += Position.distance(positions.get(i), positions.get(i + 1));
+        for (int i = 0; i < segmentCount; i++) {
+            Position p1 = positions.get(i);
+            Position p2 = positions.get(i + 1);
+            float segmentLength = Position.distance(p1, p2);
+            if (segmentLength > 0f) {
+                directionX[i] = (p2.getX() - p1.getX()) / segmentLength;
+                directionY[i] = (p2.getY() - p1.getY()) / segmentLength;
+            }
+            cachedLength += segmentLength;
+            cumulativeLengths[i + 1] = cachedLength;
+        }
+    }
+
+    /**
+     * Returns the first segment whose end lies at or beyond {@code targetDistance}.
+     */
+    private int findSegmentForDistance(float targetDistance) {
+        int low = 0;
+        int high = cumulativeLengths.length - 2;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeLengths[mid + 1] >= targetDistance) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
         }
+        return low;
     }
 
     @Override
@@ -43,27 +72,49 @@ public class LinearPath extends Path {
             return new Position(last.getX(), last.getY());
         }
 
-        float totalLength = cachedLength;
-        float targetDistance = totalLength * t;
+        float targetDistance = cachedLength * t;
+        int segmentIndex = findSegmentForDistance(targetDistance);
+        float localDistance = targetDistance - cumulativeLengths[segmentIndex];
+        Position p1 = positions.get(segmentIndex);
+        return new Position(p1.getX() + directionX[segmentIndex] * localDistance,
+                p1.getY() + directionY[segmentIndex] * localDistance);
+    }
 
-        float accumulatedDistance = 0f;
-        for (int i = 0; i < positions.size() - 1; i++) {
-            Position p1 = positions.get(i);
-            Position p2 = positions.get(i + 1);
-            float segmentLength = Position.distance(p1, p2);
+    @Override
+    public void sample(float t, PathSample out) {
+        t = Math.max(0f, Math.min(1f, t));
 
-            if (accumulatedDistance + segmentLength >= targetDistance) {
-                float localT = (targetDistance - accumulatedDistance) / segmentLength;
-                float x = p1.getX() + (p2.getX() - p1.getX()) * localT;
-                float y = p1.getY() + (p2.getY() - p1.getY()) * localT;
-                return new Position(x, y);
-            }
+        if (positions.size() == 1) {
+            Position only = positions.get(0);
+            out.set(only.getX(), only.getY(), 0f, 0f);
+            return;
+        }
 
-            accumulatedDistance += segmentLength;
+        if (t >= 1f) {
+            int lastSegment = positions.size() - 2;
+            Position last = positions.get(positions.size() - 1);
+            out.set(last.getX(), last.getY(), directionX[lastSegment], directionY[lastSegment]);
+            return;
         }
 
-        Position last = positions.get(positions.size() - 1);
-        return new Position(last.getX(), last.getY());
+        float targetDistance = cachedLength * t;
+        int segmentIndex = t <= 0f ? 0 : findSegmentForDistance(targetDistance);
+        float localDistance = Math.max(0f, targetDistance - cumulativeLengths[segmentIndex]);
+        Position p1 = positions.get(segmentIndex);
+        out.set(p1.getX() + directionX[segmentIndex] * localDistance,
+                p1.getY() + directionY[segmentIndex] * localDistance,
+                directionX[segmentIndex], directionY[segmentIndex]);
+    }
+
+    @Override
+    PathSegmentTree buildSegmentTree() {
+        float[] pointX = new float[positions.size()];
+        float[] pointY = new float[positions.size()];
+        for (int i = 0; i < positions.size(); i++) {
+            pointX[i] = positions.get(i).getX();
+            pointY[i] = positions.get(i).getY();
+        }
+        return new PathSegmentTree(pointX, pointY, cumulativeLengths);
     }
 
     @Override
@@ -1,11 +1,45 @@
 package com.gamedev.towerdefense.model;
 
-public class MoneyCoin extends MovingObject {
+public class MoneyCoin extends MovingObject implements Poolable {
+    /**
+     * {@link Kinematics} kind of attached coins; the reward is their payload.
+     */
+    public static final int KIND = 2;
+    private static final float HIT_THRESHOLD = 10f;
+
     private int reward;
 
     public MoneyCoin(Position startPos, Position targetPos, float speed, int reward) {
-        super(startPos, targetPos, speed);
+        init(startPos, targetPos, speed, reward);
+    }
+
+    /**
+     * An unused coin for an {@link ObjectPool}; call {@link #init} before use.
+     */
+    public MoneyCoin() {
+    }
+
+    public MoneyCoin init(Position startPos, Position targetPos, float speed, int reward) {
+        init(startPos, targetPos, speed);
+        this.reward = reward;
+        return this;
+    }
+
+    /**
+     * As {@link #init(Position, Position, float, int)}, starting from raw
+     * coordinates so callers need not allocate a start position.
+     */
+    public MoneyCoin init(float startX, float startY, Position targetPos, float speed, int reward) {
+        init(startX, startY, targetPos.getX(), targetPos.getY(), speed);
         this.reward = reward;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        detach();
+        hasReachedTarget = true;
+        reward = 0;
     }
 
     @Override
@@ -14,7 +48,13 @@ public class MoneyCoin extends MovingObject {
 
     @Override
     protected float getHitThreshold() {
-        return 10f;
+        return HIT_THRESHOLD;
+    }
+
+    @Override
+    protected int addTo(Kinematics kinematics) {
+        return kinematics.add(KIND, position.getX(), position.getY(), targetPosition.getX(), targetPosition.getY(),
+                speed, HIT_THRESHOLD, reward);
     }
 
     @Override
@@ -1,28 +1,53 @@
 package com.gamedev.towerdefense.model;
 
+/**
+ * Something flying toward a target. A detached object moves itself, one
+ * {@link #update} at a time. Once {@link #attach attached} to a
+ * {@link Kinematics}, its state lives there and that system's
+ * {@link Kinematics#step} moves it along with every other mover.
+ */
 public abstract class MovingObject {
-    protected Position position;
-    protected Position targetPosition;
+    protected final MutablePosition position = new MutablePosition();
+    protected final MutablePosition targetPosition = new MutablePosition();
     protected float speed;
     protected boolean hasReachedTarget;
+    private Kinematics kinematics;
+    private int mover = Kinematics.NONE;
 
     protected MovingObject(Position startPos, Position targetPos, float speed) {
-        this.position = new Position(startPos.getX(), startPos.getY());
-        this.targetPosition = new Position(targetPos.getX(), targetPos.getY());
+        init(startPos, targetPos, speed);
+    }
+
+    /**
+     * For pooled subclasses, which call {@link #init} before each use.
+     */
+    protected MovingObject() {
+    }
+
+    protected void init(Position startPos, Position targetPos, float speed) {
+        init(startPos.getX(), startPos.getY(), targetPos.getX(), targetPos.getY(), speed);
+    }
+
+    protected void init(float startX, float startY, float targetX, float targetY, float speed) {
+        detach();
+        this.position.set(startX, startY);
+        this.targetPosition.set(targetX, targetY);
         this.speed = speed;
         this.hasReachedTarget = false;
     }
 
+    /**
+     * Moves a detached object. Attached objects are moved by their
+     * {@link Kinematics}, so this does nothing for them.
+     */
     public void update(float deltaTime) {
-        if (hasReachedTarget) {
+        if (hasReachedTarget || kinematics != null) {
             return;
         }
 
         updateTarget();
 
-        float dx = targetPosition.getX() - position.getX();
-        float dy = targetPosition.getY() - position.getY();
-        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        float distance = (float) Math.sqrt(position.distanceSquared(targetPosition.getX(), targetPosition.getY()));
 
         if (distance < getHitThreshold()) {
             onReachTarget();
@@ -30,9 +55,7 @@ public abstract class MovingObject {
         } else {
             float moveDistance = speed * deltaTime;
             float ratio = Math.min(moveDistance / distance, 1f);
-            float newX = position.getX() + dx * ratio;
-            float newY = position.getY() + dy * ratio;
-            position = new Position(newX, newY);
+            position.lerp(targetPosition.getX(), targetPosition.getY(), ratio);
         }
     }
 
@@ -42,11 +65,73 @@ public abstract class MovingObject {
 
     protected abstract void onReachTarget();
 
+    /**
+     * Moves this object's state into {@code kinematics}, which moves it from
+     * then on. Arrival effects are then the caller's job; see {@link Kinematics}.
+     */
+    public void attach(Kinematics kinematics) {
+        if (this.kinematics != null) {
+            throw new IllegalStateException("Already attached to a Kinematics");
+        }
+        this.mover = addTo(kinematics);
+        this.kinematics = kinematics;
+    }
+
+    /**
+     * Adds this object as a mover and returns its handle. Called once, on
+     * attach; homing subclasses override it to add a homing mover.
+     */
+    protected int addTo(Kinematics kinematics) {
+        return kinematics.add(0, position.getX(), position.getY(), targetPosition.getX(), targetPosition.getY(),
+                speed, getHitThreshold(), 0);
+    }
+
+    /**
+     * Removes this object from its {@link Kinematics}, if any, keeping its last
+     * position and arrival state.
+     */
+    protected void detach() {
+        if (kinematics == null) {
+            return;
+        }
+        int index = kinematics.indexOf(mover);
+        if (index != Kinematics.NONE) {
+            position.set(kinematics.getX(index), kinematics.getY(index));
+            hasReachedTarget = kinematics.isArrived(index);
+            kinematics.remove(mover);
+        }
+        kinematics = null;
+        mover = Kinematics.NONE;
+    }
+
+    public boolean isAttached() {
+        return kinematics != null;
+    }
+
+    /**
+     * This object's handle in its {@link Kinematics}, or {@link Kinematics#NONE}.
+     */
+    public int getMoverHandle() {
+        return mover;
+    }
+
+    /**
+     * Snapshot of the current position. Per-frame callers should prefer
+     * {@link #getX()} and {@link #getY()}, which do not allocate.
+     */
     public Position getPosition() {
-        return position;
+        return new Position(getX(), getY());
+    }
+
+    public float getX() {
+        return kinematics != null ? kinematics.getX(kinematics.indexOf(mover)) : position.getX();
+    }
+
+    public float getY() {
+        return kinematics != null ? kinematics.getY(kinematics.indexOf(mover)) : position.getY();
     }
 
     public boolean hasReachedTarget() {
-        return hasReachedTarget;
+        return kinematics != null ? kinematics.isArrived(kinematics.indexOf(mover)) : hasReachedTarget;
     }
 }
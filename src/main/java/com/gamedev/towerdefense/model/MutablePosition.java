@@ -0,0 +1,60 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Simulation-side counterpart of {@link Position} that is updated in place, so
+ * per-tick movement does not allocate. Convert with {@link #toPosition()} when an
+ * immutable snapshot is needed.
+ */
+public final class MutablePosition {
+    private float x;
+    private float y;
+
+    public MutablePosition() {
+    }
+
+    public MutablePosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutablePosition set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public MutablePosition set(Position position) {
+        return set(position.getX(), position.getY());
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float distanceSquared(float otherX, float otherY) {
+        return distanceSquared(x, y, otherX, otherY);
+    }
+
+    /**
+     * Moves {@code t} of the way towards (targetX, targetY); 0 stays put, 1 arrives.
+     */
+    public MutablePosition lerp(float targetX, float targetY, float t) {
+        x += (targetX - x) * t;
+        y += (targetY - y) * t;
+        return this;
+    }
+
+    public Position toPosition() {
+        return new Position(x, y);
+    }
+
+    public static float distanceSquared(float ax, float ay, float bx, float by) {
+        float dx = bx - ax;
+        float dy = by - ay;
+        return dx * dx + dy * dy;
+    }
+}
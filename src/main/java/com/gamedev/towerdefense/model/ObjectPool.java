@@ -0,0 +1,55 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Free list of reusable objects. {@link #obtain()} hands back a freed object
+ * when one is available (a hit) and only creates a new one otherwise (a miss).
+ */
+public class ObjectPool<T extends Poolable> {
+    private final Supplier<T> factory;
+    private final List<T> free = new ArrayList<>();
+    private int hits;
+    private int misses;
+
+    public ObjectPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates objects up front until at least {@code count} are free.
+     */
+    public void prewarm(int count) {
+        while (free.size() < count) {
+            free.add(factory.get());
+        }
+    }
+
+    public T obtain() {
+        if (free.isEmpty()) {
+            misses++;
+            return factory.get();
+        }
+        hits++;
+        return free.remove(free.size() - 1);
+    }
+
+    public void free(T object) {
+        object.reset();
+        free.add(object);
+    }
+
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
@@ -5,7 +5,11 @@ import java.util.Arrays;
 import java.util.List;
 
 public abstract class Path {
+    // Spacing of the generic polyline used for projection when a subclass has none of its own.
+    private static final float PROJECTION_SPACING = 1f;
+
     protected List<Position> positions;
+    private PathSegmentTree segmentTree;
 
     protected Path(List<Position> positions) {
         if (positions == null || positions.isEmpty()) {
@@ -23,8 +27,51 @@ public abstract class Path {
 
     public abstract Position getPositionAt(float t);
 
+    /**
+     * Writes the position and unit tangent at progress {@code t} into {@code out}
+     * without allocating. The tangent is zero when the path has no direction there.
+     */
+    public abstract void sample(float t, PathSample out);
+
     public abstract float getPathLength();
 
+    /**
+     * Finds the point on the path closest to (x, y) and writes it, its progress and
+     * its distance into {@code out}. Runs in O(log n) over the path's segments; the
+     * segment tree is built on first use.
+     */
+    public void project(float x, float y, PathProjection out) {
+        getSegmentTree().project(x, y, out);
+    }
+
+    PathSegmentTree getSegmentTree() {
+        if (segmentTree == null) {
+            segmentTree = buildSegmentTree();
+        }
+        return segmentTree;
+    }
+
+    /**
+     * Builds the projection tree from a polyline resampled every
+     * {@link #PROJECTION_SPACING} units. Subclasses with their own polyline override this.
+     */
+    PathSegmentTree buildSegmentTree() {
+        float length = getPathLength();
+        int steps = Math.max(positions.size() - 1, (int) Math.ceil(length / PROJECTION_SPACING));
+        float[] pointX = new float[steps + 1];
+        float[] pointY = new float[steps + 1];
+        float[] cumulative = new float[steps + 1];
+        PathSample sample = new PathSample();
+        for (int i = 0; i <= steps; i++) {
+            float t = steps > 0 ? (float) i / steps : 0f;
+            sample(t, sample);
+            pointX[i] = sample.getX();
+            pointY[i] = sample.getY();
+            cumulative[i] = length * t;
+        }
+        return new PathSegmentTree(pointX, pointY, cumulative);
+    }
+
     public List<Position> getWaypoints() {
         return new ArrayList<>(positions);
     }
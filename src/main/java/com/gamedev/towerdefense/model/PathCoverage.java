@@ -0,0 +1,74 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+/**
+ * The parts of a path, as sorted progress intervals, that lie within range of a
+ * fixed point. Lets a tower decide whether an enemy can be in range from its path
+ * progress alone. Intervals are padded slightly, so they may include enemies just
+ * outside the range but never miss one inside it.
+ */
+public class PathCoverage {
+    private static final float PADDING = 1f;
+
+    private final Path path;
+    private final float[] starts;
+    private final float[] ends;
+
+    public PathCoverage(Path path, Position center, float range) {
+        this.path = path;
+        float[] arcs = path.getSegmentTree().coverage(center.getX(), center.getY(), range);
+        float length = path.getPathLength();
+
+        float[] mergedStarts = new float[arcs.length / 2];
+        float[] mergedEnds = new float[arcs.length / 2];
+        int count = 0;
+        for (int i = 0; i < arcs.length; i += 2) {
+            float start = length > 0f ? Math.max(0f, (arcs[i] - PADDING) / length) : 0f;
+            float end = length > 0f ? Math.min(1f, (arcs[i + 1] + PADDING) / length) : 1f;
+            if (count > 0 && start <= mergedEnds[count - 1]) {
+                mergedEnds[count - 1] = Math.max(mergedEnds[count - 1], end);
+            } else {
+                mergedStarts[count] = start;
+                mergedEnds[count] = end;
+                count++;
+            }
+        }
+        this.starts = Arrays.copyOf(mergedStarts, count);
+        this.ends = Arrays.copyOf(mergedEnds, count);
+    }
+
+    public boolean contains(float progress) {
+        // Towers cover only a handful of stretches and enemies arrive in no particular
+        // progress order, so a branch-free scan beats a search that mispredicts.
+        boolean inside = false;
+        for (int i = 0; i < starts.length; i++) {
+            inside |= (progress >= starts[i]) & (progress <= ends[i]);
+        }
+        return inside;
+    }
+
+    /**
+     * Prefilter for targeting: false only when the enemy is on this path and
+     * its progress lies outside every interval. Enemies on other paths pass.
+     */
+    public boolean mayCover(Enemy enemy) {
+        return enemy.getPath() != path || contains(enemy.getPathProgress());
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getIntervalCount() {
+        return starts.length;
+    }
+
+    public float getIntervalStart(int index) {
+        return starts[index];
+    }
+
+    public float getIntervalEnd(int index) {
+        return ends[index];
+    }
+}
@@ -0,0 +1,187 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Grid of distances from world points to the nearest of one or more paths,
+ * baked once from the paths' actual (curved) geometry. Queries inside the world cost one bilinear lookup.
+ * Distances saturate at {@code maxDistance}, so the field only answers
+ * "is this point within maxDistance of the path" questions. Interpolation can
+ * be off by up to a cell, so cells are kept to a fraction of
+ * {@code maxDistance} whatever the world size; only tiles within
+ * {@code maxDistance} of a path are stored, the rest read as saturated.
+ */
+public class PathDistanceField {
+    private static final float MIN_CELL_SIZE = 4f;
+    private static final int MAX_CELLS_PER_AXIS = 1024;
+    // Cells never grow past maxDistance / this, however large the world.
+    private static final float CELLS_PER_MAX_DISTANCE = 10f;
+    // Tiles are TILE_SIZE x TILE_SIZE corners.
+    private static final int TILE_SHIFT = 5;
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    private static final float POLYLINE_STEP = 2f;
+
+    private final float worldWidth;
+    private final float worldHeight;
+    private final float maxDistance;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    // Distances at cell corners, in tiles of TILE_SIZE x TILE_SIZE corners,
+    // row-major; a null tile is saturated at maxDistance throughout.
+    private final float[][] tiles;
+    private final int tileColumns;
+    private int storedTiles;
+    private final List<Path> paths;
+    private final PathProjection projection = new PathProjection();
+
+    public PathDistanceField(Path path, float worldWidth, float worldHeight, float maxDistance) {
+        this(Collections.singletonList(path), worldWidth, worldHeight, maxDistance);
+    }
+
+    public PathDistanceField(List<Path> paths, float worldWidth, float worldHeight, float maxDistance) {
+        if (worldWidth <= 0f || worldHeight <= 0f) {
+            throw new IllegalArgumentException("World size must be positive: " + worldWidth + "x" + worldHeight);
+        }
+        this.paths = new ArrayList<>(paths);
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.maxDistance = maxDistance;
+        this.cellSize = Math.max(MIN_CELL_SIZE, Math.min(Math.max(worldWidth, worldHeight) / MAX_CELLS_PER_AXIS,
+                maxDistance / CELLS_PER_MAX_DISTANCE));
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.tileColumns = (columns >> TILE_SHIFT) + 1;
+        this.tiles = new float[tileColumns * ((rows >> TILE_SHIFT) + 1)][];
+
+        PathSample sample = new PathSample();
+        for (Path path : paths) {
+            int steps = Math.max(1, (int) Math.ceil(path.getPathLength() / POLYLINE_STEP));
+            path.sample(0f, sample);
+            float previousX = sample.getX();
+            float previousY = sample.getY();
+            for (int i = 1; i <= steps; i++) {
+                path.sample((float) i / steps, sample);
+                rasterizeSegment(previousX, previousY, sample.getX(), sample.getY());
+                previousX = sample.getX();
+                previousY = sample.getY();
+            }
+        }
+    }
+
+    private void rasterizeSegment(float ax, float ay, float bx, float by) {
+        int minColumn = Math.max(0, (int) Math.floor((Math.min(ax, bx) - maxDistance) / cellSize));
+        int maxColumn = Math.min(columns, (int) Math.ceil((Math.max(ax, bx) + maxDistance) / cellSize));
+        int minRow = Math.max(0, (int) Math.floor((Math.min(ay, by) - maxDistance) / cellSize));
+        int maxRow = Math.min(rows, (int) Math.ceil((Math.max(ay, by) + maxDistance) / cellSize));
+
+        for (int row = minRow; row <= maxRow; row++) {
+            float y = row * cellSize;
+            for (int column = minColumn; column <= maxColumn; column++) {
+                float distance = distanceToSegment(column * cellSize, y, ax, ay, bx, by);
+                if (distance < maxDistance) {
+                    float[] tile = tileFor(column, row);
+                    int offset = ((row & TILE_MASK) << TILE_SHIFT) | (column & TILE_MASK);
+                    if (distance < tile[offset]) {
+                        tile[offset] = distance;
+                    }
+                }
+            }
+        }
+    }
+
+    private float[] tileFor(int column, int row) {
+        int index = (row >> TILE_SHIFT) * tileColumns + (column >> TILE_SHIFT);
+        float[] tile = tiles[index];
+        if (tile == null) {
+            tile = new float[TILE_SIZE * TILE_SIZE];
+            Arrays.fill(tile, maxDistance);
+            tiles[index] = tile;
+            storedTiles++;
+        }
+        return tile;
+    }
+
+    private float corner(int column, int row) {
+        float[] tile = tiles[(row >> TILE_SHIFT) * tileColumns + (column >> TILE_SHIFT)];
+        return tile != null ? tile[((row & TILE_MASK) << TILE_SHIFT) | (column & TILE_MASK)] : maxDistance;
+    }
+
+    /**
+     * Distance from (x, y) to the path, capped at {@link #getMaxDistance()}.
+     */
+    public float distanceAt(float x, float y) {
+        if (x < 0f || y < 0f || x > worldWidth || y > worldHeight) {
+            return exactDistance(x, y);
+        }
+
+        float gridX = x / cellSize;
+        float gridY = y / cellSize;
+        int column = Math.min((int) gridX, columns - 1);
+        int row = Math.min((int) gridY, rows - 1);
+        float fx = gridX - column;
+        float fy = gridY - row;
+
+        float d00 = corner(column, row);
+        float d10 = corner(column + 1, row);
+        float d01 = corner(column, row + 1);
+        float d11 = corner(column + 1, row + 1);
+
+        float bottom = d00 + (d10 - d00) * fx;
+        float top = d01 + (d11 - d01) * fx;
+        return bottom + (top - bottom) * fy;
+    }
+
+    private float exactDistance(float x, float y) {
+        float best = maxDistance;
+        for (Path path : paths) {
+            path.project(x, y, projection);
+            best = Math.min(best, projection.getDistance());
+        }
+        return best;
+    }
+
+    private static float distanceToSegment(float px, float py, float ax, float ay, float bx, float by) {
+        float abx = bx - ax;
+        float aby = by - ay;
+        float lengthSquared = abx * abx + aby * aby;
+        float param = 0f;
+        if (lengthSquared > 0f) {
+            param = Math.max(0f, Math.min(1f, ((px - ax) * abx + (py - ay) * aby) / lengthSquared));
+        }
+        float dx = px - (ax + param * abx);
+        float dy = py - (ay + param * aby);
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    public float getMaxDistance() {
+        return maxDistance;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * How many tiles of corners are stored; the rest of the world reads as saturated.
+     */
+    public int getStoredTiles() {
+        return storedTiles;
+    }
+
+    public int getTileCount() {
+        return tiles.length;
+    }
+}
@@ -0,0 +1,106 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The set of lanes enemies can walk. Each lane owns its path and the store of
+ * enemies currently on it, so per-lane work (targeting, leak checks, drawing)
+ * only touches that lane's enemies.
+ */
+public class PathNetwork {
+    private final List<Lane> lanes = new ArrayList<>();
+    private final List<Path> paths = new ArrayList<>();
+    private final Map<String, Lane> lanesById = new HashMap<>();
+    private final Map<Path, Lane> lanesByPath = new IdentityHashMap<>();
+    // Handed out every tick, so built once rather than wrapped per call.
+    private final List<Lane> laneView = Collections.unmodifiableList(lanes);
+    private final List<Path> pathView = Collections.unmodifiableList(paths);
+
+    public static class Lane {
+        private final String id;
+        private final Path path;
+        private final EnemyStore store;
+        private final List<Enemy> enemies;
+
+        Lane(String id, Path path) {
+            this.id = id;
+            this.path = path;
+            this.store = new EnemyStore(path);
+            this.enemies = store.asList();
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public EnemyStore getStore() {
+            return store;
+        }
+
+        /**
+         * The lane's enemies as {@link Enemy} views, for code that is not on a hot
+         * path. Adding an enemy moves it into the lane's store.
+         */
+        public List<Enemy> getEnemies() {
+            return enemies;
+        }
+    }
+
+    public Lane addLane(String id, Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Lane path must not be null");
+        }
+        if (id != null && lanesById.containsKey(id)) {
+            throw new IllegalArgumentException("Duplicate lane id: " + id);
+        }
+        Lane lane = new Lane(id, path);
+        lanes.add(lane);
+        paths.add(path);
+        lanesByPath.put(path, lane);
+        if (id != null) {
+            lanesById.put(id, lane);
+        }
+        return lane;
+    }
+
+    public Lane getDefaultLane() {
+        return lanes.isEmpty() ? null : lanes.get(0);
+    }
+
+    /**
+     * Lane with the given id, or the default lane when {@code id} is null or unknown.
+     */
+    public Lane getLane(String id) {
+        Lane lane = id != null ? lanesById.get(id) : null;
+        return lane != null ? lane : getDefaultLane();
+    }
+
+    public Lane getLane(Path path) {
+        return lanesByPath.get(path);
+    }
+
+    public List<Lane> getLanes() {
+        return laneView;
+    }
+
+    public List<Path> getPaths() {
+        return pathView;
+    }
+
+    public int getEnemyCount() {
+        int count = 0;
+        for (int i = 0; i < lanes.size(); i++) {
+            count += lanes.get(i).store.size();
+        }
+        return count;
+    }
+}
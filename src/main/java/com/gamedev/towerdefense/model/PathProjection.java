@@ -0,0 +1,40 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Reusable result buffer for {@link Path#project(float, float, PathProjection)}:
+ * the closest point on the path to a query point, its progress along the path
+ * and the distance to it.
+ */
+public class PathProjection {
+    private float x;
+    private float y;
+    private float progress;
+    private float distance;
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Arc-length progress of the closest point, in the same 0..1 range as
+     * {@link Path#getPositionAt(float)}.
+     */
+    public float getProgress() {
+        return progress;
+    }
+
+    public float getDistance() {
+        return distance;
+    }
+
+    void set(float x, float y, float progress, float distance) {
+        this.x = x;
+        this.y = y;
+        this.progress = progress;
+        this.distance = distance;
+    }
+}
@@ -0,0 +1,45 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Reusable result buffer for {@link Path#sample(float, PathSample)}: a point on the
+ * path together with the unit tangent (direction of travel) at that point.
+ */
+public class PathSample {
+    private float x;
+    private float y;
+    private float tangentX;
+    private float tangentY;
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getTangentX() {
+        return tangentX;
+    }
+
+    public float getTangentY() {
+        return tangentY;
+    }
+
+    public boolean hasTangent() {
+        return tangentX != 0f || tangentY != 0f;
+    }
+
+    void set(float x, float y, float directionX, float directionY) {
+        this.x = x;
+        this.y = y;
+        float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+        if (length > 0f) {
+            this.tangentX = directionX / length;
+            this.tangentY = directionY / length;
+        } else {
+            this.tangentX = 0f;
+            this.tangentY = 0f;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+/**
+ * Bounding-volume hierarchy over the segments of a path polyline. Segments stay
+ * in path order and each node covers a contiguous index range, which keeps boxes
+ * tight for a path while making the build a single linear pass per level.
+ * Queries keep their running best in fields, so a tree must not be shared
+ * between threads.
+ */
+final class PathSegmentTree {
+    private static final int LEAF_SIZE = 4;
+
+    private final float[] pointX;
+    private final float[] pointY;
+    // cumulative[i] is the arc length from the start of the path to point i.
+    private final float[] cumulative;
+    private final float totalLength;
+
+    private final float[] nodeMinX;
+    private final float[] nodeMinY;
+    private final float[] nodeMaxX;
+    private final float[] nodeMaxY;
+    // Segment range [nodeFirst, nodeLast) for leaves; child indices for inner nodes.
+    private final int[] nodeFirst;
+    private final int[] nodeLast;
+    private final int[] nodeLeft;
+    private final int[] nodeRight;
+    private int nodeCount;
+
+    private float bestDistanceSquared;
+    private float bestX;
+    private float bestY;
+    private float bestArcLength;
+
+    private float[] coverageBuffer = new float[8];
+    private int coverageCount;
+
+    PathSegmentTree(float[] pointX, float[] pointY, float[] cumulative) {
+        this.pointX = pointX;
+        this.pointY = pointY;
+        this.cumulative = cumulative;
+        this.totalLength = cumulative[cumulative.length - 1];
+
+        int segmentCount = pointX.length - 1;
+        int capacity = Math.max(1, 2 * segmentCount);
+        nodeMinX = new float[capacity];
+        nodeMinY = new float[capacity];
+        nodeMaxX = new float[capacity];
+        nodeMaxY = new float[capacity];
+        nodeFirst = new int[capacity];
+        nodeLast = new int[capacity];
+        nodeLeft = new int[capacity];
+        nodeRight = new int[capacity];
+        if (segmentCount > 0) {
+            build(0, segmentCount);
+        }
+    }
+
+    private int build(int first, int last) {
+        int node = nodeCount++;
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = first; i <= last; i++) {
+            minX = Math.min(minX, pointX[i]);
+            minY = Math.min(minY, pointY[i]);
+            maxX = Math.max(maxX, pointX[i]);
+            maxY = Math.max(maxY, pointY[i]);
+        }
+        nodeMinX[node] = minX;
+        nodeMinY[node] = minY;
+        nodeMaxX[node] = maxX;
+        nodeMaxY[node] = maxY;
+        nodeFirst[node] = first;
+        nodeLast[node] = last;
+
+        if (last - first <= LEAF_SIZE) {
+            nodeLeft[node] = -1;
+            nodeRight[node] = -1;
+        } else {
+            int mid = (first + last) >>> 1;
+            nodeLeft[node] = build(first, mid);
+            nodeRight[node] = build(mid, last);
+        }
+        return node;
+    }
+
+    void project(float x, float y, PathProjection out) {
+        if (nodeCount == 0) {
+            float dx = pointX[0] - x;
+            float dy = pointY[0] - y;
+            out.set(pointX[0], pointY[0], 0f, (float) Math.sqrt(dx * dx + dy * dy));
+            return;
+        }
+
+        bestDistanceSquared = Float.MAX_VALUE;
+        visit(0, x, y);
+        float progress = totalLength > 0f ? Math.min(1f, bestArcLength / totalLength) : 0f;
+        out.set(bestX, bestY, progress, (float) Math.sqrt(bestDistanceSquared));
+    }
+
+    private void visit(int node, float x, float y) {
+        if (nodeLeft[node] < 0) {
+            for (int i = nodeFirst[node]; i < nodeLast[node]; i++) {
+                testSegment(i, x, y);
+            }
+            return;
+        }
+
+        int left = nodeLeft[node];
+        int right = nodeRight[node];
+        float leftDistance = boxDistanceSquared(left, x, y);
+        float rightDistance = boxDistanceSquared(right, x, y);
+        if (leftDistance <= rightDistance) {
+            if (leftDistance < bestDistanceSquared) {
+                visit(left, x, y);
+            }
+            if (rightDistance < bestDistanceSquared) {
+                visit(right, x, y);
+            }
+        } else {
+            if (rightDistance < bestDistanceSquared) {
+                visit(right, x, y);
+            }
+            if (leftDistance < bestDistanceSquared) {
+                visit(left, x, y);
+            }
+        }
+    }
+
+    private float boxDistanceSquared(int node, float x, float y) {
+        float dx = Math.max(0f, Math.max(nodeMinX[node] - x, x - nodeMaxX[node]));
+        float dy = Math.max(0f, Math.max(nodeMinY[node] - y, y - nodeMaxY[node]));
+        return dx * dx + dy * dy;
+    }
+
+    private void testSegment(int i, float x, float y) {
+        float ax = pointX[i];
+        float ay = pointY[i];
+        float abx = pointX[i + 1] - ax;
+        float aby = pointY[i + 1] - ay;
+        float lengthSquared = abx * abx + aby * aby;
+        float param = 0f;
+        if (lengthSquared > 0f) {
+            param = Math.max(0f, Math.min(1f, ((x - ax) * abx + (y - ay) * aby) / lengthSquared));
+        }
+        float closestX = ax + param * abx;
+        float closestY = ay + param * aby;
+        float dx = x - closestX;
+        float dy = y - closestY;
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared < bestDistanceSquared) {
+            bestDistanceSquared = distanceSquared;
+            bestX = closestX;
+            bestY = closestY;
+            bestArcLength = cumulative[i] + param * (cumulative[i + 1] - cumulative[i]);
+        }
+    }
+
+    /**
+     * Returns the arc-length intervals of the path inside the disc at (x, y), as
+     * sorted, merged {@code [start, end]} pairs.
+     */
+    float[] coverage(float x, float y, float radius) {
+        coverageCount = 0;
+        float radiusSquared = radius * radius;
+        if (nodeCount == 0) {
+            float dx = pointX[0] - x;
+            float dy = pointY[0] - y;
+            if (dx * dx + dy * dy <= radiusSquared) {
+                appendCoverage(0f, 0f);
+            }
+        } else {
+            collectCoverage(0, x, y, radiusSquared);
+        }
+        return Arrays.copyOf(coverageBuffer, coverageCount);
+    }
+
+    private void collectCoverage(int node, float x, float y, float radiusSquared) {
+        if (boxDistanceSquared(node, x, y) > radiusSquared) {
+            return;
+        }
+        if (nodeLeft[node] >= 0) {
+            // Left first keeps segments, and so the intervals, in path order.
+            collectCoverage(nodeLeft[node], x, y, radiusSquared);
+            collectCoverage(nodeRight[node], x, y, radiusSquared);
+            return;
+        }
+
+        for (int i = nodeFirst[node]; i < nodeLast[node]; i++) {
+            double ax = pointX[i] - x;
+            double ay = pointY[i] - y;
+            double abx = pointX[i + 1] - pointX[i];
+            double aby = pointY[i + 1] - pointY[i];
+            double a = abx * abx + aby * aby;
+            double b = 2.0 * (ax * abx + ay * aby);
+            double c = ax * ax + ay * ay - radiusSquared;
+
+            double enter;
+            double exit;
+            if (a == 0.0) {
+                if (c > 0.0) {
+                    continue;
+                }
+                enter = 0.0;
+                exit = 1.0;
+            } else {
+                double discriminant = b * b - 4.0 * a * c;
+                if (discriminant < 0.0) {
+                    continue;
+                }
+                double root = Math.sqrt(discriminant);
+                enter = Math.max(0.0, (-b - root) / (2.0 * a));
+                exit = Math.min(1.0, (-b + root) / (2.0 * a));
+                if (enter > exit) {
+                    continue;
+                }
+            }
+            float segmentLength = cumulative[i + 1] - cumulative[i];
+            appendCoverage(cumulative[i] + (float) enter * segmentLength,
+                    cumulative[i] + (float) exit * segmentLength);
+        }
+    }
+
+    private void appendCoverage(float start, float end) {
+        if (coverageCount > 0 && start <= coverageBuffer[coverageCount - 1]) {
+            coverageBuffer[coverageCount - 1] = Math.max(coverageBuffer[coverageCount - 1], end);
+            return;
+        }
+        if (coverageCount == coverageBuffer.length) {
+            coverageBuffer = Arrays.copyOf(coverageBuffer, coverageBuffer.length * 2);
+        }
+        coverageBuffer[coverageCount++] = start;
+        coverageBuffer[coverageCount++] = end;
+    }
+}
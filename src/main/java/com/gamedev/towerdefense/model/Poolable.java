@@ -0,0 +1,12 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * An object that can be recycled through an {@link ObjectPool}.
+ */
+public interface Poolable {
+    /**
+     * Clears per-use state, including references to other objects, before the
+     * object goes back into its pool.
+     */
+    void reset();
+}
@@ -17,6 +17,10 @@ public class Position {
         return y;
     }
 
+    public static float distanceSquared(Position a, Position b) {
+        return MutablePosition.distanceSquared(a.getX(), a.getY(), b.getX(), b.getY());
+    }
+
     public static float distance(Position a, Position b) {
         float dx = b.getX() - a.getX();
         float dy = b.getY() - a.getY();
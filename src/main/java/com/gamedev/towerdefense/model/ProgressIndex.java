@@ -0,0 +1,194 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+/**
+ * One {@link EnemyStore}'s enemies ordered by path progress, so "furthest
+ * along" and "least far along" queries can binary-search a tower's coverage
+ * intervals instead of scanning every enemy. Repaired lazily, the first time it
+ * is asked for after the store changed: survivors keep their previous order and
+ * an insertion sort fixes what overtaking happened, which is usually nothing
+ * as progress only grows; newcomers are merged in. Both steps are linear in
+ * the number of enemies, plus the few places that changed.
+ */
+public class ProgressIndex {
+    private int count;
+    private int builtVersion = -1;
+    private int nextSpawnSequence;
+
+    // Positions 0..count-1 in ascending progress order.
+    private int[] handles = new int[0];
+    private int[] indices = new int[0];
+    private float[] keys = new float[0];
+
+    // The other buffer of each pair, written while merging newcomers in.
+    private int[] mergedHandles = new int[0];
+    private int[] mergedIndices = new int[0];
+    private float[] mergedKeys = new float[0];
+
+    private int[] newcomers = new int[0];
+
+    void repair(EnemyStore store) {
+        if (builtVersion == store.getVersion()) {
+            return;
+        }
+        builtVersion = store.getVersion();
+        ensureCapacity(store.size());
+
+        // Drop removed enemies and refresh the rest's slot index and progress.
+        int kept = 0;
+        for (int p = 0; p < count; p++) {
+            int handle = handles[p];
+            int index = store.indexOf(handle);
+            if (index == EnemyStore.NONE) {
+                continue;
+            }
+            handles[kept] = handle;
+            indices[kept] = index;
+            keys[kept] = store.getProgress(index);
+            kept++;
+        }
+        count = kept;
+        insertionSort(handles, indices, keys, 0, count);
+
+        int arrivals = 0;
+        for (int i = 0; i < store.size(); i++) {
+            if (store.getSpawnSequence(i) >= nextSpawnSequence) {
+                newcomers[arrivals++] = i;
+            }
+        }
+        nextSpawnSequence = store.getNextSpawnSequence();
+        if (arrivals > 0) {
+            mergeNewcomers(store, arrivals);
+        }
+    }
+
+    private void mergeNewcomers(EnemyStore store, int arrivals) {
+        // Newcomers go through the merge buffers' tails, sorted there, then merged.
+        int offset = mergedHandles.length - arrivals;
+        for (int n = 0; n < arrivals; n++) {
+            int index = newcomers[n];
+            mergedHandles[offset + n] = store.handleAt(index);
+            mergedIndices[offset + n] = index;
+            mergedKeys[offset + n] = store.getProgress(index);
+        }
+        insertionSort(mergedHandles, mergedIndices, mergedKeys, offset, offset + arrivals);
+
+        int a = 0;
+        int b = offset;
+        int end = offset + arrivals;
+        int out = 0;
+        while (a < count || b < end) {
+            boolean takeOld = b == end || (a < count && keys[a] <= mergedKeys[b]);
+            if (takeOld) {
+                mergedHandles[out] = handles[a];
+                mergedIndices[out] = indices[a];
+                mergedKeys[out] = keys[a];
+                a++;
+            } else {
+                mergedHandles[out] = mergedHandles[b];
+                mergedIndices[out] = mergedIndices[b];
+                mergedKeys[out] = mergedKeys[b];
+                b++;
+            }
+            out++;
+        }
+        count = out;
+
+        int[] swapHandles = handles;
+        handles = mergedHandles;
+        mergedHandles = swapHandles;
+        int[] swapIndices = indices;
+        indices = mergedIndices;
+        mergedIndices = swapIndices;
+        float[] swapKeys = keys;
+        keys = mergedKeys;
+        mergedKeys = swapKeys;
+    }
+
+    private static void insertionSort(int[] handles, int[] indices, float[] keys, int from, int to) {
+        for (int p = from + 1; p < to; p++) {
+            float key = keys[p];
+            if (keys[p - 1] <= key) {
+                continue;
+            }
+            int handle = handles[p];
+            int index = indices[p];
+            int q = p - 1;
+            while (q >= from && keys[q] > key) {
+                keys[q + 1] = keys[q];
+                handles[q + 1] = handles[q];
+                indices[q + 1] = indices[q];
+                q--;
+            }
+            keys[q + 1] = key;
+            handles[q + 1] = handle;
+            indices[q + 1] = index;
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (handles.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, handles.length * 2);
+        handles = Arrays.copyOf(handles, capacity);
+        indices = Arrays.copyOf(indices, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        // The merge writes old entries and newcomers into these side by side, so they
+        // must hold everything that could be live at once.
+        mergedHandles = new int[capacity];
+        mergedIndices = new int[capacity];
+        mergedKeys = new float[capacity];
+        newcomers = new int[capacity];
+    }
+
+    /**
+     * First position whose progress is greater than {@code progress}.
+     */
+    public int upperBound(float progress) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= progress) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First position whose progress is at least {@code progress}.
+     */
+    public int lowerBound(float progress) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < progress) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Store slot index of the enemy at {@code position} in progress order.
+     */
+    public int indexAt(int position) {
+        return indices[position];
+    }
+
+    public float progressAt(int position) {
+        return keys[position];
+    }
+}
@@ -0,0 +1,53 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Shared by {@link FirstEnemyStrategy} and {@link LastEnemyStrategy}: walks the
+ * store's {@link ProgressIndex} through each covered stretch, from the far end
+ * of the furthest stretch down or from the near end of the nearest stretch up,
+ * and stops at the first live enemy in range. A binary search per stretch plus
+ * the enemies skipped, with no candidates gathered.
+ */
+final class ProgressOrder {
+
+    private ProgressOrder() {
+    }
+
+    static int select(TargetQuery query, boolean furthestFirst) {
+        EnemyStore enemies = query.getStore();
+        PathCoverage coverage = query.getCoverage();
+        ProgressIndex order = enemies.getProgressIndex();
+        if (coverage == null) {
+            return walk(query, order, 0, order.size(), furthestFirst);
+        }
+        int stretches = coverage.getIntervalCount();
+        for (int s = 0; s < stretches; s++) {
+            int c = furthestFirst ? stretches - 1 - s : s;
+            int from = order.lowerBound(coverage.getIntervalStart(c));
+            int to = order.upperBound(coverage.getIntervalEnd(c));
+            int found = walk(query, order, from, to, furthestFirst);
+            if (found != EnemyStore.NONE) {
+                return found;
+            }
+        }
+        return EnemyStore.NONE;
+    }
+
+    private static int walk(TargetQuery query, ProgressIndex order, int from, int to, boolean downwards) {
+        EnemyStore enemies = query.getStore();
+        Position towerPosition = query.getTowerPosition();
+        float rangeSquared = (float) query.getRange() * query.getRange();
+        int step = downwards ? -1 : 1;
+        for (int p = downwards ? to - 1 : from; p >= from && p < to; p += step) {
+            int i = order.indexAt(p);
+            if (enemies.getHealth(i) <= 0) {
+                continue;
+            }
+            float dx = enemies.getX(i) - towerPosition.getX();
+            float dy = enemies.getY(i) - towerPosition.getY();
+            if (dx * dx + dy * dy <= rangeSquared) {
+                return enemies.handleAt(i);
+            }
+        }
+        return EnemyStore.NONE;
+    }
+}
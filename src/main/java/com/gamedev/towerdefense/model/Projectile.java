@@ -1,37 +1,147 @@
 package com.gamedev.towerdefense.model;
 
-public class Projectile extends MovingObject {
-    private Enemy target;
+/**
+ * A shot homing on one enemy. The target is held as a store and generational
+ * handle rather than an {@link Enemy} reference, so a shot whose target was
+ * removed stops instead of hitting whatever reuses the slot.
+ */
+public class Projectile extends MovingObject implements Poolable {
+    /**
+     * {@link Kinematics} kind of attached projectiles.
+     */
+    public static final int KIND = 1;
+    /**
+     * {@link Kinematics} kind of attached splash projectiles.
+     */
+    public static final int SPLASH_KIND = 3;
+    private static final float HIT_THRESHOLD = 5f;
+
+    private EnemyStore targetStore;
+    private int targetHandle = EnemyStore.NONE;
     private int damage;
+    // Splash shots spill through a swarm instead of stopping at one member.
+    private boolean splash;
+    private int handle = Handles.NONE;
 
     public Projectile(Position startPos, Enemy target, float speed, int damage) {
-        super(startPos, target.getPosition(), speed);
-        this.target = target;
+        init(startPos, target, speed, damage);
+    }
+
+    /**
+     * An unused projectile for an {@link ObjectPool}; call {@link #init} before use.
+     */
+    public Projectile() {
+    }
+
+    public Projectile init(Position startPos, Enemy target, float speed, int damage) {
+        return init(startPos, target.getStore(), target.getHandle(), speed, damage);
+    }
+
+    public Projectile init(Position startPos, EnemyStore store, int targetHandle, float speed, int damage) {
+        return init(startPos, store, targetHandle, speed, damage, false);
+    }
+
+    public Projectile init(Position startPos, EnemyStore store, int targetHandle, float speed, int damage,
+            boolean splash) {
+        int index = store.indexOf(targetHandle);
+        if (index == EnemyStore.NONE) {
+            throw new IllegalArgumentException("Unknown enemy handle: " + targetHandle);
+        }
+        init(startPos.getX(), startPos.getY(), store.getX(index), store.getY(index), speed);
+        this.targetStore = store;
+        this.targetHandle = targetHandle;
         this.damage = damage;
+        this.splash = splash;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        detach();
+        targetStore = null;
+        targetHandle = EnemyStore.NONE;
+        splash = false;
+        handle = Handles.NONE;
+        hasReachedTarget = true;
+    }
+
+    // Slot index of the target while it is still in its store and alive, else NONE.
+    private int liveTargetIndex() {
+        if (targetStore == null) {
+            return EnemyStore.NONE;
+        }
+        int index = targetStore.indexOf(targetHandle);
+        return index != EnemyStore.NONE && targetStore.getHealth(index) > 0 ? index : EnemyStore.NONE;
     }
 
     @Override
     protected void updateTarget() {
-        if (target == null || !target.isAlive()) {
+        int index = liveTargetIndex();
+        if (index == EnemyStore.NONE) {
             hasReachedTarget = true;
             return;
         }
-        targetPosition = target.getPosition();
+        targetPosition.set(targetStore.getX(index), targetStore.getY(index));
     }
 
     @Override
     protected float getHitThreshold() {
-        return 5f;
+        return HIT_THRESHOLD;
     }
 
     @Override
     protected void onReachTarget() {
-        if (target != null && target.isAlive()) {
-            target.takeDamage(damage);
+        if (targetStore != null) {
+            hit(targetStore, targetHandle, damage, splash);
+        }
+    }
+
+    @Override
+    protected int addTo(Kinematics kinematics) {
+        if (targetStore == null) {
+            return super.addTo(kinematics);
+        }
+        return kinematics.addHoming(splash ? SPLASH_KIND : KIND, position.getX(), position.getY(), targetStore, targetHandle, speed,
+                HIT_THRESHOLD, damage);
+    }
+
+    /**
+     * Deals a landed shot's damage to its target if it is still alive. Shared by
+     * detached projectiles and the arrival phase for attached ones.
+     */
+    public static void hit(EnemyStore store, int targetHandle, int damage, boolean splash) {
+        int index = store.indexOf(targetHandle);
+        if (index == EnemyStore.NONE || store.getHealth(index) <= 0) {
+            return;
+        }
+        if (splash) {
+            store.damageSplash(targetHandle, damage);
+        } else {
+            store.damage(targetHandle, damage);
         }
     }
 
     public boolean hasHit() {
-        return hasReachedTarget;
+        return hasReachedTarget();
+    }
+
+    public boolean isSplash() {
+        return splash;
+    }
+
+    public int getTargetHandle() {
+        return targetHandle;
+    }
+
+    /**
+     * This projectile's handle in the world, or {@link Handles#NONE} while it is
+     * not in flight.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    public void setHandle(int handle) {
+        this.handle = handle;
     }
 }
@@ -0,0 +1,82 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.List;
+
+/**
+ * A strategy that ranks each enemy in range by one number, lowest first, from
+ * its distance squared to the tower, path progress and health (a swarm's front
+ * member's, see {@link EnemyStore#getFrontHealth}). The rank is the
+ * only thing a subclass defines; the range, liveness and tie-breaking rules
+ * live here, shared by the {@link Enemy} list overload and
+ * {@link #select(TargetQuery)}. Ties go to the earlier enemy: earlier in the
+ * list, or at the lower store slot.
+ */
+public abstract class RankedTargetingStrategy implements TargetingStrategy, TargetSelector {
+
+    /**
+     * Lower ranks are better targets.
+     */
+    protected abstract float rank(float distanceSquared, float progress, int health);
+
+    @Override
+    public Enemy selectTarget(Position towerPosition, int range, List<Enemy> enemies) {
+        return selectTarget(towerPosition, range, null, enemies);
+    }
+
+    @Override
+    public Enemy selectTarget(Position towerPosition, int range, PathCoverage coverage, List<Enemy> enemies) {
+        float rangeSquared = (float) range * range;
+        Enemy best = null;
+        float bestRank = 0f;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive() || coverage != null && !coverage.mayCover(enemy)) {
+                continue;
+            }
+            float distanceSquared = MutablePosition.distanceSquared(
+                    towerPosition.getX(), towerPosition.getY(), enemy.getX(), enemy.getY());
+            if (distanceSquared > rangeSquared) {
+                continue;
+            }
+            float enemyRank = rank(distanceSquared, enemy.getPathProgress(), enemy.getFrontHealth());
+            if (best == null || enemyRank < bestRank) {
+                best = enemy;
+                bestRank = enemyRank;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int select(TargetQuery query) {
+        int best = TargetQuery.NO_CANDIDATE;
+        float bestRank = 0f;
+        for (int n = 0; n < query.size(); n++) {
+            float candidateRank = rank(query, n);
+            // Candidates come in no particular order, so ties are settled by slot.
+            if (best == TargetQuery.NO_CANDIDATE || candidateRank < bestRank
+                    || candidateRank == bestRank && query.getIndex(n) < query.getIndex(best)) {
+                best = n;
+                bestRank = candidateRank;
+            }
+        }
+        return best != TargetQuery.NO_CANDIDATE ? query.getHandle(best) : EnemyStore.NONE;
+    }
+
+    /**
+     * Rank of candidate {@code n} of {@code query}.
+     */
+    public float rank(TargetQuery query, int n) {
+        return rank(query.getDistanceSquared(n), query.getProgress(n), query.getHealth(n));
+    }
+
+    /**
+     * Rank of the enemy at slot {@code index} of {@code store}, seen from
+     * {@code towerPosition}.
+     */
+    public float rank(Position towerPosition, EnemyStore store, int index) {
+        float distanceSquared = MutablePosition.distanceSquared(
+                towerPosition.getX(), towerPosition.getY(), store.getX(index), store.getY(index));
+        return rank(distanceSquared, store.getProgress(index), store.getFrontHealth(index));
+    }
+}
@@ -0,0 +1,57 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Plain loops, one entity at a time. Always available, and the reference the
+ * vector backend is checked against.
+ */
+public class ScalarKinematicsBackend implements KinematicsBackend {
+
+    @Override
+    public void advanceProgress(float[] progress, float[] speed, float[] animationTime, boolean[] moved, int count,
+            float deltaTime, float pathLength) {
+        advanceProgress(progress, speed, animationTime, moved, 0, count, deltaTime, pathLength);
+    }
+
+    // Range forms, also used by the vector backend for the entries past its last full lane.
+    static void advanceProgress(float[] progress, float[] speed, float[] animationTime, boolean[] moved, int from,
+            int to, float deltaTime, float pathLength) {
+        for (int i = from; i < to; i++) {
+            animationTime[i] += deltaTime;
+            boolean moving = progress[i] < 1f;
+            moved[i] = moving;
+            if (moving) {
+                progress[i] = Math.min(1f, progress[i] + speed[i] * deltaTime / pathLength);
+            }
+        }
+    }
+
+    @Override
+    public void stepTowards(float[] x, float[] y, float[] targetX, float[] targetY, float[] speed,
+            float[] hitThresholdSquared, boolean[] arrived, boolean[] arriving, int count, float deltaTime) {
+        stepTowards(x, y, targetX, targetY, speed, hitThresholdSquared, arrived, arriving, 0, count, deltaTime);
+    }
+
+    static void stepTowards(float[] x, float[] y, float[] targetX, float[] targetY, float[] speed,
+            float[] hitThresholdSquared, boolean[] arrived, boolean[] arriving, int from, int to, float deltaTime) {
+        for (int i = from; i < to; i++) {
+            if (arrived[i]) {
+                continue;
+            }
+            float dx = targetX[i] - x[i];
+            float dy = targetY[i] - y[i];
+            float distanceSquared = dx * dx + dy * dy;
+            if (distanceSquared < hitThresholdSquared[i]) {
+                arriving[i] = true;
+                continue;
+            }
+            float ratio = Math.min(speed[i] * deltaTime / (float) Math.sqrt(distanceSquared), 1f);
+            x[i] += dx * ratio;
+            y[i] += dy * ratio;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
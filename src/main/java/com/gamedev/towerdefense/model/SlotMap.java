@@ -0,0 +1,83 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+/**
+ * Objects addressed by generational handles (see {@link Handles}). Lookups and
+ * validity checks are a bounds check plus a generation compare, and a handle
+ * to a removed object resolves to {@code null} even after its slot is reused.
+ */
+public class SlotMap<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] values = new Object[0];
+    private int[] generations = new int[0];
+    private int[] freeSlots = new int[0];
+    private int freeSlotCount;
+    private int size;
+
+    public int add(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("SlotMap values must not be null");
+        }
+        if (freeSlotCount == 0) {
+            grow();
+        }
+        int slot = freeSlots[--freeSlotCount];
+        values[slot] = value;
+        size++;
+        return Handles.make(slot, generations[slot]);
+    }
+
+    private void grow() {
+        int used = values.length;
+        if (used == Handles.MAX_SLOTS) {
+            throw new IllegalStateException("SlotMap is full: " + used + " slots");
+        }
+        int capacity = Math.min(Handles.MAX_SLOTS, Math.max(DEFAULT_CAPACITY, used * 2));
+        values = Arrays.copyOf(values, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        // Hand out new slots in ascending order.
+        for (int slot = capacity - 1; slot >= used; slot--) {
+            freeSlots[freeSlotCount++] = slot;
+        }
+    }
+
+    /**
+     * The object for {@code handle}, or {@code null} if it has been removed.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int handle) {
+        return contains(handle) ? (T) values[Handles.index(handle)] : null;
+    }
+
+    public boolean contains(int handle) {
+        if (handle < 0) {
+            return false;
+        }
+        int slot = Handles.index(handle);
+        return slot < values.length && values[slot] != null && generations[slot] == Handles.generation(handle);
+    }
+
+    /**
+     * Removes and returns the object for {@code handle}, or returns {@code null}
+     * if the handle is already stale.
+     */
+    public T remove(int handle) {
+        T value = get(handle);
+        if (value == null) {
+            return null;
+        }
+        int slot = Handles.index(handle);
+        values[slot] = null;
+        generations[slot] = Handles.nextGeneration(generations[slot]);
+        freeSlots[freeSlotCount++] = slot;
+        size--;
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,48 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+/**
+ * Where each swarm member sits relative to the swarm's position on the path.
+ * Offsets depend only on the member index, so one table serves every swarm
+ * and members carry no position of their own. Members are laid out on a
+ * sunflower spiral: evenly spaced, with the swarm's area growing with its size.
+ */
+public class SwarmFormation {
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+    private final float spacing;
+    private float[] offsetX = new float[0];
+    private float[] offsetY = new float[0];
+
+    public SwarmFormation(float spacing) {
+        this.spacing = spacing;
+    }
+
+    /**
+     * Makes sure offsets exist for the first {@code members} members. Growing
+     * allocates, so call this once with the largest swarm size when possible.
+     */
+    public void ensureCapacity(int members) {
+        int built = offsetX.length;
+        if (members <= built) {
+            return;
+        }
+        offsetX = Arrays.copyOf(offsetX, members);
+        offsetY = Arrays.copyOf(offsetY, members);
+        for (int i = built; i < members; i++) {
+            double radius = spacing * Math.sqrt(i);
+            double angle = i * GOLDEN_ANGLE;
+            offsetX[i] = (float) (radius * Math.cos(angle));
+            offsetY[i] = (float) (radius * Math.sin(angle));
+        }
+    }
+
+    public float getOffsetX(int member) {
+        return offsetX[member];
+    }
+
+    public float getOffsetY(int member) {
+        return offsetY[member];
+    }
+}
@@ -0,0 +1,141 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+/**
+ * One tower's targeting question against one lane: which live enemies of
+ * {@link #getStore()} are within {@link #getRange()} of {@link #getTowerPosition()}.
+ * Candidates are enumerated on first access through the best index the store
+ * has, its {@link EnemyGrid} when current and otherwise the tower's
+ * {@link PathCoverage}, and come with their distance squared, progress and
+ * health already read out, so a {@link TargetSelector} only compares numbers.
+ * Reused across ticks: {@link #reset} starts a new question without allocating.
+ */
+public class TargetQuery {
+    /**
+     * Candidate number selectors can use for "nothing chosen yet".
+     */
+    public static final int NO_CANDIDATE = -1;
+
+    private Position towerPosition;
+    private int range;
+    private PathCoverage coverage;
+    private EnemyStore store;
+    private boolean gathered;
+
+    private int count;
+    private int[] indices = new int[0];
+    private float[] distanceSquared = new float[0];
+    private float[] progress = new float[0];
+    private int[] health = new int[0];
+
+    /**
+     * Starts a new query. {@code coverage} may be null, or for another lane's
+     * path, in which case it is ignored.
+     */
+    public TargetQuery reset(Position towerPosition, int range, PathCoverage coverage, EnemyStore store) {
+        this.towerPosition = towerPosition;
+        this.range = range;
+        this.coverage = coverage != null && coverage.getPath() == store.getPath() ? coverage : null;
+        this.store = store;
+        this.gathered = false;
+        this.count = 0;
+        return this;
+    }
+
+    private void gather() {
+        gathered = true;
+        EnemyGrid grid = store.getGrid();
+        float towerX = towerPosition.getX();
+        float towerY = towerPosition.getY();
+        int scanned = grid != null ? grid.query(towerX, towerY, range) : store.size();
+        if (indices.length < scanned) {
+            int capacity = Math.max(scanned, indices.length * 2);
+            indices = Arrays.copyOf(indices, capacity);
+            distanceSquared = Arrays.copyOf(distanceSquared, capacity);
+            progress = Arrays.copyOf(progress, capacity);
+            health = Arrays.copyOf(health, capacity);
+        }
+
+        float rangeSquared = (float) range * range;
+        for (int n = 0; n < scanned; n++) {
+            int i = grid != null ? grid.getCandidate(n) : n;
+            int enemyHealth = store.getFrontHealth(i);
+            if (enemyHealth <= 0) {
+                continue;
+            }
+            float enemyProgress = store.getProgress(i);
+            if (coverage != null && !coverage.contains(enemyProgress)) {
+                continue;
+            }
+            float dx = store.getX(i) - towerX;
+            float dy = store.getY(i) - towerY;
+            float d2 = dx * dx + dy * dy;
+            if (d2 > rangeSquared) {
+                continue;
+            }
+            indices[count] = i;
+            distanceSquared[count] = d2;
+            progress[count] = enemyProgress;
+            health[count] = enemyHealth;
+            count++;
+        }
+    }
+
+    /**
+     * Live enemies in range. Candidates come in no particular order.
+     */
+    public int size() {
+        if (!gathered) {
+            gather();
+        }
+        return count;
+    }
+
+    /**
+     * Store slot index of candidate {@code n}; lower slots spawned or moved in
+     * earlier, and built-in selectors break ties toward them.
+     */
+    public int getIndex(int n) {
+        return indices[n];
+    }
+
+    public int getHandle(int n) {
+        return store.handleAt(indices[n]);
+    }
+
+    public float getDistanceSquared(int n) {
+        return distanceSquared[n];
+    }
+
+    public float getProgress(int n) {
+        return progress[n];
+    }
+
+    /**
+     * Health of candidate {@code n}'s front member, so a swarm ranks as one of
+     * its members rather than by its pooled health.
+     */
+    public int getHealth(int n) {
+        return health[n];
+    }
+
+    public Position getTowerPosition() {
+        return towerPosition;
+    }
+
+    public int getRange() {
+        return range;
+    }
+
+    /**
+     * The tower's coverage of this lane's path, or null.
+     */
+    public PathCoverage getCoverage() {
+        return coverage;
+    }
+
+    public EnemyStore getStore() {
+        return store;
+    }
+}
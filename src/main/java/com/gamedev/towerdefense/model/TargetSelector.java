@@ -0,0 +1,16 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Second-generation targeting: picks from a {@link TargetQuery}'s in-range
+ * candidates instead of scanning enemies itself. Built-in strategies implement
+ * it directly; any other {@link TargetingStrategy} runs through
+ * {@link TargetSelectors#of(TargetingStrategy)}.
+ */
+public interface TargetSelector {
+
+    /**
+     * Returns the chosen enemy's handle in {@code query.getStore()}, or
+     * {@link EnemyStore#NONE} when there is nothing to shoot.
+     */
+    int select(TargetQuery query);
+}
@@ -0,0 +1,39 @@
+package com.gamedev.towerdefense.model;
+
+/**
+ * Bridges {@link TargetingStrategy} to {@link TargetSelector}.
+ */
+public final class TargetSelectors {
+
+    private TargetSelectors() {
+    }
+
+    /**
+     * The strategy itself when it is already a selector, otherwise an adapter
+     * that answers the query by running the strategy over the store's
+     * {@link Enemy} views.
+     */
+    public static TargetSelector of(TargetingStrategy strategy) {
+        if (strategy instanceof TargetSelector selector) {
+            return selector;
+        }
+        return new StrategyAdapter(strategy);
+    }
+
+    private static final class StrategyAdapter implements TargetSelector {
+        private final TargetingStrategy strategy;
+
+        StrategyAdapter(TargetingStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        @Override
+        public int select(TargetQuery query) {
+            // Never touches the query's candidates, so they are never gathered.
+            EnemyStore store = query.getStore();
+            Enemy target = strategy.selectTarget(query.getTowerPosition(), query.getRange(), query.getCoverage(),
+                    store.asList());
+            return target != null ? target.getHandle() : EnemyStore.NONE;
+        }
+    }
+}
@@ -5,4 +5,21 @@ import java.util.List;
 
 public interface TargetingStrategy {
     Enemy selectTarget(Position towerPosition, int range, List<Enemy> enemies);
+
+    /**
+     * Same as {@link #selectTarget(Position, int, List)}, but may skip enemies the
+     * tower's path coverage rules out before doing any distance math.
+     */
+    default Enemy selectTarget(Position towerPosition, int range, PathCoverage coverage, List<Enemy> enemies) {
+        return selectTarget(towerPosition, range, enemies);
+    }
+
+    /**
+     * Selects from an {@link EnemyStore} and returns the target's handle, or
+     * {@link EnemyStore#NONE}, by asking {@link TargetSelectors#of} this strategy
+     * about a fresh {@link TargetQuery}. Towers keep and reuse their own query.
+     */
+    default int selectTarget(Position towerPosition, int range, PathCoverage coverage, EnemyStore enemies) {
+        return TargetSelectors.of(this).select(new TargetQuery().reset(towerPosition, range, coverage, enemies));
+    }
 }
@@ -1,17 +1,45 @@
 package com.gamedev.towerdefense.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class Tower {
+    static final int UNSCHEDULED = -1;
+
     private int cost;
     private int range;
     private int damage;
     private float attackCooldown;
     private float baseAttackCooldown;
     private float projectileSpeed;
+    private boolean splash;
     private Position position;
     private int towerId;
     private TargetingStrategy targetingStrategy;
+    private TargetSelector targetSelector;
+    private final TargetQuery targetQuery = new TargetQuery();
+    private final List<PathCoverage> pathCoverages = new ArrayList<>();
+    // Per-lane winners as store and handle, reused across ticks when more than
+    // one lane is in range.
+    private EnemyStore[] winnerStores = new EnemyStore[2];
+    private int[] winnerHandles = new int[2];
+    private int winnerCount;
+    // Views of the winners, only for strategies that cannot rank a store slot.
+    private final List<Enemy> candidates = new ArrayList<>();
+    // Last selected target, as its lane's store and a generational handle.
+    private EnemyStore targetStore;
+    private int targetHandle = EnemyStore.NONE;
+    // Target lock: when sticky, the strategy re-runs only once the target dies,
+    // moves past range + rangeHysteresis, or retargetInterval runs out.
+    private boolean stickyTargeting;
+    private float retargetInterval;
+    private float rangeHysteresis;
+    private float retargetTimer;
+    private int handle = Handles.NONE;
+    // This tower's slot in the TowerScheduler running it, if any.
+    int scheduleSlot = UNSCHEDULED;
 
     public Tower(int cost, int range, int damage, float attackCooldown, float projectileSpeed,
             Position position, int towerId) {
@@ -29,7 +57,7 @@ public class Tower {
         this.projectileSpeed = projectileSpeed;
         this.position = position;
         this.towerId = towerId;
-        this.targetingStrategy = targetingStrategy;
+        setTargetingStrategy(targetingStrategy);
     }
 
     public int getCost() {
@@ -48,6 +76,18 @@ public class Tower {
         return position;
     }
 
+    /**
+     * Whether this tower's shots carry on through a swarm's members instead of
+     * stopping at the one they hit.
+     */
+    public boolean isSplash() {
+        return splash;
+    }
+
+    public void setSplash(boolean splash) {
+        this.splash = splash;
+    }
+
     public float getAttackCooldowns() {
         return attackCooldown;
     }
@@ -60,12 +100,52 @@ public class Tower {
         return towerId;
     }
 
+    /**
+     * This tower's handle in the world, or {@link Handles#NONE} if it has not
+     * been added to one.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    public void setHandle(int handle) {
+        this.handle = handle;
+    }
+
     public TargetingStrategy getTargetingStrategy() {
         return targetingStrategy;
     }
 
     public void setTargetingStrategy(TargetingStrategy strategy) {
         this.targetingStrategy = strategy;
+        this.targetSelector = TargetSelectors.of(strategy);
+        this.retargetTimer = 0f;
+    }
+
+    /**
+     * Makes this tower keep its current target across ticks instead of asking its
+     * strategy every tick. The strategy runs again once the target dies, moves
+     * more than {@code rangeHysteresis} beyond range, or {@code retargetInterval}
+     * seconds have passed since the last selection; an interval of zero or less
+     * never expires the lock on time alone.
+     */
+    public void setTargetLock(boolean sticky, float retargetInterval, float rangeHysteresis) {
+        this.stickyTargeting = sticky;
+        this.retargetInterval = retargetInterval;
+        this.rangeHysteresis = Math.max(0f, rangeHysteresis);
+        this.retargetTimer = 0f;
+    }
+
+    public boolean isStickyTargeting() {
+        return stickyTargeting;
+    }
+
+    public float getRetargetInterval() {
+        return retargetInterval;
+    }
+
+    public float getRangeHysteresis() {
+        return rangeHysteresis;
     }
 
     public void increaseDamage(int damage) {
@@ -74,6 +154,32 @@ public class Tower {
 
     public void increaseRange(int range) {
         this.range += range;
+        for (int i = 0; i < pathCoverages.size(); i++) {
+            pathCoverages.set(i, new PathCoverage(pathCoverages.get(i).getPath(), position, this.range));
+        }
+    }
+
+    /**
+     * Computes which stretches of {@code path} this tower covers so targeting can
+     * rule enemies out by their path progress.
+     */
+    public void setPath(Path path) {
+        setPaths(path != null ? Collections.singletonList(path) : Collections.emptyList());
+    }
+
+    public void setPaths(List<Path> paths) {
+        pathCoverages.clear();
+        for (Path path : paths) {
+            pathCoverages.add(new PathCoverage(path, position, range));
+        }
+    }
+
+    public PathCoverage getPathCoverage() {
+        return pathCoverages.isEmpty() ? null : pathCoverages.get(0);
+    }
+
+    public List<PathCoverage> getPathCoverages() {
+        return Collections.unmodifiableList(pathCoverages);
     }
 
     public void decreaseAttackCooldown(float cooldownDecrease) {
@@ -81,17 +187,187 @@ public class Tower {
     }
 
     public Enemy selectTarget(List<Enemy> enemies) {
-        return targetingStrategy.selectTarget(position, range, enemies);
+        return targetingStrategy.selectTarget(position, range, getPathCoverage(), enemies);
+    }
+
+    /**
+     * Selects a target by scanning only the stores of lanes this tower covers.
+     * Towers without coverage fall back to scanning every lane.
+     */
+    public Enemy selectTarget(PathNetwork network) {
+        return acquireTarget(network) ? targetStore.enemy(targetHandle) : null;
+    }
+
+    /**
+     * As {@link #selectTarget(PathNetwork)}, but records the target as
+     * {@link #getTargetStore()} and {@link #getTargetHandle()} instead of
+     * returning a view. Returns false, clearing the target, when nothing is in range.
+     */
+    public boolean acquireTarget(PathNetwork network) {
+        targetStore = null;
+        targetHandle = EnemyStore.NONE;
+        if (pathCoverages.isEmpty()) {
+            List<PathNetwork.Lane> lanes = network.getLanes();
+            for (int i = 0; i < lanes.size(); i++) {
+                addLaneWinner(lanes.get(i).getStore(), null);
+            }
+            return selectFromWinners();
+        }
+
+        PathCoverage onlyCoverage = null;
+        int coveredLanes = 0;
+        for (int i = 0; i < pathCoverages.size(); i++) {
+            PathCoverage coverage = pathCoverages.get(i);
+            if (coverage.getIntervalCount() > 0 && network.getLane(coverage.getPath()) != null) {
+                onlyCoverage = coverage;
+                coveredLanes++;
+            }
+        }
+        if (coveredLanes == 0) {
+            return false;
+        }
+        if (coveredLanes == 1) {
+            EnemyStore store = network.getLane(onlyCoverage.getPath()).getStore();
+            int selected = targetSelector.select(targetQuery.reset(position, range, onlyCoverage, store));
+            if (selected == EnemyStore.NONE) {
+                return false;
+            }
+            targetStore = store;
+            targetHandle = selected;
+            return true;
+        }
+
+        for (int i = 0; i < pathCoverages.size(); i++) {
+            PathCoverage coverage = pathCoverages.get(i);
+            PathNetwork.Lane lane = network.getLane(coverage.getPath());
+            if (coverage.getIntervalCount() == 0 || lane == null) {
+                continue;
+            }
+            addLaneWinner(lane.getStore(), coverage);
+        }
+        return selectFromWinners();
+    }
+
+    // Strategies rank enemies by a per-enemy criterion, so each lane's winner can
+    // compete in a final round instead of pooling every enemy into one list.
+    private void addLaneWinner(EnemyStore store, PathCoverage coverage) {
+        int selected = targetSelector.select(targetQuery.reset(position, range, coverage, store));
+        if (selected == EnemyStore.NONE) {
+            return;
+        }
+        if (winnerCount == winnerStores.length) {
+            winnerStores = Arrays.copyOf(winnerStores, winnerCount * 2);
+            winnerHandles = Arrays.copyOf(winnerHandles, winnerCount * 2);
+        }
+        winnerStores[winnerCount] = store;
+        winnerHandles[winnerCount] = selected;
+        winnerCount++;
+    }
+
+    private boolean selectFromWinners() {
+        int best = -1;
+        if (targetingStrategy instanceof RankedTargetingStrategy ranked) {
+            float bestRank = 0f;
+            for (int w = 0; w < winnerCount; w++) {
+                EnemyStore store = winnerStores[w];
+                float winnerRank = ranked.rank(position, store, store.indexOf(winnerHandles[w]));
+                if (best < 0 || winnerRank < bestRank) {
+                    best = w;
+                    bestRank = winnerRank;
+                }
+            }
+        } else {
+            for (int w = 0; w < winnerCount; w++) {
+                candidates.add(winnerStores[w].enemy(winnerHandles[w]));
+            }
+            Enemy target = targetingStrategy.selectTarget(position, range, candidates);
+            best = candidates.indexOf(target);
+            candidates.clear();
+        }
+        if (best >= 0) {
+            targetStore = winnerStores[best];
+            targetHandle = winnerHandles[best];
+        }
+        Arrays.fill(winnerStores, 0, winnerCount, null);
+        winnerCount = 0;
+        return best >= 0;
+    }
+
+    public EnemyStore getTargetStore() {
+        return targetStore;
+    }
+
+    /**
+     * Handle of the last selected target in {@link #getTargetStore()}, or
+     * {@link EnemyStore#NONE}. It stops resolving once that enemy is removed.
+     */
+    public int getTargetHandle() {
+        return targetHandle;
+    }
+
+    public boolean hasLiveTarget() {
+        return targetStore != null && targetStore.contains(targetHandle);
+    }
+
+    // Whether the locked target can be kept this tick without asking the strategy.
+    private boolean holdsTargetLock(float deltaTime) {
+        if (retargetInterval > 0) {
+            retargetTimer -= deltaTime;
+            if (retargetTimer <= 0) {
+                return false;
+            }
+        }
+        if (targetStore == null) {
+            return false;
+        }
+        int index = targetStore.indexOf(targetHandle);
+        if (index == EnemyStore.NONE || targetStore.getHealth(index) <= 0) {
+            return false;
+        }
+        float dx = targetStore.getX(index) - position.getX();
+        float dy = targetStore.getY(index) - position.getY();
+        float lockRange = range + rangeHysteresis;
+        return dx * dx + dy * dy <= lockRange * lockRange;
     }
 
     public void update(float deltaTime, List<Enemy> enemies, List<Projectile> projectiles) {
         attackCooldown -= deltaTime;
+        fireAt(selectTarget(enemies), projectiles, null);
+    }
+
+    public void update(float deltaTime, PathNetwork network, List<Projectile> projectiles) {
+        update(deltaTime, network, projectiles, null);
+    }
+
+    /**
+     * As {@link #update(float, PathNetwork, List)}, taking projectiles from
+     * {@code projectilePool} when it is not null.
+     */
+    public void update(float deltaTime, PathNetwork network, List<Projectile> projectiles,
+            ObjectPool<Projectile> projectilePool) {
+        attackCooldown -= deltaTime;
+        if (stickyTargeting && holdsTargetLock(deltaTime)) {
+            fireAt(targetStore, targetHandle, projectiles, projectilePool);
+            return;
+        }
+        boolean acquired = acquireTarget(network);
+        retargetTimer = retargetInterval;
+        if (acquired) {
+            fireAt(targetStore, targetHandle, projectiles, projectilePool);
+        }
+    }
 
-        Enemy target = selectTarget(enemies);
+    private void fireAt(Enemy target, List<Projectile> projectiles, ObjectPool<Projectile> projectilePool) {
+        if (target != null) {
+            fireAt(target.getStore(), target.getHandle(), projectiles, projectilePool);
+        }
+    }
 
-        if (target != null && attackCooldown <= 0) {
-            Projectile bullet = new Projectile(this.position, target, projectileSpeed, damage);
-            projectiles.add(bullet);
+    private void fireAt(EnemyStore store, int target, List<Projectile> projectiles,
+            ObjectPool<Projectile> projectilePool) {
+        if (attackCooldown <= 0) {
+            Projectile bullet = projectilePool != null ? projectilePool.obtain() : new Projectile();
+            projectiles.add(bullet.init(this.position, store, target, projectileSpeed, damage, splash));
             attackCooldown = baseAttackCooldown;
         }
     }
@@ -0,0 +1,443 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Updates towers only when they can do something, instead of every tick. Each
+ * tower sits in a binary min-heap keyed by the game time it next needs to run:
+ * a tower that fired sleeps until its cooldown runs out, and a ready tower with
+ * nothing to shoot sleeps until the first enemy is predicted to reach its path
+ * coverage. That prediction binary-searches each lane's {@link ProgressIndex}
+ * for the nearest enemy behind each coverage interval and assumes the lane's
+ * top speed, so it may wake a tower early but never late. Enemies spawned
+ * meanwhile can only bring that time forward, so each lane's newcomers are
+ * checked against the towers sleeping on that lane as they appear. A woken
+ * tower runs its usual {@link Tower#update} with the time elapsed since it
+ * last ran.
+ * <p>
+ * Anything that changes a tower's range, paths or targeting outside an update
+ * must be followed by {@link #wake(Tower)}, as its prediction may no longer hold.
+ */
+public class TowerScheduler {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NOT_IN_HEAP = -1;
+
+    private double time;
+    private int size;
+    private Tower[] towers = new Tower[DEFAULT_CAPACITY];
+    private double[] wakeTime = new double[DEFAULT_CAPACITY];
+    private double[] lastUpdate = new double[DEFAULT_CAPACITY];
+    // Ready but waiting for an enemy to enter coverage, rather than cooling down.
+    private boolean[] idle = new boolean[DEFAULT_CAPACITY];
+
+    // heap[0] is the slot that wakes first; heapPosition maps a slot back into it.
+    private int[] heap = new int[DEFAULT_CAPACITY];
+    private int[] heapPosition = new int[DEFAULT_CAPACITY];
+    private int heapCount;
+
+    // Slots woken this tick, pushed back once every due tower has run.
+    private int[] woken = new int[DEFAULT_CAPACITY];
+    private int lastWakeCount;
+
+    // Per lane, the spawn sequence up to which newcomers were already checked.
+    private int[] checkedSpawnSequence = new int[0];
+    // Per lane, the slots of idle towers covering it.
+    private int[][] idleByLane = new int[0][];
+    private int[] idleCountByLane = new int[0];
+
+    /**
+     * Schedules {@code tower} to run on the next update.
+     */
+    public void add(Tower tower) {
+        if (tower.scheduleSlot != Tower.UNSCHEDULED) {
+            throw new IllegalArgumentException("Tower is already scheduled");
+        }
+        if (size == towers.length) {
+            grow(size * 2);
+        }
+        int slot = size++;
+        towers[slot] = tower;
+        tower.scheduleSlot = slot;
+        wakeTime[slot] = time;
+        lastUpdate[slot] = time;
+        idle[slot] = false;
+        push(slot);
+    }
+
+    /**
+     * Stops scheduling {@code tower}; returns false if it was not scheduled here.
+     */
+    public boolean remove(Tower tower) {
+        int slot = tower.scheduleSlot;
+        if (slot == Tower.UNSCHEDULED || slot >= size || towers[slot] != tower) {
+            return false;
+        }
+        removeFromHeap(slot);
+        if (idle[slot]) {
+            removeFromIdleBuckets(slot);
+        }
+        int last = --size;
+        if (slot != last) {
+            if (idle[last]) {
+                renameInIdleBuckets(last, slot);
+            }
+            // Move the last slot into the gap, heap entry included.
+            towers[slot] = towers[last];
+            wakeTime[slot] = wakeTime[last];
+            lastUpdate[slot] = lastUpdate[last];
+            idle[slot] = idle[last];
+            int position = heapPosition[last];
+            if (position != NOT_IN_HEAP) {
+                heap[position] = slot;
+            }
+            heapPosition[slot] = position;
+            towers[slot].scheduleSlot = slot;
+        }
+        towers[last] = null;
+        tower.scheduleSlot = Tower.UNSCHEDULED;
+        return true;
+    }
+
+    /**
+     * Makes {@code tower} run on the next update, whatever it was waiting for.
+     */
+    public void wake(Tower tower) {
+        int slot = tower.scheduleSlot;
+        if (slot == Tower.UNSCHEDULED || slot >= size || towers[slot] != tower) {
+            return;
+        }
+        if (idle[slot]) {
+            removeFromIdleBuckets(slot);
+            idle[slot] = false;
+        }
+        reschedule(slot, time);
+    }
+
+    private void grow(int capacity) {
+        towers = Arrays.copyOf(towers, capacity);
+        wakeTime = Arrays.copyOf(wakeTime, capacity);
+        lastUpdate = Arrays.copyOf(lastUpdate, capacity);
+        idle = Arrays.copyOf(idle, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        heapPosition = Arrays.copyOf(heapPosition, capacity);
+        woken = new int[capacity];
+    }
+
+    /**
+     * Advances the clock by {@code deltaTime} and runs every tower that is due,
+     * as {@link Tower#update(float, PathNetwork, List, ObjectPool)} does. Returns
+     * how many towers ran.
+     */
+    public int update(float deltaTime, PathNetwork network, List<Projectile> projectiles,
+            ObjectPool<Projectile> projectilePool) {
+        time += deltaTime;
+        ensureLanes(network.getLanes().size());
+        checkNewcomers(network);
+
+        int count = 0;
+        while (heapCount > 0 && wakeTime[heap[0]] <= time) {
+            int slot = heap[0];
+            removeFromHeap(slot);
+            if (idle[slot]) {
+                removeFromIdleBuckets(slot);
+            }
+            woken[count++] = slot;
+        }
+        for (int n = 0; n < count; n++) {
+            int slot = woken[n];
+            Tower tower = towers[slot];
+            tower.update((float) (time - lastUpdate[slot]), network, projectiles, projectilePool);
+            lastUpdate[slot] = time;
+            // A ready tower that did not fire found nothing in range.
+            idle[slot] = tower.getAttackCooldowns() <= 0;
+            if (idle[slot]) {
+                wakeTime[slot] = predictEntry(tower, network);
+                addToIdleBuckets(slot, network);
+            } else {
+                wakeTime[slot] = time + tower.getAttackCooldowns();
+            }
+            push(slot);
+        }
+        lastWakeCount = count;
+        return count;
+    }
+
+    // When an enemy can next be in range of this idle tower: now if one is
+    // already inside its coverage, never if nothing is heading for it.
+    private double predictEntry(Tower tower, PathNetwork network) {
+        List<PathCoverage> coverages = tower.getPathCoverages();
+        if (coverages.isEmpty()) {
+            // No coverage to predict with; the tower scans every lane each tick.
+            return time;
+        }
+        double earliest = Double.POSITIVE_INFINITY;
+        for (int c = 0; c < coverages.size(); c++) {
+            PathCoverage coverage = coverages.get(c);
+            PathNetwork.Lane lane = network.getLane(coverage.getPath());
+            if (lane == null || coverage.getIntervalCount() == 0) {
+                continue;
+            }
+            EnemyStore store = lane.getStore();
+            ProgressIndex index = store.getProgressIndex();
+            float pathLength = coverage.getPath().getPathLength();
+            float maxSpeed = store.getMaxSpeed();
+            float previousEnd = Float.NEGATIVE_INFINITY;
+            for (int k = 0; k < coverage.getIntervalCount(); k++) {
+                float start = coverage.getIntervalStart(k);
+                int first = index.lowerBound(start);
+                if (first < index.upperBound(coverage.getIntervalEnd(k))) {
+                    return time;
+                }
+                // Every other enemy heading here is further back and no faster
+                // than the top speed; anything behind the previous interval
+                // reaches that one first.
+                for (int p = first - 1; p >= 0 && index.progressAt(p) > previousEnd; p--) {
+                    int i = index.indexAt(p);
+                    if (store.getHealth(i) > 0 && store.getSpeed(i) > 0f) {
+                        if (pathLength > 0f) {
+                            earliest = Math.min(earliest, (double) (start - index.progressAt(p)) * pathLength / maxSpeed);
+                        }
+                        break;
+                    }
+                }
+                previousEnd = coverage.getIntervalEnd(k);
+            }
+        }
+        return time + earliest;
+    }
+
+    // Seconds until enemy i reaches the next coverage interval ahead of it.
+    private static double secondsUntilEntry(PathCoverage coverage, EnemyStore store, int i, float pathLength) {
+        float progress = store.getProgress(i);
+        float speed = store.getSpeed(i);
+        if (store.getHealth(i) <= 0 || speed <= 0f || pathLength <= 0f) {
+            return Double.POSITIVE_INFINITY;
+        }
+        for (int k = 0; k < coverage.getIntervalCount(); k++) {
+            float start = coverage.getIntervalStart(k);
+            if (progress <= coverage.getIntervalEnd(k)) {
+                return progress >= start ? 0.0 : (double) (start - progress) * pathLength / speed;
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    private void ensureLanes(int lanes) {
+        if (checkedSpawnSequence.length < lanes) {
+            checkedSpawnSequence = Arrays.copyOf(checkedSpawnSequence, lanes);
+            idleCountByLane = Arrays.copyOf(idleCountByLane, lanes);
+            int previous = idleByLane.length;
+            idleByLane = Arrays.copyOf(idleByLane, lanes);
+            for (int l = previous; l < lanes; l++) {
+                idleByLane[l] = new int[DEFAULT_CAPACITY];
+            }
+        }
+    }
+
+    // Brings idle towers' wake times forward for enemies spawned since the last update.
+    private void checkNewcomers(PathNetwork network) {
+        List<PathNetwork.Lane> lanes = network.getLanes();
+        for (int l = 0; l < lanes.size(); l++) {
+            EnemyStore store = lanes.get(l).getStore();
+            int checked = checkedSpawnSequence[l];
+            int next = store.getNextSpawnSequence();
+            if (next == checked) {
+                continue;
+            }
+            checkedSpawnSequence[l] = next;
+            if (idleCountByLane[l] == 0) {
+                continue;
+            }
+            for (int i = 0; i < store.size(); i++) {
+                if (store.getSpawnSequence(i) >= checked) {
+                    wakeIdleTowersFor(l, store, i);
+                }
+            }
+        }
+    }
+
+    private void wakeIdleTowersFor(int lane, EnemyStore store, int index) {
+        Path path = store.getPath();
+        float pathLength = path.getPathLength();
+        int[] bucket = idleByLane[lane];
+        for (int n = 0; n < idleCountByLane[lane]; n++) {
+            int slot = bucket[n];
+            List<PathCoverage> coverages = towers[slot].getPathCoverages();
+            for (int c = 0; c < coverages.size(); c++) {
+                if (coverages.get(c).getPath() != path) {
+                    continue;
+                }
+                double entry = time + secondsUntilEntry(coverages.get(c), store, index, pathLength);
+                if (entry < wakeTime[slot]) {
+                    reschedule(slot, entry);
+                }
+            }
+        }
+    }
+
+    // Files an idle tower under every lane its coverage reaches.
+    private void addToIdleBuckets(int slot, PathNetwork network) {
+        List<PathCoverage> coverages = towers[slot].getPathCoverages();
+        List<PathNetwork.Lane> lanes = network.getLanes();
+        for (int l = 0; l < lanes.size(); l++) {
+            Path path = lanes.get(l).getPath();
+            for (int c = 0; c < coverages.size(); c++) {
+                PathCoverage coverage = coverages.get(c);
+                if (coverage.getPath() == path && coverage.getIntervalCount() > 0) {
+                    if (idleCountByLane[l] == idleByLane[l].length) {
+                        idleByLane[l] = Arrays.copyOf(idleByLane[l], idleCountByLane[l] * 2);
+                    }
+                    idleByLane[l][idleCountByLane[l]++] = slot;
+                    break;
+                }
+            }
+        }
+    }
+
+    private void removeFromIdleBuckets(int slot) {
+        for (int l = 0; l < idleByLane.length; l++) {
+            int[] bucket = idleByLane[l];
+            for (int n = 0; n < idleCountByLane[l]; n++) {
+                if (bucket[n] == slot) {
+                    bucket[n] = bucket[--idleCountByLane[l]];
+                    break;
+                }
+            }
+        }
+    }
+
+    private void renameInIdleBuckets(int from, int to) {
+        for (int l = 0; l < idleByLane.length; l++) {
+            int[] bucket = idleByLane[l];
+            for (int n = 0; n < idleCountByLane[l]; n++) {
+                if (bucket[n] == from) {
+                    bucket[n] = to;
+                    break;
+                }
+            }
+        }
+    }
+
+    private void reschedule(int slot, double at) {
+        double previous = wakeTime[slot];
+        wakeTime[slot] = at;
+        if (at < previous) {
+            siftUp(heapPosition[slot]);
+        } else {
+            siftDown(heapPosition[slot]);
+        }
+    }
+
+    private void push(int slot) {
+        int position = heapCount++;
+        heap[position] = slot;
+        heapPosition[slot] = position;
+        siftUp(position);
+    }
+
+    private void removeFromHeap(int slot) {
+        int position = heapPosition[slot];
+        int last = --heapCount;
+        heapPosition[slot] = NOT_IN_HEAP;
+        if (position != last) {
+            int moved = heap[last];
+            heap[position] = moved;
+            heapPosition[moved] = position;
+            siftDown(position);
+            siftUp(heapPosition[moved]);
+        }
+    }
+
+    private void siftUp(int position) {
+        int slot = heap[position];
+        double key = wakeTime[slot];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentSlot = heap[parent];
+            if (wakeTime[parentSlot] <= key) {
+                break;
+            }
+            heap[position] = parentSlot;
+            heapPosition[parentSlot] = position;
+            position = parent;
+        }
+        heap[position] = slot;
+        heapPosition[slot] = position;
+    }
+
+    private void siftDown(int position) {
+        int count = heapCount;
+        int slot = heap[position];
+        double key = wakeTime[slot];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && wakeTime[heap[child + 1]] < wakeTime[heap[child]]) {
+                child++;
+            }
+            int childSlot = heap[child];
+            if (key <= wakeTime[childSlot]) {
+                break;
+            }
+            heap[position] = childSlot;
+            heapPosition[childSlot] = position;
+            position = child;
+        }
+        heap[position] = slot;
+        heapPosition[slot] = position;
+    }
+
+    /**
+     * Game time at which {@code tower} will next run, or positive infinity while
+     * it waits for enemies that are not coming.
+     */
+    public double getWakeTime(Tower tower) {
+        return wakeTime[tower.scheduleSlot];
+    }
+
+    /**
+     * Whether {@code tower} is ready to fire and waiting for an enemy to enter
+     * its coverage.
+     */
+    public boolean isIdle(Tower tower) {
+        return idle[tower.scheduleSlot];
+    }
+
+    /**
+     * Whether {@code tower} is run by this scheduler.
+     */
+    public boolean contains(Tower tower) {
+        int slot = tower.scheduleSlot;
+        return slot != Tower.UNSCHEDULED && slot < size && towers[slot] == tower;
+    }
+
+    /**
+     * Cooldown {@code tower} has left now. The tower's own cooldown is only
+     * brought up to date when it runs, so while it sleeps this counts down from
+     * its last run instead; a tower cooling down after a shot reaches zero at
+     * its wake time.
+     */
+    public float getRemainingCooldown(Tower tower) {
+        int slot = tower.scheduleSlot;
+        double remaining = tower.getAttackCooldowns() - (time - lastUpdate[slot]);
+        return remaining > 0 ? (float) remaining : 0f;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * How many towers ran during the last {@link #update}.
+     */
+    public int getLastWakeCount() {
+        return lastWakeCount;
+    }
+}
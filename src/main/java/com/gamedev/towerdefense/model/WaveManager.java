@@ -18,20 +18,29 @@ public class WaveManager {
 
         float spawnTime;
         GameConfig.WaveEnemyConfig enemyConfig;
+        String pathId;
+        // Resolved from the entry's type name at load; EnemyType.CUSTOM for custom stats.
+        int typeId;
 
-        PendingEnemy(float spawnTime, GameConfig.WaveEnemyConfig enemyConfig) {
+        PendingEnemy(float spawnTime, GameConfig.WaveEnemyConfig enemyConfig, String pathId, int typeId) {
             this.spawnTime = spawnTime;
             this.enemyConfig = enemyConfig;
+            this.pathId = pathId;
+            this.typeId = typeId;
         }
     }
 
     public WaveManager(List<GameConfig.WaveConfig> waves) {
+        this(waves, EnemyTypes.defaults());
+    }
+
+    public WaveManager(List<GameConfig.WaveConfig> waves, EnemyTypes enemyTypes) {
         this.waves = waves != null ? waves : new ArrayList<>();
         this.pendingEnemies = new ArrayList<>();
         this.gameTime = 0f;
         this.currentWaveIndex = 0;
         this.allWavesComplete = false;
-        this.enemyFactory = new EnemyFactory();
+        this.enemyFactory = new EnemyFactory(enemyTypes);
         prepareWaveEnemies();
     }
 
@@ -42,53 +51,103 @@ public class WaveManager {
             if (wave.getEnemies() != null) {
                 for (GameConfig.WaveEnemyConfig enemyConfig : wave.getEnemies()) {
                     float spawnTime = waveStartTime + enemyConfig.getSpawnDelay();
-                    pendingEnemies.add(new PendingEnemy(spawnTime, enemyConfig));
+                    String pathId = enemyConfig.getPath() != null ? enemyConfig.getPath() : wave.getPath();
+                    pendingEnemies.add(new PendingEnemy(spawnTime, enemyConfig, pathId, resolveTypeId(enemyConfig)));
                 }
             }
         }
         pendingEnemies.sort((a, b) -> Float.compare(a.spawnTime, b.spawnTime));
     }
 
+    private int resolveTypeId(GameConfig.WaveEnemyConfig enemyConfig) {
+        String type = enemyConfig.getType();
+        if (type == null || type.isEmpty()) {
+            return EnemyType.CUSTOM;
+        }
+        if (enemyFactory.getTypes().idOf(type) == EnemyType.CUSTOM) {
+            System.err.println("Unknown enemy type '" + type + "', using "
+                    + enemyFactory.getTypes().getDefault().getName());
+        }
+        return enemyFactory.resolveTypeId(type);
+    }
+
     public void update(float deltaTime, List<Enemy> enemies, Path path) {
         gameTime += deltaTime;
 
-        if (allWavesComplete) {
-            return;
-        }
-
-        while (currentWaveIndex < pendingEnemies.size()) {
-            PendingEnemy pending = pendingEnemies.get(currentWaveIndex);
-
-            if (gameTime >= pending.spawnTime) {
-                GameConfig.WaveEnemyConfig enemyConfig = pending.enemyConfig;
-                Enemy enemy;
-                
-                if (enemyConfig.getType() != null && !enemyConfig.getType().isEmpty()) {
-                    enemy = enemyFactory.createEnemy(enemyConfig.getType(), path);
-                } else {
-                    int reward = enemyConfig.getReward();
-                    if (reward == 0) {
-                        reward = 10;
-                    }
-                    enemy = enemyFactory.createCustomEnemy(
-                        path, 
-                        enemyConfig.getHealth(),
-                        enemyConfig.getSpeed(), 
-                        0, 
-                        reward
-                    );
-                }
-                
-                enemies.add(enemy);
-                currentWaveIndex++;
-            } else {
-                break;
-            }
+        PendingEnemy pending;
+        while ((pending = nextDueEnemy()) != null) {
+            enemies.add(createEnemy(pending, path));
         }
+    }
+
+    /**
+     * Spawns due enemies into the lane their wave entry targets, falling back to
+     * the network's default lane when no path is named.
+     */
+    public void update(float deltaTime, PathNetwork network) {
+        gameTime += deltaTime;
 
+        PendingEnemy pending;
+        while ((pending = nextDueEnemy()) != null) {
+            spawnEnemy(pending, network.getLane(pending.pathId).getStore());
+        }
+    }
+
+    private PendingEnemy nextDueEnemy() {
+        if (allWavesComplete) {
+            return null;
+        }
         if (currentWaveIndex >= pendingEnemies.size()) {
             allWavesComplete = true;
+            return null;
         }
+
+        PendingEnemy pending = pendingEnemies.get(currentWaveIndex);
+        if (gameTime < pending.spawnTime) {
+            return null;
+        }
+        currentWaveIndex++;
+        return pending;
+    }
+
+    private int spawnEnemy(PendingEnemy pending, EnemyStore store) {
+        GameConfig.WaveEnemyConfig enemyConfig = pending.enemyConfig;
+        if (pending.typeId != EnemyType.CUSTOM) {
+            return enemyConfig.isSwarm()
+                    ? enemyFactory.spawnSwarm(pending.typeId, enemyConfig.getSwarmSize(), store)
+                    : enemyFactory.spawnEnemy(pending.typeId, store);
+        }
+        int reward = enemyConfig.getReward();
+        if (reward == 0) {
+            reward = 10;
+        }
+        if (enemyConfig.isSwarm()) {
+            return enemyFactory.spawnCustomSwarm(store, enemyConfig.getHealth(), enemyConfig.getSpeed(), reward,
+                    enemyConfig.getSwarmSize());
+        }
+        return enemyFactory.spawnCustomEnemy(store, enemyConfig.getHealth(), enemyConfig.getSpeed(), reward);
+    }
+
+    private Enemy createEnemy(PendingEnemy pending, Path path) {
+        if (pending.enemyConfig.isSwarm()) {
+            EnemyStore own = new EnemyStore(path, 1);
+            return own.enemy(spawnEnemy(pending, own));
+        }
+        if (pending.typeId != EnemyType.CUSTOM) {
+            return new Enemy(path, enemyFactory.getTypes().get(pending.typeId), 0);
+        }
+        GameConfig.WaveEnemyConfig enemyConfig = pending.enemyConfig;
+        int reward = enemyConfig.getReward();
+        if (reward == 0) {
+            reward = 10;
+        }
+        return enemyFactory.createCustomEnemy(
+            path,
+            enemyConfig.getHealth(),
+            enemyConfig.getSpeed(),
+            0,
+            reward
+        );
     }
 
     public float getGameTime() {
@@ -108,6 +167,20 @@ public class WaveManager {
         return 1;
     }
 
+    /**
+     * Most enemies any single wave spawns, used to size pools before play starts.
+     * A swarm counts once, as it takes a single store slot.
+     */
+    public int getLargestWaveSize() {
+        int largest = 0;
+        for (GameConfig.WaveConfig wave : waves) {
+            if (wave.getEnemies() != null) {
+                largest = Math.max(largest, wave.getEnemies().size());
+            }
+        }
+        return largest;
+    }
+
     public int getTotalWaves() {
         return waves.size();
     }
@@ -0,0 +1,201 @@
+package com.gamedev.towerdefense.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+
+/**
+ * The hot simulation state packed into one contiguous off-heap buffer, so a
+ * snapshot for saving, replay or rendering on another thread is a single bulk
+ * memory copy and reading it creates no objects. {@link #capture} fills it from
+ * the live stores with one bulk copy per array; {@link WorldStateView} reads it.
+ *
+ * <p>Layout, in 32-bit words in native byte order. Per-entity fields are stored
+ * column by column: all enemy progresses, then all enemy healths, and so on.
+ * <pre>
+ * header   MAGIC, VERSION, game time (f), lives, budget, enemy count E,
+ *          tower count T, mover count M
+ * enemies  E x: progress (f), health, x (f), y (f), animation time (f),
+ *          direction row, member count, member health
+ * towers   T x: x (f), y (f), attack cooldown (f), tower id
+ * movers   M x: x (f), y (f), target x (f), target y (f), speed (f), kind
+ * </pre>
+ * Enemies of all lanes are concatenated in lane order. Fields marked (f) are
+ * floats, the rest ints.
+ */
+public class WorldStateBuffer {
+    public static final int MAGIC = 0x54445753;
+    public static final int VERSION = 1;
+
+    static final int MAGIC_WORD = 0;
+    static final int VERSION_WORD = 1;
+    static final int GAME_TIME_WORD = 2;
+    static final int LIVES_WORD = 3;
+    static final int BUDGET_WORD = 4;
+    static final int ENEMY_COUNT_WORD = 5;
+    static final int TOWER_COUNT_WORD = 6;
+    static final int MOVER_COUNT_WORD = 7;
+    static final int HEADER_WORDS = 8;
+
+    static final int ENEMY_PROGRESS = 0;
+    static final int ENEMY_HEALTH = 1;
+    static final int ENEMY_X = 2;
+    static final int ENEMY_Y = 3;
+    static final int ENEMY_ANIMATION_TIME = 4;
+    static final int ENEMY_DIRECTION_ROW = 5;
+    static final int ENEMY_MEMBER_COUNT = 6;
+    static final int ENEMY_MEMBER_HEALTH = 7;
+    static final int ENEMY_COLUMNS = 8;
+
+    static final int TOWER_X = 0;
+    static final int TOWER_Y = 1;
+    static final int TOWER_COOLDOWN = 2;
+    static final int TOWER_ID = 3;
+    static final int TOWER_COLUMNS = 4;
+
+    static final int MOVER_X = 0;
+    static final int MOVER_Y = 1;
+    static final int MOVER_TARGET_X = 2;
+    static final int MOVER_TARGET_Y = 3;
+    static final int MOVER_SPEED = 4;
+    static final int MOVER_KIND = 5;
+    static final int MOVER_COLUMNS = 6;
+
+    private ByteBuffer buffer;
+    private FloatBuffer floats;
+    private IntBuffer ints;
+    private int sizeWords;
+
+    public WorldStateBuffer() {
+        this(0, 0, 0);
+    }
+
+    /**
+     * A buffer sized so capturing up to the given counts does not reallocate.
+     */
+    public WorldStateBuffer(int enemies, int towers, int movers) {
+        allocate(wordsFor(enemies, towers, movers));
+    }
+
+    static int wordsFor(int enemies, int towers, int movers) {
+        return HEADER_WORDS + enemies * ENEMY_COLUMNS + towers * TOWER_COLUMNS + movers * MOVER_COLUMNS;
+    }
+
+    private void allocate(int words) {
+        buffer = ByteBuffer.allocateDirect(words * Integer.BYTES).order(ByteOrder.nativeOrder());
+        floats = buffer.asFloatBuffer();
+        ints = buffer.asIntBuffer();
+    }
+
+    private void ensureWords(int words) {
+        int capacity = ints.capacity();
+        if (words > capacity) {
+            ByteBuffer old = buffer;
+            allocate(Math.max(words, capacity * 2));
+            buffer.put(0, old, 0, sizeWords * Integer.BYTES);
+        }
+    }
+
+    /**
+     * Packs the current state into the buffer, replacing what was there. Grows
+     * the buffer when the counts outgrow it; otherwise allocates nothing.
+     */
+    public void capture(float gameTime, int lives, int budget, PathNetwork network, List<Tower> towers,
+            Kinematics movers) {
+        capture(gameTime, lives, budget, network, towers, null, movers);
+    }
+
+    /**
+     * As {@link #capture(float, int, int, PathNetwork, List, Kinematics)}, taking
+     * the cooldowns of towers run by {@code scheduler} from it, as theirs are
+     * stale while they sleep. {@code scheduler} may be null.
+     */
+    public void capture(float gameTime, int lives, int budget, PathNetwork network, List<Tower> towers,
+            TowerScheduler scheduler, Kinematics movers) {
+        List<PathNetwork.Lane> lanes = network.getLanes();
+        int enemyCount = 0;
+        for (int i = 0; i < lanes.size(); i++) {
+            enemyCount += lanes.get(i).getStore().size();
+        }
+        int towerCount = towers.size();
+        int moverCount = movers.size();
+        int words = wordsFor(enemyCount, towerCount, moverCount);
+        ensureWords(words);
+
+        ints.put(MAGIC_WORD, MAGIC);
+        ints.put(VERSION_WORD, VERSION);
+        floats.put(GAME_TIME_WORD, gameTime);
+        ints.put(LIVES_WORD, lives);
+        ints.put(BUDGET_WORD, budget);
+        ints.put(ENEMY_COUNT_WORD, enemyCount);
+        ints.put(TOWER_COUNT_WORD, towerCount);
+        ints.put(MOVER_COUNT_WORD, moverCount);
+
+        int at = HEADER_WORDS;
+        for (int i = 0; i < lanes.size(); i++) {
+            EnemyStore store = lanes.get(i).getStore();
+            store.copyColumnsTo(floats, ints, at, enemyCount);
+            at += store.size();
+        }
+
+        int towerBase = HEADER_WORDS + enemyCount * ENEMY_COLUMNS;
+        for (int i = 0; i < towerCount; i++) {
+            Tower tower = towers.get(i);
+            floats.put(towerBase + TOWER_X * towerCount + i, tower.getPosition().getX());
+            floats.put(towerBase + TOWER_Y * towerCount + i, tower.getPosition().getY());
+            float cooldown = scheduler != null && scheduler.contains(tower)
+                    ? scheduler.getRemainingCooldown(tower) : tower.getAttackCooldowns();
+            floats.put(towerBase + TOWER_COOLDOWN * towerCount + i, cooldown);
+            ints.put(towerBase + TOWER_ID * towerCount + i, tower.getTowerId());
+        }
+
+        movers.copyColumnsTo(floats, ints, towerBase + towerCount * TOWER_COLUMNS);
+        sizeWords = words;
+    }
+
+    /**
+     * Copies the captured state into {@code target} with one bulk copy, growing
+     * it if needed. The copy is unaffected by later captures into this buffer.
+     */
+    public void copyTo(WorldStateBuffer target) {
+        target.ensureWords(sizeWords);
+        target.buffer.put(0, buffer, 0, sizeWords * Integer.BYTES);
+        target.sizeWords = sizeWords;
+    }
+
+    /**
+     * A new buffer holding a copy of the captured state.
+     */
+    public WorldStateBuffer snapshot() {
+        WorldStateBuffer copy = new WorldStateBuffer();
+        copyTo(copy);
+        return copy;
+    }
+
+    /**
+     * A reader over the captured state. Valid until the next capture into, or
+     * copy into, this buffer.
+     */
+    public WorldStateView view() {
+        return new WorldStateView(buffer);
+    }
+
+    /**
+     * The captured bytes, read-only, for writing out a save or replay frame.
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        ByteBuffer bytes = buffer.asReadOnlyBuffer().order(buffer.order());
+        bytes.limit(getSizeBytes());
+        return bytes;
+    }
+
+    public int getSizeBytes() {
+        return sizeWords * Integer.BYTES;
+    }
+
+    public int getCapacityBytes() {
+        return buffer.capacity();
+    }
+}
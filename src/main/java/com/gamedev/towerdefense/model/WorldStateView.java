@@ -0,0 +1,160 @@
+package com.gamedev.towerdefense.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Reads a state laid out as described in {@link WorldStateBuffer} straight from
+ * its bytes, without deserialising it. Works over the live buffer, a snapshot,
+ * or bytes read back from a save; a save from a machine of the other byte order
+ * is detected from the magic word and read in that order.
+ */
+public class WorldStateView {
+    private final ByteBuffer bytes;
+    private final int enemyCount;
+    private final int towerCount;
+    private final int moverCount;
+    private final int enemyBase;
+    private final int towerBase;
+    private final int moverBase;
+
+    public WorldStateView(ByteBuffer source) {
+        ByteBuffer bytes = source.duplicate().order(ByteOrder.nativeOrder());
+        if (bytes.getInt(0) != WorldStateBuffer.MAGIC) {
+            ByteOrder other = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN
+                    : ByteOrder.BIG_ENDIAN;
+            bytes.order(other);
+            if (bytes.getInt(0) != WorldStateBuffer.MAGIC) {
+                throw new IllegalArgumentException("Not a world state buffer");
+            }
+        }
+        int version = bytes.getInt(WorldStateBuffer.VERSION_WORD * Integer.BYTES);
+        if (version != WorldStateBuffer.VERSION) {
+            throw new IllegalArgumentException("Unsupported world state version: " + version);
+        }
+        this.bytes = bytes;
+        enemyCount = word(WorldStateBuffer.ENEMY_COUNT_WORD);
+        towerCount = word(WorldStateBuffer.TOWER_COUNT_WORD);
+        moverCount = word(WorldStateBuffer.MOVER_COUNT_WORD);
+        enemyBase = WorldStateBuffer.HEADER_WORDS;
+        towerBase = enemyBase + enemyCount * WorldStateBuffer.ENEMY_COLUMNS;
+        moverBase = towerBase + towerCount * WorldStateBuffer.TOWER_COLUMNS;
+    }
+
+    private int word(int index) {
+        return bytes.getInt(index * Integer.BYTES);
+    }
+
+    private float floatWord(int index) {
+        return bytes.getFloat(index * Integer.BYTES);
+    }
+
+    private int enemyWord(int column, int index) {
+        return enemyBase + column * enemyCount + index;
+    }
+
+    private int towerWord(int column, int index) {
+        return towerBase + column * towerCount + index;
+    }
+
+    private int moverWord(int column, int index) {
+        return moverBase + column * moverCount + index;
+    }
+
+    public float getGameTime() {
+        return floatWord(WorldStateBuffer.GAME_TIME_WORD);
+    }
+
+    public int getLives() {
+        return word(WorldStateBuffer.LIVES_WORD);
+    }
+
+    public int getBudget() {
+        return word(WorldStateBuffer.BUDGET_WORD);
+    }
+
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    public float getEnemyProgress(int index) {
+        return floatWord(enemyWord(WorldStateBuffer.ENEMY_PROGRESS, index));
+    }
+
+    public int getEnemyHealth(int index) {
+        return word(enemyWord(WorldStateBuffer.ENEMY_HEALTH, index));
+    }
+
+    public float getEnemyX(int index) {
+        return floatWord(enemyWord(WorldStateBuffer.ENEMY_X, index));
+    }
+
+    public float getEnemyY(int index) {
+        return floatWord(enemyWord(WorldStateBuffer.ENEMY_Y, index));
+    }
+
+    public float getEnemyAnimationTime(int index) {
+        return floatWord(enemyWord(WorldStateBuffer.ENEMY_ANIMATION_TIME, index));
+    }
+
+    public int getEnemyDirectionRow(int index) {
+        return word(enemyWord(WorldStateBuffer.ENEMY_DIRECTION_ROW, index));
+    }
+
+    public int getEnemyMemberCount(int index) {
+        return word(enemyWord(WorldStateBuffer.ENEMY_MEMBER_COUNT, index));
+    }
+
+    public int getEnemyAliveMembers(int index) {
+        return EnemyStore.aliveMembers(getEnemyHealth(index), getEnemyMemberCount(index),
+                word(enemyWord(WorldStateBuffer.ENEMY_MEMBER_HEALTH, index)));
+    }
+
+    public int getTowerCount() {
+        return towerCount;
+    }
+
+    public float getTowerX(int index) {
+        return floatWord(towerWord(WorldStateBuffer.TOWER_X, index));
+    }
+
+    public float getTowerY(int index) {
+        return floatWord(towerWord(WorldStateBuffer.TOWER_Y, index));
+    }
+
+    public float getTowerCooldown(int index) {
+        return floatWord(towerWord(WorldStateBuffer.TOWER_COOLDOWN, index));
+    }
+
+    public int getTowerId(int index) {
+        return word(towerWord(WorldStateBuffer.TOWER_ID, index));
+    }
+
+    public int getMoverCount() {
+        return moverCount;
+    }
+
+    public float getMoverX(int index) {
+        return floatWord(moverWord(WorldStateBuffer.MOVER_X, index));
+    }
+
+    public float getMoverY(int index) {
+        return floatWord(moverWord(WorldStateBuffer.MOVER_Y, index));
+    }
+
+    public float getMoverTargetX(int index) {
+        return floatWord(moverWord(WorldStateBuffer.MOVER_TARGET_X, index));
+    }
+
+    public float getMoverTargetY(int index) {
+        return floatWord(moverWord(WorldStateBuffer.MOVER_TARGET_Y, index));
+    }
+
+    public float getMoverSpeed(int index) {
+        return floatWord(moverWord(WorldStateBuffer.MOVER_SPEED, index));
+    }
+
+    public int getMoverKind(int index) {
+        return word(moverWord(WorldStateBuffer.MOVER_KIND, index));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gamedev.towerdefense.util;
+
+/**
+ * Wall-clock time per phase of a world update, kept both for the last tick and
+ * summed since the last {@link #reset()}. Phases are timed back to back: each
+ * {@link #mark(int)} charges the time since the previous mark, or since
+ * {@link #beginTick()}, to the given phase. Nothing is allocated while timing.
+ */
+public class TickProfiler {
+    public static final int WAVES = 0;
+    public static final int ENEMIES = 1;
+    public static final int TOWERS = 2;
+    public static final int MOVERS = 3;
+    public static final int CAPTURE = 4;
+    public static final int PHASE_COUNT = 5;
+
+    private static final String[] PHASE_NAMES = {"waves", "enemies", "towers", "movers", "capture"};
+
+    private final long[] lastNanos = new long[PHASE_COUNT];
+    private final long[] totalNanos = new long[PHASE_COUNT];
+    private long markedAt;
+    private int tickCount;
+
+    public void beginTick() {
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            lastNanos[phase] = 0L;
+        }
+        tickCount++;
+        markedAt = System.nanoTime();
+    }
+
+    public void mark(int phase) {
+        long now = System.nanoTime();
+        long elapsed = now - markedAt;
+        lastNanos[phase] += elapsed;
+        totalNanos[phase] += elapsed;
+        markedAt = now;
+    }
+
+    public void reset() {
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            lastNanos[phase] = 0L;
+            totalNanos[phase] = 0L;
+        }
+        tickCount = 0;
+    }
+
+    public long getLastNanos(int phase) {
+        return lastNanos[phase];
+    }
+
+    public long getTotalNanos(int phase) {
+        return totalNanos[phase];
+    }
+
+    /**
+     * Mean nanoseconds per tick spent in {@code phase} since the last reset.
+     */
+    public double getAverageNanos(int phase) {
+        return tickCount > 0 ? (double) totalNanos[phase] / tickCount : 0.0;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    /**
+     * One-line summary of the mean microseconds per tick of every phase.
+     */
+    public String describe() {
+        StringBuilder summary = new StringBuilder("Tick (us, mean of ").append(tickCount).append("):");
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            summary.append(String.format(" %s %.1f", PHASE_NAMES[phase], getAverageNanos(phase) / 1_000.0));
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,270 @@
+package com.gamedev.towerdefense;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gamedev.towerdefense.config.GameConfig;
+import com.gamedev.towerdefense.model.EnemyStore;
+import com.gamedev.towerdefense.model.MoneyCoin;
+import com.gamedev.towerdefense.model.Position;
+import com.gamedev.towerdefense.model.Projectile;
+import com.gamedev.towerdefense.model.Tower;
+import com.gamedev.towerdefense.model.WorldStateBuffer;
+import com.gamedev.towerdefense.model.WorldStateView;
+import com.gamedev.towerdefense.util.TickProfiler;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameWorldTest {
+
+    private static final String CONFIG = "{"
+            + "\"initialBudget\": 100, \"initialLives\": 3,"
+            + "\"path\": {\"waypoints\": [{\"x\": 1280, \"y\": 360}, {\"x\": 640, \"y\": 420}, {\"x\": 0, \"y\": 360}]},"
+            + "\"initialEnemies\": ["
+            + "  {\"health\": 1000000, \"speed\": 5, \"reward\": 10},"
+            + "  {\"health\": 1000000, \"speed\": 7, \"reward\": 10}"
+            + "]}";
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    public void testUpdate_SteadyStateDoesNotAllocate() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        for (int i = 0; i < 4; i++) {
+            Tower tower = new Tower(30, 200, 1, 0.1f, 300f, new Position(1200 - i * 30, 330), 1);
+            tower.setPaths(world.getPathNetwork().getPaths());
+            world.addTower(tower);
+        }
+
+        for (int tick = 0; tick < 300; tick++) {
+            world.update(1f / 60f);
+        }
+        assertFalse(world.getProjectiles().isEmpty(), "towers should be firing");
+
+        // The allocation counter itself allocates; take its cost from an empty window.
+        long probeCost = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            long start = allocatedBytes();
+            probeCost = Math.min(probeCost, allocatedBytes() - start);
+        }
+
+        long before = allocatedBytes();
+        for (int tick = 0; tick < 600; tick++) {
+            world.update(1f / 60f);
+        }
+        long allocated = allocatedBytes() - before - probeCost;
+
+        // The probe's cost varies by ~100 bytes; one Position per tick would be ~14 KB.
+        assertTrue(allocated < 1024, "bytes allocated over 600 ticks: " + allocated);
+        assertTrue(world.getProjectilePool().getHits() > 0);
+    }
+
+    @Test
+    public void testUpdate_StateCaptureFollowsTheWorldWithoutAllocating() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        Tower tower = new Tower(30, 200, 1, 0.1f, 300f, new Position(1200, 330), 1);
+        tower.setPaths(world.getPathNetwork().getPaths());
+        world.addTower(tower);
+        WorldStateBuffer state = world.enableStateCapture();
+        for (int tick = 0; tick < 300; tick++) {
+            world.update(1f / 60f);
+        }
+
+        long probeCost = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            long start = allocatedBytes();
+            probeCost = Math.min(probeCost, allocatedBytes() - start);
+        }
+        long before = allocatedBytes();
+        for (int tick = 0; tick < 600; tick++) {
+            world.update(1f / 60f);
+        }
+        long allocated = allocatedBytes() - before - probeCost;
+        assertTrue(allocated < 1024, "bytes allocated over 600 ticks: " + allocated);
+
+        WorldStateView view = state.view();
+        assertEquals(world.getPathNetwork().getEnemyCount(), view.getEnemyCount());
+        assertEquals(world.getLives(), view.getLives());
+        assertEquals(world.getMovers().size(), view.getMoverCount());
+        assertEquals(world.getPathNetwork().getLanes().get(0).getStore().getX(0), view.getEnemyX(0));
+        assertEquals(1, view.getTowerCount());
+    }
+
+    private static final String SWARM_CONFIG = "{"
+            + "\"initialBudget\": 100, \"initialLives\": 3,"
+            + "\"path\": {\"waypoints\": [{\"x\": 1280, \"y\": 360}, {\"x\": 0, \"y\": 360}]},"
+            + "\"enemyTypes\": [{\"name\": \"pest\", \"health\": 5, \"speed\": 40, \"reward\": 1}],"
+            + "\"waves\": [{\"waveNumber\": 1, \"startTime\": 0,"
+            + "  \"enemies\": [{\"type\": \"pest\", \"spawnDelay\": 0, \"swarmSize\": 20}]}]"
+            + "}";
+
+    // Alive members of the configured swarm once the first shot at it lands.
+    private static int aliveAfterFirstHit(boolean splash) {
+        GameWorld world = new GameWorld(GameConfig.parse(SWARM_CONFIG));
+        Tower tower = new Tower(30, 150, 12, 0.1f, 600f, new Position(1200, 380), 1);
+        tower.setSplash(splash);
+        tower.setPaths(world.getPathNetwork().getPaths());
+        world.addTower(tower);
+        EnemyStore store = world.getPathNetwork().getDefaultLane().getStore();
+        for (int tick = 0; tick < 600; tick++) {
+            world.update(1f / 60f);
+            if (store.size() == 1 && store.getHealth(0) < 100) {
+                return store.getAliveMembers(0);
+            }
+        }
+        throw new AssertionError("the swarm was never hit");
+    }
+
+    @Test
+    public void testUpdate_SwarmWaveTakesOneMemberPerHitUnlessSplash() {
+        assertEquals(19, aliveAfterFirstHit(false));
+        assertEquals(18, aliveAfterFirstHit(true));
+    }
+
+    @Test
+    public void testUpdate_StateCaptureIsOffUnlessEnabled() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        world.update(1f / 60f);
+        assertNull(world.getStateBuffer());
+
+        WorldStateView view = world.enableStateCapture().view();
+        world.update(1f / 60f);
+        float captured = view.getGameTime();
+        assertTrue(captured > 0f);
+        world.disableStateCapture();
+        world.update(1f / 60f);
+
+        assertNull(world.getStateBuffer());
+        assertEquals(captured, view.getGameTime());
+    }
+
+    @Test
+    public void testUpdate_RemovesArrivedCoinsAndKeepsOrderOfTheRest() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        Position target = new Position(0, 0);
+        List<MoneyCoin> expected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            // Every other coin starts on its target and arrives on the first update.
+            boolean arrives = i % 2 == 1;
+            MoneyCoin coin = new MoneyCoin().init(arrives ? 0f : 500f + i, 0f, target, 1f, i);
+            world.getMoneyCoins().add(coin);
+            if (!arrives) {
+                expected.add(coin);
+            }
+        }
+        int budgetBefore = world.getBudgetManager().getBudget();
+        int freeBefore = world.getCoinPool().getFreeCount();
+
+        world.update(1f / 60f);
+
+        assertEquals(expected, world.getMoneyCoins());
+        assertEquals(budgetBefore + 1 + 3 + 5 + 7, world.getBudgetManager().getBudget());
+        assertEquals(freeBefore + 4, world.getCoinPool().getFreeCount());
+    }
+
+    @Test
+    public void testRemoveTower_ClearsSelectionAndInvalidatesHandle() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        Tower tower = new Tower(30, 200, 1, 0.1f, 300f, new Position(1200, 330), 1);
+        int handle = world.addTower(tower);
+        world.setSelectedTower(tower);
+        assertSame(tower, world.getSelectedTower());
+
+        assertTrue(world.removeTower(handle));
+
+        assertNull(world.getSelectedTower());
+        assertNull(world.getTower(handle));
+        assertFalse(world.removeTower(handle));
+        assertTrue(world.getTowers().isEmpty());
+        world.addTower(new Tower(30, 200, 1, 0.1f, 300f, new Position(1100, 330), 1));
+        assertNull(world.getSelectedTower());
+    }
+
+    @Test
+    public void testUpdate_ProjectilesInFlightResolveByHandle() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        Tower tower = new Tower(30, 200, 1, 0.1f, 300f, new Position(1200, 330), 1);
+        tower.setPaths(world.getPathNetwork().getPaths());
+        world.addTower(tower);
+
+        for (int tick = 0; tick < 60 && world.getProjectiles().isEmpty(); tick++) {
+            world.update(1f / 60f);
+        }
+
+        assertEquals(1, world.getProjectiles().size());
+        Projectile projectile = world.getProjectiles().get(0);
+        int handle = projectile.getHandle();
+        assertSame(projectile, world.getProjectile(handle));
+        for (int tick = 0; tick < 600 && world.getProjectile(handle) != null; tick++) {
+            world.update(1f / 60f);
+        }
+        assertNull(world.getProjectile(handle));
+    }
+
+    @Test
+    public void testUpdate_TowerWithNoEnemyDueSleepsUntilWoken() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        // The enemies crawl in from x = 1280 and need minutes to get here.
+        Tower tower = new Tower(30, 30, 1, 0.1f, 300f, new Position(640, 440), 1);
+        tower.setPaths(world.getPathNetwork().getPaths());
+        int handle = world.addTower(tower);
+        TickProfiler profiler = world.enableProfiling();
+
+        for (int tick = 0; tick < 60; tick++) {
+            world.update(1f / 60f);
+        }
+        assertEquals(60, profiler.getTickCount());
+        assertTrue(world.getTowerScheduler().isIdle(tower));
+        assertTrue(world.getTowerScheduler().getWakeTime(tower) > 60.0);
+        assertEquals(0, world.getTowerScheduler().getLastWakeCount());
+
+        world.wakeTower(handle);
+        world.update(1f / 60f);
+        assertEquals(1, world.getTowerScheduler().getLastWakeCount());
+        assertTrue(world.getProjectiles().isEmpty());
+    }
+
+    @Test
+    public void testUpdate_CapturedCooldownCountsDownWhileTowerSleeps() {
+        GameWorld world = new GameWorld(GameConfig.parse(CONFIG));
+        Tower tower = new Tower(30, 200, 1, 1f, 300f, new Position(1200, 330), 1);
+        tower.setPaths(world.getPathNetwork().getPaths());
+        world.addTower(tower);
+        WorldStateBuffer state = world.enableStateCapture();
+        while (world.getProjectiles().isEmpty()) {
+            world.update(1f / 60f);
+        }
+
+        float previous = state.view().getTowerCooldown(0);
+        assertEquals(1f, previous, 0.001f);
+        for (int tick = 0; tick < 30; tick++) {
+            world.update(1f / 60f);
+            float cooldown = state.view().getTowerCooldown(0);
+            assertEquals(previous - 1f / 60f, cooldown, 0.001f);
+            previous = cooldown;
+        }
+        assertEquals(1f, tower.getAttackCooldowns(), 0.001f);
+        assertEquals(0.5f, previous, 0.001f);
+    }
+
+    @Test
+    public void testIsValidTowerPlacement_ChecksEveryLane() {
+        GameWorld world = new GameWorld(GameConfig.parse("{\"initialBudget\": 100, \"initialLives\": 3, \"paths\": ["
+                + "{\"id\": \"south\", \"waypoints\": [{\"x\": 0, \"y\": 100}, {\"x\": 1280, \"y\": 100}]},"
+                + "{\"id\": \"north\", \"waypoints\": [{\"x\": 0, \"y\": 600}, {\"x\": 1280, \"y\": 600}]}]}"));
+
+        assertFalse(world.isValidTowerPlacement(640, 110, 50));
+        assertFalse(world.isValidTowerPlacement(640, 590, 50));
+        assertTrue(world.isValidTowerPlacement(640, 350, 50));
+    }
+
+    @Test
+    public void testConstructor_UnknownWavePathFails() {
+        assertThrows(RuntimeException.class, () -> new GameWorld(GameConfig.parse("{\"initialLives\": 3,"
+                + " \"path\": {\"id\": \"main\", \"waypoints\": [{\"x\": 0, \"y\": 0}, {\"x\": 100, \"y\": 0}]},"
+                + " \"waves\": [{\"waveNumber\": 1, \"path\": \"side\", \"enemies\": [{\"type\": \"basic\"}]}]}")));
+    }
+}
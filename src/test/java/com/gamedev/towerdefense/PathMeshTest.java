@@ -0,0 +1,61 @@
+package com.gamedev.towerdefense;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.LinearPath;
+import com.gamedev.towerdefense.model.Path;
+import com.gamedev.towerdefense.model.Position;
+
+public class PathMeshTest {
+
+    private static final int MARKER_VERTICES = PathMesh.MARKER_SEGMENTS * 3;
+
+    private int vertexCount(float[] vertices) {
+        return vertices.length / PathMesh.FLOATS_PER_VERTEX;
+    }
+
+    @Test
+    public void testBuildVertices_LinearPath() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0), new Position(100, 50)));
+
+        float[] vertices = PathMesh.buildVertices(Collections.singletonList(path));
+
+        assertEquals(2 * 6 + 2 * MARKER_VERTICES, vertexCount(vertices));
+    }
+
+    @Test
+    public void testBuildVertices_CurvedPathUsesSamples() {
+        Path path = new CurvedPath(Arrays.asList(new Position(0, 0), new Position(100, 80), new Position(200, 0)));
+
+        float[] vertices = PathMesh.buildVertices(Collections.singletonList(path));
+
+        assertEquals(PathMesh.CURVED_PATH_SAMPLES * 6 + 2 * MARKER_VERTICES, vertexCount(vertices));
+    }
+
+    @Test
+    public void testBuildVertices_LineStaysWithinWidth() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 50), new Position(300, 50)));
+
+        float[] vertices = PathMesh.buildVertices(Collections.singletonList(path));
+
+        for (int v = 0; v < 6; v++) {
+            float y = vertices[v * PathMesh.FLOATS_PER_VERTEX + 1];
+            assertTrue(Math.abs(y - 50f) <= PathMesh.LINE_WIDTH / 2f + 0.001f);
+        }
+    }
+
+    @Test
+    public void testBuildVertices_SinglePointPathOnlyHasStartMarker() {
+        Path path = new LinearPath(Arrays.asList(new Position(10, 10)));
+
+        float[] vertices = PathMesh.buildVertices(Collections.singletonList(path));
+
+        assertEquals(MARKER_VERTICES, vertexCount(vertices));
+    }
+}
@@ -1,6 +1,9 @@
 package com.gamedev.towerdefense.config;
 
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.gamedev.towerdefense.model.CurvedPath;
+import com.gamedev.towerdefense.model.Position;
+import java.util.List;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -74,6 +77,31 @@ public class GameConfigTest {
         assertNotNull(tower.getColor());
     }
 
+    @Test
+    public void testTowerTypeConfig_StickyTarget() {
+        GameConfig config = GameConfig.load("game-config.json");
+        for (GameConfig.TowerTypeConfig tower : config.getTowerTypes()) {
+            if ("Ant Bomber".equals(tower.getName())) {
+                assertTrue(tower.isStickyTarget());
+                assertTrue(tower.getRetargetInterval() > 0);
+            } else {
+                assertFalse(tower.isStickyTarget());
+            }
+        }
+    }
+
+    @Test
+    public void testTowerTypeConfig_Splash() {
+        GameConfig config = GameConfig.parse("{\"towerTypes\": [{\"id\": 1, \"name\": \"Bomb\", \"splash\": true},"
+                + "{\"id\": 2, \"name\": \"Dart\"}]}");
+        assertTrue(config.getTowerTypes().get(0).isSplash());
+        assertFalse(config.getTowerTypes().get(1).isSplash());
+
+        for (GameConfig.TowerTypeConfig tower : GameConfig.load("game-config.json").getTowerTypes()) {
+            assertFalse(tower.isSplash(), tower.getName());
+        }
+    }
+
     @Test
     public void testWaveConfig() {
         GameConfig config = GameConfig.load("game-config.json");
@@ -105,4 +133,98 @@ public class GameConfigTest {
             assertTrue(color.getA() >= 0 && color.getA() <= 1);
         }
     }
+
+    @Test
+    public void testPathBakeSpacing() {
+        GameConfig config = GameConfig.load("game-config.json");
+        assertNotNull(config.getPath());
+        assertTrue(config.getPath().getBakeSpacing() > 0);
+    }
+
+    @Test
+    public void testPathCacheDirectory_OffInShippedConfig() {
+        assertNull(GameConfig.load("game-config.json").getPathCacheDirectory());
+    }
+
+    @Test
+    public void testPathBakeSpacing_DefaultsToBakedWhenMissing() {
+        GameConfig config = GameConfig.parse("{\"paths\": ["
+                + "{\"id\": \"a\", \"waypoints\": [{\"x\": 0, \"y\": 0}, {\"x\": 100, \"y\": 0}]},"
+                + "{\"id\": \"b\", \"bakeSpacing\": 0, \"waypoints\": [{\"x\": 0, \"y\": 0}, {\"x\": 100, \"y\": 0}]},"
+                + "{\"id\": \"c\", \"bakeSpacing\": -2, \"waypoints\": [{\"x\": 0, \"y\": 0}, {\"x\": 100, \"y\": 0}]}]}");
+
+        assertEquals(GameConfig.PathConfig.DEFAULT_BAKE_SPACING, config.findPath("a").getBakeSpacing());
+        assertEquals(0f, config.findPath("b").getBakeSpacing());
+        assertEquals(GameConfig.PathConfig.DEFAULT_BAKE_SPACING, config.findPath("c").getBakeSpacing());
+
+        CurvedPath baked = new CurvedPath(config.getPathWaypoints(config.findPath("a")), CurvedPath.DEFAULT_ALPHA,
+                config.findPath("a").getBakeSpacing());
+        assertTrue(baked.getBakeSpacing() > 0f);
+    }
+
+    @Test
+    public void testGetPaths_SinglePathFallback() {
+        GameConfig config = GameConfig.load("game-config.json");
+        assertEquals(1, config.getPaths().size());
+        List<Position> legacy = config.getPathWaypoints();
+        List<Position> resolved = config.getPathWaypoints(config.getPaths().get(0));
+        assertEquals(legacy.size(), resolved.size());
+        for (int i = 0; i < legacy.size(); i++) {
+            assertEquals(legacy.get(i).getX(), resolved.get(i).getX());
+            assertEquals(legacy.get(i).getY(), resolved.get(i).getY());
+        }
+    }
+
+    @Test
+    public void testGetPathWaypoints_BranchIncludesParentPrefix() {
+        GameConfig config = GameConfig.parse("{\"paths\": ["
+                + "{\"id\": \"main\", \"waypoints\": [{\"x\": 0, \"y\": 0}, {\"x\": 100, \"y\": 0}, {\"x\": 200, \"y\": 0}]},"
+                + "{\"id\": \"north\", \"branchFrom\": \"main\", \"branchWaypoint\": 1,"
+                + " \"waypoints\": [{\"x\": 100, \"y\": 100}]},"
+                + "{\"id\": \"east\", \"waypoints\": [{\"x\": 500, \"y\": 0}, {\"x\": 500, \"y\": 300}]}]}");
+
+        assertEquals(3, config.getPaths().size());
+        List<Position> north = config.getPathWaypoints(config.findPath("north"));
+        assertEquals(3, north.size());
+        assertEquals(0f, north.get(0).getX());
+        assertEquals(100f, north.get(1).getX());
+        assertEquals(100f, north.get(2).getY());
+        assertEquals(2, config.getPathWaypoints(config.findPath("east")).size());
+        assertEquals(3, config.getPathWaypoints().size());
+    }
+
+    @Test
+    public void testGetPathWaypoints_UnknownParentFails() {
+        GameConfig config = GameConfig.parse("{\"paths\": ["
+                + "{\"id\": \"branch\", \"branchFrom\": \"missing\", \"waypoints\": [{\"x\": 0, \"y\": 0}]}]}");
+
+        assertThrows(RuntimeException.class, () -> config.getPathWaypoints(config.findPath("branch")));
+    }
+
+    @Test
+    public void testWaveConfig_PathTarget() {
+        GameConfig config = GameConfig.parse("{\"waves\": [{\"waveNumber\": 1, \"path\": \"east\","
+                + " \"enemies\": [{\"type\": \"basic\"}, {\"type\": \"fast\", \"path\": \"north\"}]}]}");
+
+        GameConfig.WaveConfig wave = config.getWaves().get(0);
+        assertEquals("east", wave.getPath());
+        assertNull(wave.getEnemies().get(0).getPath());
+        assertEquals("north", wave.getEnemies().get(1).getPath());
+    }
+
+    @Test
+    public void testValidatePathReferences_UnknownWavePathFails() {
+        GameConfig config = GameConfig.parse("{\"paths\": ["
+                + "{\"id\": \"main\", \"waypoints\": [{\"x\": 0, \"y\": 0}, {\"x\": 100, \"y\": 0}]}],"
+                + " \"waves\": [{\"waveNumber\": 1, \"path\": \"main\","
+                + " \"enemies\": [{\"type\": \"basic\", \"path\": \"mian\"}]}]}");
+
+        RuntimeException error = assertThrows(RuntimeException.class, config::validatePathReferences);
+        assertTrue(error.getMessage().contains("mian"));
+    }
+
+    @Test
+    public void testValidatePathReferences_ShippedConfigIsValid() {
+        GameConfig.load("game-config.json").validatePathReferences();
+    }
 }
@@ -0,0 +1,101 @@
+package com.gamedev.towerdefense.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CurvedPathCacheTest {
+
+    @TempDir
+    File directory;
+
+    private List<Position> zigZag(int count) {
+        List<Position> waypoints = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            waypoints.add(new Position(i * 50f, (i % 2 == 0) ? 0f : 80f));
+        }
+        return waypoints;
+    }
+
+    private void assertSamePath(CurvedPath expected, CurvedPath actual) {
+        assertEquals(expected.getPathLength(), actual.getPathLength(), 0f);
+        assertEquals(expected.getBakedPointCount(), actual.getBakedPointCount());
+        PathSample a = new PathSample();
+        PathSample b = new PathSample();
+        for (int i = 0; i <= 100; i++) {
+            expected.sample(i / 100f, a);
+            actual.sample(i / 100f, b);
+            assertEquals(a.getX(), b.getX(), 0f);
+            assertEquals(a.getY(), b.getY(), 0f);
+            assertEquals(a.getTangentX(), b.getTangentX(), 0f);
+            assertEquals(a.getTangentY(), b.getTangentY(), 0f);
+        }
+    }
+
+    @Test
+    public void testLoad_MissThenHitRestoresSamePath() {
+        CurvedPath built = new CurvedPathCache(directory).load(zigZag(20), CurvedPath.DEFAULT_ALPHA, 1f, 0f);
+
+        CurvedPathCache cache = new CurvedPathCache(directory);
+        CurvedPath loaded = cache.load(zigZag(20), CurvedPath.DEFAULT_ALPHA, 1f, 0f);
+
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertSamePath(built, loaded);
+    }
+
+    @Test
+    public void testLoad_UnbakedPathRoundTrips() {
+        CurvedPath built = new CurvedPathCache(directory).load(zigZag(5), CurvedPath.DEFAULT_ALPHA, 0f, 0f);
+
+        CurvedPathCache cache = new CurvedPathCache(directory);
+        CurvedPath loaded = cache.load(zigZag(5), CurvedPath.DEFAULT_ALPHA, 0f, 0f);
+
+        assertEquals(1, cache.getHits());
+        assertEquals(0, loaded.getBakedPointCount());
+        assertSamePath(built, loaded);
+    }
+
+    @Test
+    public void testLoad_DifferentInputsMiss() {
+        CurvedPathCache cache = new CurvedPathCache(directory);
+        cache.load(zigZag(10), CurvedPath.DEFAULT_ALPHA, 1f, 0f);
+        cache.load(zigZag(10), 0f, 1f, 0f);
+        cache.load(zigZag(11), CurvedPath.DEFAULT_ALPHA, 1f, 0f);
+
+        assertEquals(0, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertNotEquals(CurvedPathCache.key(zigZag(10), CurvedPath.DEFAULT_ALPHA, 1f, 0.001f),
+                CurvedPathCache.key(zigZag(10), 0f, 1f, 0.001f));
+    }
+
+    @Test
+    public void testLoad_CorruptFileIsRebuilt() throws IOException {
+        List<Position> waypoints = zigZag(12);
+        CurvedPath built = new CurvedPathCache(directory).load(waypoints, CurvedPath.DEFAULT_ALPHA, 1f, 0f);
+        File file = new CurvedPathCache(directory).fileFor(
+                CurvedPathCache.key(waypoints, CurvedPath.DEFAULT_ALPHA, 1f, CurvedPath.DEFAULT_ARC_LENGTH_TOLERANCE));
+        assertTrue(file.isFile());
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+            output.setLength(output.length() - 4);
+        }
+
+        CurvedPathCache cache = new CurvedPathCache(directory);
+        CurvedPath rebuilt = cache.load(waypoints, CurvedPath.DEFAULT_ALPHA, 1f, 0f);
+
+        assertEquals(1, cache.getMisses());
+        assertSamePath(built, rebuilt);
+
+        CurvedPathCache again = new CurvedPathCache(directory);
+        again.load(waypoints, CurvedPath.DEFAULT_ALPHA, 1f, 0f);
+        assertEquals(1, again.getHits(), "the rebuilt file should have been rewritten");
+    }
+}
@@ -0,0 +1,278 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class CurvedPathTest {
+
+    private List<Position> zigZag(int count) {
+        List<Position> waypoints = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            waypoints.add(new Position(i * 50f, (i % 2 == 0) ? 0f : 80f));
+        }
+        return waypoints;
+    }
+
+    @Test
+    public void testGetPositionAt_Endpoints() {
+        Path path = new CurvedPath(zigZag(7));
+
+        Position start = path.getPositionAt(0f);
+        Position end = path.getPositionAt(1f);
+
+        assertEquals(0f, start.getX(), 0.001f);
+        assertEquals(0f, start.getY(), 0.001f);
+        assertEquals(300f, end.getX(), 0.001f);
+        assertEquals(0f, end.getY(), 0.001f);
+    }
+
+    @Test
+    public void testGetPositionAt_StraightLineMatchesDistance() {
+        Path path = new CurvedPath(Arrays.asList(
+                new Position(0, 0),
+                new Position(100, 0),
+                new Position(200, 0)));
+
+        assertEquals(200f, path.getPathLength(), 0.01f);
+        assertEquals(50f, path.getPositionAt(0.25f).getX(), 0.1f);
+        assertEquals(150f, path.getPositionAt(0.75f).getX(), 0.1f);
+    }
+
+    @Test
+    public void testGetPositionAt_PassesThroughWaypoints() {
+        List<Position> waypoints = zigZag(7);
+        CurvedPath path = new CurvedPath(waypoints);
+
+        float travelled = 0f;
+        Position prev = path.getPositionAt(0f);
+        int samples = 20_000;
+        int nextWaypoint = 1;
+        for (int i = 1; i <= samples && nextWaypoint < waypoints.size(); i++) {
+            Position current = path.getPositionAt((float) i / samples);
+            travelled += Position.distance(prev, current);
+            prev = current;
+            if (Position.distance(current, waypoints.get(nextWaypoint)) < 0.5f) {
+                nextWaypoint++;
+            }
+        }
+
+        assertEquals(waypoints.size(), nextWaypoint, "every waypoint should be visited in order");
+        assertEquals(path.getPathLength(), travelled, path.getPathLength() * 0.01f);
+    }
+
+    @Test
+    public void testGetPositionAt_LongPathIsMonotonicAlongX() {
+        List<Position> waypoints = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            waypoints.add(new Position(i * 10f, (i % 3) * 5f));
+        }
+        Path path = new CurvedPath(waypoints);
+
+        float prevX = -1f;
+        for (int i = 0; i <= 1000; i++) {
+            float x = path.getPositionAt(i / 1000f).getX();
+            assertTrue(x >= prevX - 0.01f, "progress should never move backwards");
+            prevX = x;
+        }
+        assertEquals(99_990f, prevX, 0.01f);
+    }
+
+    @Test
+    public void testGetPositionAt_DuplicateWaypoints() {
+        Path path = new CurvedPath(Arrays.asList(
+                new Position(10, 10),
+                new Position(10, 10),
+                new Position(10, 10)));
+
+        Position mid = path.getPositionAt(0.5f);
+        assertEquals(0f, path.getPathLength(), 0.001f);
+        assertEquals(10f, mid.getX(), 0.001f);
+        assertEquals(10f, mid.getY(), 0.001f);
+    }
+
+    @Test
+    public void testSample_MatchesGetPositionAt() {
+        Path path = new CurvedPath(zigZag(7));
+        PathSample sample = new PathSample();
+
+        for (int i = 0; i <= 50; i++) {
+            float t = i / 50f;
+            Position expected = path.getPositionAt(t);
+            path.sample(t, sample);
+            assertEquals(expected.getX(), sample.getX(), 0.001f);
+            assertEquals(expected.getY(), sample.getY(), 0.001f);
+        }
+    }
+
+    @Test
+    public void testSample_TangentIsUnitAndFollowsCurve() {
+        Path path = new CurvedPath(zigZag(7));
+        PathSample sample = new PathSample();
+        float step = 0.001f;
+
+        for (int i = 1; i < 50; i++) {
+            float t = i / 50f;
+            path.sample(t, sample);
+            float length = (float) Math.sqrt(sample.getTangentX() * sample.getTangentX()
+                    + sample.getTangentY() * sample.getTangentY());
+            assertEquals(1f, length, 0.001f);
+
+            Position ahead = path.getPositionAt(t + step);
+            Position behind = path.getPositionAt(t - step);
+            float dx = ahead.getX() - behind.getX();
+            float dy = ahead.getY() - behind.getY();
+            float chord = (float) Math.sqrt(dx * dx + dy * dy);
+            float cosine = (dx * sample.getTangentX() + dy * sample.getTangentY()) / chord;
+            assertTrue(cosine > 0.99f, "analytic tangent should match the finite difference at t=" + t);
+        }
+    }
+
+    private float maxBakeError(List<Position> waypoints, float spacing) {
+        Path exact = new CurvedPath(waypoints);
+        Path baked = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, spacing);
+        float maxError = 0f;
+        for (int i = 0; i <= 5000; i++) {
+            float t = i / 5000f;
+            maxError = Math.max(maxError, Position.distance(exact.getPositionAt(t), baked.getPositionAt(t)));
+        }
+        return maxError;
+    }
+
+    @Test
+    public void testBaked_ErrorAgainstExactSpline() {
+        List<Position> waypoints = Arrays.asList(
+                new Position(1280, 360),
+                new Position(1000, 360),
+                new Position(900, 500),
+                new Position(640, 500),
+                new Position(600, 700),
+                new Position(250, 500),
+                new Position(0, 360));
+
+        float fineError = maxBakeError(waypoints, 1f);
+        float coarseError = maxBakeError(waypoints, 10f);
+
+        assertTrue(fineError < 0.05f, "1-unit bake should stay within 0.05 units, was " + fineError);
+        assertTrue(coarseError < 1f, "10-unit bake should stay within 1 unit, was " + coarseError);
+        assertTrue(fineError <= coarseError);
+    }
+
+    @Test
+    public void testBaked_PointsAreUniformlySpaced() {
+        CurvedPath path = new CurvedPath(zigZag(7), CurvedPath.DEFAULT_ALPHA, 1f);
+
+        assertTrue(path.isBaked());
+        int intervals = path.getBakedPointCount() - 1;
+        assertEquals(path.getPathLength(), intervals * path.getBakeSpacing(), 0.01f);
+        assertTrue(path.getBakeSpacing() <= 1f);
+
+        for (int k = 1; k < intervals; k += 17) {
+            Position a = path.getPositionAt((float) (k - 1) / intervals);
+            Position b = path.getPositionAt((float) k / intervals);
+            assertEquals(path.getBakeSpacing(), Position.distance(a, b), 0.05f);
+        }
+    }
+
+    @Test
+    public void testBaked_SampleMatchesExactTangent() {
+        List<Position> waypoints = zigZag(7);
+        Path exact = new CurvedPath(waypoints);
+        Path baked = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 1f);
+        PathSample exactSample = new PathSample();
+        PathSample bakedSample = new PathSample();
+
+        for (int i = 0; i <= 100; i++) {
+            float t = i / 100f;
+            exact.sample(t, exactSample);
+            baked.sample(t, bakedSample);
+            assertEquals(exactSample.getX(), bakedSample.getX(), 0.05f);
+            assertEquals(exactSample.getY(), bakedSample.getY(), 0.05f);
+            float cosine = exactSample.getTangentX() * bakedSample.getTangentX()
+                    + exactSample.getTangentY() * bakedSample.getTangentY();
+            assertTrue(cosine > 0.999f);
+        }
+    }
+
+    @Test
+    public void testBaked_ZeroSpacingKeepsExactLookup() {
+        CurvedPath path = new CurvedPath(zigZag(3), CurvedPath.DEFAULT_ALPHA, 0f);
+
+        assertFalse(path.isBaked());
+        assertEquals(0, path.getBakedPointCount());
+    }
+
+    @Test
+    public void testArcLengthTolerance_Converges() {
+        List<Position> waypoints = zigZag(7);
+        CurvedPath loose = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 0f, 0.5f);
+        CurvedPath standard = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 0f, 0.001f);
+        CurvedPath tight = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 0f, 0.000001f);
+
+        assertEquals(tight.getPathLength(), standard.getPathLength(), 6 * 0.001f);
+        assertEquals(tight.getPathLength(), loose.getPathLength(), 6 * 0.5f);
+
+        for (int i = 1; i < 20; i++) {
+            float t = i / 20f;
+            assertTrue(Position.distance(tight.getPositionAt(t), standard.getPositionAt(t)) < 0.01f);
+        }
+    }
+
+    @Test
+    public void testArcLength_StraightSegmentIsExact() {
+        Path path = new CurvedPath(Arrays.asList(
+                new Position(0, 0),
+                new Position(30, 40)));
+
+        assertEquals(50f, path.getPathLength(), 0.001f);
+        Position quarter = path.getPositionAt(0.25f);
+        assertEquals(12.5f, Position.distance(new Position(0, 0), quarter), 0.01f);
+    }
+
+    private void assertProjectionMatchesScan(Path path) {
+        PathProjection projection = new PathProjection();
+        Random random = new Random(11);
+        int samples = 20_000;
+        for (int q = 0; q < 200; q++) {
+            float x = random.nextFloat() * 400f - 50f;
+            float y = random.nextFloat() * 200f - 60f;
+
+            float bestDistance = Float.MAX_VALUE;
+            for (int i = 0; i <= samples; i++) {
+                Position p = path.getPositionAt((float) i / samples);
+                bestDistance = Math.min(bestDistance, Position.distance(p, new Position(x, y)));
+            }
+
+            path.project(x, y, projection);
+            assertEquals(bestDistance, projection.getDistance(), 0.05f);
+            Position atProgress = path.getPositionAt(projection.getProgress());
+            assertEquals(projection.getDistance(), Position.distance(atProgress, new Position(x, y)), 0.05f);
+        }
+    }
+
+    @Test
+    public void testProject_MatchesLinearScan() {
+        assertProjectionMatchesScan(new CurvedPath(zigZag(7)));
+        assertProjectionMatchesScan(new CurvedPath(zigZag(7), CurvedPath.DEFAULT_ALPHA, 1f));
+    }
+
+    @Test
+    public void testProject_OnPathReturnsOwnProgress() {
+        CurvedPath path = new CurvedPath(zigZag(7), CurvedPath.DEFAULT_ALPHA, 1f);
+        PathProjection projection = new PathProjection();
+
+        for (int i = 0; i <= 20; i++) {
+            float t = i / 20f;
+            Position p = path.getPositionAt(t);
+            path.project(p.getX(), p.getY(), projection);
+            assertEquals(0f, projection.getDistance(), 0.01f);
+            assertEquals(t, projection.getProgress(), 0.001f);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class EnemyGridTest {
+
+    private EnemyStore createScatteredStore(int count, long seed) {
+        List<Position> waypoints = new ArrayList<>();
+        Random random = new Random(seed);
+        for (int i = 0; i < 12; i++) {
+            waypoints.add(new Position(random.nextFloat() * 1280f, random.nextFloat() * 720f));
+        }
+        EnemyStore store = new EnemyStore(new LinearPath(waypoints), count);
+        for (int i = 0; i < count; i++) {
+            // Few distinct healths, so strategies see plenty of ties.
+            store.add(1 + random.nextInt(5), 10f, random.nextFloat(), 1);
+        }
+        return store;
+    }
+
+    @Test
+    public void testQuery_ReturnsEveryEnemyInRangeOnce() {
+        EnemyStore store = createScatteredStore(2_000, 1L);
+        EnemyGrid grid = store.rebuildGrid(40f);
+        Random random = new Random(2L);
+
+        for (int q = 0; q < 100; q++) {
+            float x = random.nextFloat() * 1400f - 60f;
+            float y = random.nextFloat() * 800f - 40f;
+            float range = 20f + random.nextFloat() * 150f;
+            int found = grid.query(x, y, range);
+            boolean[] seen = new boolean[store.size()];
+            for (int n = 0; n < found; n++) {
+                int i = grid.getCandidate(n);
+                assertTrue(!seen[i], "duplicate candidate " + i);
+                seen[i] = true;
+            }
+            for (int i = 0; i < store.size(); i++) {
+                float dx = store.getX(i) - x;
+                float dy = store.getY(i) - y;
+                if (dx * dx + dy * dy <= range * range) {
+                    assertTrue(seen[i], "missed enemy " + i + " for query " + q);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStrategies_PickTheSameTargetWithAndWithoutGrid() {
+        EnemyStore store = createScatteredStore(1_500, 3L);
+        Random random = new Random(4L);
+        TargetingStrategy[] strategies = {
+            new NearestEnemyStrategy(), new StrongestEnemyStrategy(), new WeakestEnemyStrategy()
+        };
+        for (int q = 0; q < 200; q++) {
+            Position tower = new Position(random.nextFloat() * 1280f, random.nextFloat() * 720f);
+            int range = 30 + random.nextInt(150);
+            for (TargetingStrategy strategy : strategies) {
+                assertNull(store.getGrid());
+                int scanned = strategy.selectTarget(tower, range, null, store);
+                store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+                assertNotNull(store.getGrid());
+                assertEquals(scanned, strategy.selectTarget(tower, range, null, store),
+                        strategy.getClass().getSimpleName() + " at query " + q);
+                store.update(0f);
+            }
+        }
+    }
+
+    @Test
+    public void testGetGrid_StaleAfterStoreChanges() {
+        EnemyStore store = createScatteredStore(10, 5L);
+        store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+        store.damage(store.handleAt(0), 1);
+        assertNotNull(store.getGrid());
+
+        store.remove(store.handleAt(3));
+        assertNull(store.getGrid());
+        store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+        store.add(10, 10f, 0.5f, 1);
+        assertNull(store.getGrid());
+        store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+        store.update(0.1f);
+        assertNull(store.getGrid());
+    }
+
+    @Test
+    public void testBuild_WidensCellsForWidelySpreadEnemies() {
+        EnemyStore store = new EnemyStore(new LinearPath(List.of(new Position(0, 0), new Position(1_000_000, 0))));
+        store.add(10, 10f, 0f, 1);
+        store.add(10, 10f, 1f, 1);
+        EnemyGrid grid = store.rebuildGrid(10f);
+
+        assertTrue(grid.getCellCount() <= 256);
+        assertTrue(grid.getCellSize() > 10f);
+        assertEquals(1, grid.query(1_000_000f, 0f, 5f));
+        assertEquals(0, grid.query(500_000f, 5_000f, 100f));
+    }
+}
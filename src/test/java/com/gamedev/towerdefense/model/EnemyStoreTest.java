@@ -0,0 +1,240 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class EnemyStoreTest {
+
+    private final Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+
+    @Test
+    public void testRemove_KeepsOtherHandlesValid() {
+        EnemyStore store = new EnemyStore(path, 2);
+        int first = store.add(10, 1f, 0.1f, 1);
+        int second = store.add(20, 1f, 0.2f, 2);
+        int third = store.add(30, 1f, 0.3f, 3);
+
+        store.remove(first);
+
+        assertEquals(2, store.size());
+        assertFalse(store.contains(first));
+        assertEquals(20, store.getHealth(store.indexOf(second)));
+        assertEquals(30, store.getHealth(store.indexOf(third)));
+        assertEquals(300f, store.getX(store.indexOf(third)), 0.001f);
+        assertThrows(IllegalArgumentException.class, () -> store.remove(first));
+    }
+
+    @Test
+    public void testRemove_StaleHandleDoesNotResolveAfterSlotReuse() {
+        EnemyStore store = new EnemyStore(path);
+        int removed = store.add(10, 1f, 0f, 1);
+        store.remove(removed);
+
+        int reused = store.add(20, 1f, 0f, 1);
+
+        assertEquals(Handles.index(removed), Handles.index(reused));
+        assertFalse(store.contains(removed));
+        assertEquals(EnemyStore.NONE, store.indexOf(removed));
+        assertThrows(IllegalArgumentException.class, () -> store.damage(removed, 5));
+        assertEquals(20, store.getHealth(store.indexOf(reused)));
+    }
+
+    @Test
+    public void testIndicesInSpawnOrder_SurvivesSwapRemoval() {
+        EnemyStore store = new EnemyStore(path);
+        int[] handles = new int[6];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = store.add(10 + i, 1f, 0f, 1);
+        }
+        store.remove(handles[0]);
+        store.remove(handles[2]);
+
+        int[] order = store.indicesInSpawnOrder(null);
+
+        int[] healths = new int[store.size()];
+        for (int n = 0; n < store.size(); n++) {
+            healths[n] = store.getHealth(order[n]);
+        }
+        assertArrayEquals(new int[] {11, 13, 14, 15}, healths);
+        assertSame(order, store.indicesInSpawnOrder(order));
+    }
+
+    @Test
+    public void testUpdate_MovesEveryEnemyAlongPath() {
+        EnemyStore store = new EnemyStore(path);
+        int slow = store.add(10, 100f, 0f, 1);
+        int fast = store.add(10, 200f, 0.5f, 1);
+
+        store.update(1f);
+
+        assertEquals(100f, store.getX(store.indexOf(slow)), 0.001f);
+        assertEquals(700f, store.getX(store.indexOf(fast)), 0.001f);
+        assertEquals(2, store.getDirectionRow(store.indexOf(slow)));
+        assertEquals(1f, store.getAnimationTime(store.indexOf(fast)), 0.001f);
+    }
+
+    @Test
+    public void testEnemyView_IsStableAndKeepsStateAfterRemoval() {
+        EnemyStore store = new EnemyStore(path);
+        int handle = store.add(50, 100f, 0f, 7);
+        Enemy enemy = store.enemy(handle);
+        assertSame(enemy, store.enemy(handle));
+
+        enemy.takeDamage(60);
+        store.remove(handle);
+        store.add(100, 100f, 0f, 1);
+
+        assertFalse(enemy.isAlive());
+        assertEquals(-10, enemy.getHealth());
+        assertEquals(7, enemy.getReward());
+    }
+
+    @Test
+    public void testEnemyView_DetachedEnemyCanJoinAnotherStore() {
+        EnemyStore store = new EnemyStore(path);
+        int handle = store.addSwarm(20, 100f, 0.5f, 3, 4);
+        Enemy enemy = store.enemy(handle);
+        float x = enemy.getX();
+        store.remove(handle);
+
+        enemy.takeDamage(30);
+        assertEquals(60, enemy.getHealth());
+        assertEquals(3, enemy.getAliveMembers());
+        assertEquals(x, enemy.getX(), 0.001f);
+
+        EnemyStore other = new EnemyStore(path);
+        int adopted = other.adopt(enemy);
+        assertSame(enemy, other.enemy(adopted));
+        assertEquals(60, other.getHealth(0));
+        assertEquals(4, other.getMemberCount(0));
+        assertEquals(20, other.getMemberHealth(0));
+        assertEquals(0.5f, other.getProgress(0), 0.001f);
+    }
+
+    @Test
+    public void testAsListAdd_AdoptsStandaloneEnemy() {
+        EnemyStore store = new EnemyStore(path);
+        Enemy enemy = new Enemy(path, 80, 100f, 0, 5);
+        enemy.update(2f);
+
+        store.asList().add(enemy);
+        enemy.update(1f);
+
+        assertEquals(1, store.size());
+        assertSame(enemy, store.asList().get(0));
+        assertEquals(300f, store.getX(0), 0.001f);
+        assertEquals(300f, enemy.getPosition().getX(), 0.001f);
+        assertThrows(IllegalArgumentException.class,
+                () -> store.adopt(new Enemy(new LinearPath(Arrays.asList(new Position(0, 0))), 1, 1f, 0, 1)));
+    }
+
+    @Test
+    public void testSelectTarget_StoreMatchesListForBuiltInStrategies() {
+        EnemyStore store = new EnemyStore(path);
+        List<Enemy> enemies = new ArrayList<>();
+        int[] healths = {40, 90, 10, 60, 0, 75};
+        for (int i = 0; i < healths.length; i++) {
+            // Spread out along the path, 30 units apart, in reverse order.
+            Enemy enemy = new Enemy(path, healths[i], (healths.length - i) * 30f, 0, 1);
+            enemy.update(1f);
+            store.adopt(enemy);
+            enemies.add(enemy);
+        }
+        Position tower = new Position(60, 50);
+        TargetingStrategy[] strategies = {
+            new NearestEnemyStrategy(), new StrongestEnemyStrategy(), new WeakestEnemyStrategy()
+        };
+        for (TargetingStrategy strategy : strategies) {
+            Enemy expected = strategy.selectTarget(tower, 100, store.asList());
+            int handle = strategy.selectTarget(tower, 100, null, store);
+            assertTrue(enemies.contains(expected));
+            assertSame(expected, store.enemy(handle), strategy.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void testDirectionRow_MatchesAngleBands() {
+        for (int degrees = 0; degrees < 360; degrees++) {
+            double radians = Math.toRadians(degrees + 0.5);
+            int expected;
+            double angle = degrees + 0.5;
+            if (angle >= 225 && angle < 315) {
+                expected = 0;
+            } else if (angle >= 135 && angle < 225) {
+                expected = 1;
+            } else if (angle >= 315 || angle < 45) {
+                expected = 2;
+            } else {
+                expected = 3;
+            }
+            assertEquals(expected, EnemyStore.directionRow((float) Math.cos(radians), (float) Math.sin(radians)),
+                    "at " + angle + " degrees");
+        }
+        assertEquals(3, EnemyStore.directionRow(1f, 1f));
+    }
+
+    @Test
+    public void testAddSwarm_SplashDamageKillsMembersFromThePool() {
+        EnemyStore store = new EnemyStore(path);
+        int swarm = store.addSwarm(10, 50f, 0f, 2, 5);
+        int index = store.indexOf(swarm);
+
+        assertEquals(1, store.size());
+        assertEquals(50, store.getHealth(index));
+        assertEquals(5, store.getAliveMembers(index));
+
+        store.damageSplash(swarm, 9);
+        assertEquals(5, store.getAliveMembers(index));
+        store.damageSplash(swarm, 1);
+        assertEquals(4, store.getAliveMembers(index));
+        store.damageSplash(swarm, 35);
+        assertEquals(1, store.getAliveMembers(index));
+        store.damageSplash(swarm, 100);
+        assertEquals(0, store.getAliveMembers(index));
+        assertEquals(5, store.getMemberCount(index));
+        assertThrows(IllegalArgumentException.class, () -> store.addSwarm(10, 50f, 0f, 2, 0));
+    }
+
+    @Test
+    public void testAddSwarm_SingleHitKillsAtMostOneMember() {
+        EnemyStore store = new EnemyStore(path);
+        int swarm = store.addSwarm(10, 50f, 0f, 2, 5);
+        int index = store.indexOf(swarm);
+
+        store.damage(swarm, 4);
+        assertEquals(6, store.getFrontHealth(index));
+        store.damage(swarm, 100);
+        assertEquals(40, store.getHealth(index));
+        assertEquals(4, store.getAliveMembers(index));
+        assertEquals(10, store.getFrontHealth(index));
+
+        int single = store.add(30, 50f, 0f, 1);
+        store.damage(single, 100);
+        assertEquals(-70, store.getHealth(store.indexOf(single)));
+    }
+
+    @Test
+    public void testAddSwarm_MovesAsOneSlotAndSurvivesSwapRemoval() {
+        EnemyStore store = new EnemyStore(path);
+        int single = store.add(100, 50f, 0f, 10);
+        int swarm = store.addSwarm(EnemyTypes.defaults().get(1), 300, 0f);
+        store.update(1f);
+        store.remove(single);
+
+        int index = store.indexOf(swarm);
+        assertEquals(0, index);
+        assertEquals(300, store.getMemberCount(index));
+        assertEquals(300, store.getAliveMembers(index));
+        assertEquals(1, store.getTypeId(index));
+        assertEquals(1, store.getMemberCount(store.indexOf(store.add(100, 50f, 0f, 10))));
+    }
+}
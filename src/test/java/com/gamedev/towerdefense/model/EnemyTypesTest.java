@@ -0,0 +1,76 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+import com.gamedev.towerdefense.config.GameConfig;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemyTypesTest {
+
+    private static final String CONFIG = "{"
+            + "\"path\": {\"waypoints\": [{\"x\": 0, \"y\": 0}, {\"x\": 100, \"y\": 0}]},"
+            + "\"enemyTypes\": ["
+            + "  {\"name\": \"grunt\", \"health\": 40, \"speed\": 30, \"reward\": 4},"
+            + "  {\"name\": \"Runner\", \"health\": 20, \"speed\": 90, \"reward\": 6}"
+            + "],"
+            + "\"waves\": [{\"waveNumber\": 1, \"startTime\": 0, \"enemies\": ["
+            + "  {\"type\": \"runner\", \"spawnDelay\": 0},"
+            + "  {\"type\": \"mystery\", \"spawnDelay\": 0},"
+            + "  {\"health\": 70, \"speed\": 10, \"reward\": 2, \"spawnDelay\": 0}"
+            + "]}]}";
+
+    @Test
+    public void testFromConfig_CompilesTypesInDeclarationOrder() {
+        EnemyTypes types = EnemyTypes.fromConfig(GameConfig.parse(CONFIG));
+
+        assertEquals(2, types.size());
+        assertEquals(1, types.idOf("RUNNER"));
+        EnemyType runner = types.get(1);
+        assertEquals("Runner", runner.getName());
+        assertEquals(20, runner.getHealth());
+        assertEquals(90f, runner.getSpeed(), 0.001f);
+        assertEquals(6, runner.getReward());
+        assertEquals(EnemyType.CUSTOM, types.idOf("mystery"));
+        assertSame(types.get(0), types.getDefault());
+    }
+
+    @Test
+    public void testFromConfig_FallsBackToBuiltInTypes() {
+        EnemyTypes types = EnemyTypes.fromConfig(GameConfig.parse("{}"));
+
+        assertEquals(4, types.size());
+        assertEquals(1000, types.get(types.idOf(EnemyFactory.TYPE_BOSS)).getHealth());
+    }
+
+    @Test
+    public void testConstructor_RejectsDuplicateNames() {
+        GameConfig config = GameConfig.parse("{\"enemyTypes\": ["
+                + "{\"name\": \"a\", \"health\": 1}, {\"name\": \"A\", \"health\": 2}]}");
+
+        assertThrows(IllegalArgumentException.class, () -> new EnemyTypes(config.getEnemyTypes()));
+    }
+
+    @Test
+    public void testWaveManager_SpawnsResolvedTypeIds() {
+        GameConfig config = GameConfig.parse(CONFIG);
+        EnemyTypes types = EnemyTypes.fromConfig(config);
+        PathNetwork network = new PathNetwork();
+        EnemyStore store = network.addLane("main",
+                new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0)))).getStore();
+        WaveManager waveManager = new WaveManager(config.getWaves(), types);
+
+        waveManager.update(0.1f, network);
+
+        assertEquals(3, store.size());
+        int[] typeIds = new int[3];
+        int[] healths = new int[3];
+        for (int i = 0; i < 3; i++) {
+            int index = store.indicesInSpawnOrder(null)[i];
+            typeIds[i] = store.getTypeId(index);
+            healths[i] = store.getHealth(index);
+        }
+        assertArrayEquals(new int[] {1, 0, EnemyType.CUSTOM}, typeIds);
+        assertArrayEquals(new int[] {20, 40, 70}, healths);
+    }
+}
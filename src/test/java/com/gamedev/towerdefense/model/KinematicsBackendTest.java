@@ -0,0 +1,116 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+
+public class KinematicsBackendTest {
+
+    // Not a multiple of any lane width, so the scalar tail runs too.
+    private static final int COUNT = 1_003;
+
+    @Test
+    public void testPreferred_IsVectorWhenModuleIsPresent() {
+        boolean present = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        KinematicsBackend expected = present ? KinematicsBackends.vector() : KinematicsBackends.scalar();
+        assertSame(expected, KinematicsBackends.preferred());
+    }
+
+    @Test
+    public void testAdvanceProgress_VectorMatchesScalar() {
+        KinematicsBackend vector = KinematicsBackends.vector();
+        assumeTrue(vector != null, "Vector API module not present");
+        Random random = new Random(3L);
+        float[] progress = new float[COUNT];
+        float[] speed = new float[COUNT];
+        float[] animationTime = new float[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            progress[i] = i % 7 == 0 ? 1f : random.nextFloat();
+            speed[i] = random.nextFloat() * 200f;
+            animationTime[i] = random.nextFloat();
+        }
+        float[] vectorProgress = progress.clone();
+        float[] vectorTime = animationTime.clone();
+        boolean[] moved = new boolean[COUNT];
+        boolean[] vectorMoved = new boolean[COUNT];
+
+        for (int tick = 0; tick < 30; tick++) {
+            KinematicsBackends.scalar().advanceProgress(progress, speed, animationTime, moved, COUNT, 1f / 60f, 500f);
+            vector.advanceProgress(vectorProgress, speed, vectorTime, vectorMoved, COUNT, 1f / 60f, 500f);
+            assertArrayEquals(moved, vectorMoved, "tick " + tick);
+        }
+        assertArrayEquals(progress, vectorProgress);
+        assertArrayEquals(animationTime, vectorTime);
+    }
+
+    @Test
+    public void testStepTowards_VectorMatchesScalar() {
+        KinematicsBackend vector = KinematicsBackends.vector();
+        assumeTrue(vector != null, "Vector API module not present");
+        Random random = new Random(4L);
+        float[] x = new float[COUNT];
+        float[] y = new float[COUNT];
+        float[] targetX = new float[COUNT];
+        float[] targetY = new float[COUNT];
+        float[] speed = new float[COUNT];
+        float[] hitThresholdSquared = new float[COUNT];
+        boolean[] arrived = new boolean[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            x[i] = random.nextFloat() * 100f;
+            y[i] = random.nextFloat() * 100f;
+            targetX[i] = random.nextFloat() * 100f;
+            targetY[i] = random.nextFloat() * 100f;
+            speed[i] = 100f + random.nextFloat() * 400f;
+            hitThresholdSquared[i] = 25f;
+            arrived[i] = i % 5 == 0;
+        }
+        float[] vectorX = x.clone();
+        float[] vectorY = y.clone();
+        boolean[] vectorArrived = arrived.clone();
+        boolean[] arriving = new boolean[COUNT];
+        boolean[] vectorArriving = new boolean[COUNT];
+
+        for (int tick = 0; tick < 30; tick++) {
+            KinematicsBackends.scalar().stepTowards(x, y, targetX, targetY, speed, hitThresholdSquared, arrived,
+                    arriving, COUNT, 1f / 60f);
+            vector.stepTowards(vectorX, vectorY, targetX, targetY, speed, hitThresholdSquared, vectorArrived,
+                    vectorArriving, COUNT, 1f / 60f);
+            assertArrayEquals(arriving, vectorArriving, "tick " + tick);
+            for (int i = 0; i < COUNT; i++) {
+                arrived[i] |= arriving[i];
+                vectorArrived[i] |= vectorArriving[i];
+            }
+        }
+        assertArrayEquals(x, vectorX);
+        assertArrayEquals(y, vectorY);
+    }
+
+    @Test
+    public void testStoreUpdate_SameResultWithEitherBackend() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(300, 0), new Position(300, 300)));
+        EnemyStore scalar = new EnemyStore(path);
+        EnemyStore preferred = new EnemyStore(path);
+        scalar.setBackend(KinematicsBackends.scalar());
+        preferred.setBackend(KinematicsBackends.preferred());
+        for (int i = 0; i < 37; i++) {
+            scalar.add(100, 20f + i * 10f, i / 40f, 1);
+            preferred.add(100, 20f + i * 10f, i / 40f, 1);
+        }
+
+        for (int tick = 0; tick < 120; tick++) {
+            scalar.update(1f / 30f);
+            preferred.update(1f / 30f);
+        }
+        for (int i = 0; i < scalar.size(); i++) {
+            assertEquals(scalar.getProgress(i), preferred.getProgress(i));
+            assertEquals(scalar.getX(i), preferred.getX(i));
+            assertEquals(scalar.getY(i), preferred.getY(i));
+            assertEquals(scalar.getDirectionRow(i), preferred.getDirectionRow(i));
+        }
+    }
+}
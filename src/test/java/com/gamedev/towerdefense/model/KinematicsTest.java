@@ -0,0 +1,72 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class KinematicsTest {
+
+    private final Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+
+    @Test
+    public void testStep_MatchesDetachedObjectMovement() {
+        Kinematics kinematics = new Kinematics();
+        MoneyCoin attached = new MoneyCoin(new Position(0, 0), new Position(100, 40), 60f, 5);
+        MoneyCoin detached = new MoneyCoin(new Position(0, 0), new Position(100, 40), 60f, 5);
+        attached.attach(kinematics);
+
+        int steps = 0;
+        while (!detached.hasReachedTarget()) {
+            detached.update(0.1f);
+            kinematics.step(0.1f);
+            steps++;
+            assertEquals(detached.getX(), attached.getX(), 0.001f);
+            assertEquals(detached.getY(), attached.getY(), 0.001f);
+            assertEquals(detached.hasReachedTarget(), attached.hasReachedTarget(), "step " + steps);
+        }
+        assertEquals(1, kinematics.getArrivalCount());
+        assertEquals(attached.getMoverHandle(), kinematics.getArrival(0));
+        assertEquals(5, kinematics.getPayload(0));
+    }
+
+    @Test
+    public void testStep_HomingMoverFollowsTargetAndReportsLostTarget() {
+        EnemyStore enemies = new EnemyStore(path);
+        int chased = enemies.add(100, 100f, 0f, 1);
+        int dropped = enemies.add(100, 100f, 0.5f, 1);
+        Kinematics kinematics = new Kinematics();
+        int chaser = kinematics.addHoming(Projectile.KIND, 0, 50, enemies, chased, 500f, 5f, 30);
+        int orphan = kinematics.addHoming(Projectile.KIND, 0, 50, enemies, dropped, 500f, 5f, 30);
+
+        enemies.update(0.1f);
+        enemies.remove(dropped);
+        assertEquals(1, kinematics.step(0.1f));
+
+        int orphanIndex = kinematics.indexOf(orphan);
+        assertEquals(orphan, kinematics.getArrival(0));
+        assertTrue(kinematics.isTargetLost(orphanIndex));
+        int chaserIndex = kinematics.indexOf(chaser);
+        assertFalse(kinematics.isArrived(chaserIndex));
+        // 500 units/s for 0.1s from (0, 50) toward the enemy at (10, 0).
+        float travelled = (float) Math.hypot(kinematics.getX(chaserIndex), kinematics.getY(chaserIndex) - 50);
+        assertEquals(Math.min(50f, (float) Math.hypot(10, 50)), travelled, 0.01f);
+    }
+
+    @Test
+    public void testRemove_KeepsOtherHandlesValid() {
+        Kinematics kinematics = new Kinematics(1);
+        int first = kinematics.add(0, 1, 0, 100, 0, 1f, 1f, 1);
+        int second = kinematics.add(0, 2, 0, 100, 0, 1f, 1f, 2);
+        int third = kinematics.add(0, 3, 0, 100, 0, 1f, 1f, 3);
+
+        kinematics.remove(first);
+
+        assertFalse(kinematics.contains(first));
+        assertEquals(2, kinematics.size());
+        assertEquals(2, kinematics.getPayload(kinematics.indexOf(second)));
+        assertEquals(3f, kinematics.getX(kinematics.indexOf(third)), 0.001f);
+    }
+}
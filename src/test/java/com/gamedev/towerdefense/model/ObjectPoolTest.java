@@ -0,0 +1,63 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ObjectPoolTest {
+
+    @Test
+    public void testObtain_CountsHitsAndMisses() {
+        ObjectPool<MoneyCoin> pool = new ObjectPool<>(MoneyCoin::new);
+        pool.prewarm(2);
+        assertEquals(2, pool.getFreeCount());
+
+        MoneyCoin first = pool.obtain();
+        pool.obtain();
+        pool.obtain();
+
+        assertEquals(2, pool.getHits());
+        assertEquals(1, pool.getMisses());
+
+        pool.free(first);
+        assertSame(first, pool.obtain());
+        assertEquals(3, pool.getHits());
+    }
+
+    @Test
+    public void testFree_ResetsProjectileSoItDropsItsTarget() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0)));
+        Enemy enemy = new Enemy(path, 100, 10f, 0, 10);
+        ObjectPool<Projectile> pool = new ObjectPool<>(Projectile::new);
+
+        Projectile projectile = pool.obtain().init(new Position(50, 0), enemy, 100f, 30);
+        assertFalse(projectile.hasHit());
+        pool.free(projectile);
+
+        assertTrue(projectile.hasHit());
+        projectile.update(1f);
+        assertEquals(100, enemy.getHealth());
+    }
+
+    @Test
+    public void testInit_ReusedCoinBehavesLikeNewOne() {
+        ObjectPool<MoneyCoin> pool = new ObjectPool<>(MoneyCoin::new);
+        MoneyCoin coin = pool.obtain().init(new Position(0, 0), new Position(100, 0), 50f, 15);
+        coin.update(10f);
+        coin.update(10f);
+        assertTrue(coin.hasReachedTarget());
+        pool.free(coin);
+
+        MoneyCoin reused = pool.obtain().init(new Position(0, 0), new Position(100, 0), 50f, 20);
+
+        assertSame(coin, reused);
+        assertFalse(reused.hasReachedTarget());
+        assertEquals(20, reused.getReward());
+        reused.update(1f);
+        assertEquals(50f, reused.getPosition().getX(), 0.001f);
+    }
+}
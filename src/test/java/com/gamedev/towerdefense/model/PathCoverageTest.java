@@ -0,0 +1,84 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class PathCoverageTest {
+
+    @Test
+    public void testStraightPath_SingleInterval() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+        PathCoverage coverage = new PathCoverage(path, new Position(500, 60), 100);
+
+        assertEquals(1, coverage.getIntervalCount());
+        assertEquals(0.42f, coverage.getIntervalStart(0), 0.002f);
+        assertEquals(0.58f, coverage.getIntervalEnd(0), 0.002f);
+        assertTrue(coverage.contains(0.5f));
+        assertFalse(coverage.contains(0.3f));
+        assertFalse(coverage.contains(0.7f));
+    }
+
+    @Test
+    public void testUTurn_TwoIntervals() {
+        Path path = new LinearPath(Arrays.asList(
+                new Position(0, 0),
+                new Position(1000, 0),
+                new Position(1000, 300),
+                new Position(0, 300)));
+        PathCoverage coverage = new PathCoverage(path, new Position(200, 150), 160);
+
+        assertEquals(2, coverage.getIntervalCount());
+        assertTrue(coverage.getIntervalEnd(0) < coverage.getIntervalStart(1));
+        assertFalse(coverage.contains(0.5f));
+    }
+
+    @Test
+    public void testOutOfReach_NoIntervals() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+        PathCoverage coverage = new PathCoverage(path, new Position(500, 500), 100);
+
+        assertEquals(0, coverage.getIntervalCount());
+        assertFalse(coverage.contains(0.5f));
+    }
+
+    @Test
+    public void testCurvedPath_AgreesWithDistance() {
+        List<Position> waypoints = Arrays.asList(
+                new Position(1280, 360),
+                new Position(1000, 360),
+                new Position(900, 500),
+                new Position(640, 500),
+                new Position(600, 700),
+                new Position(250, 500),
+                new Position(0, 360));
+        Path path = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 1f);
+        Position center = new Position(760, 560);
+        float range = 150f;
+        PathCoverage coverage = new PathCoverage(path, center, range);
+
+        for (int i = 0; i <= 5000; i++) {
+            float t = i / 5000f;
+            float distance = Position.distance(center, path.getPositionAt(t));
+            if (distance <= range) {
+                assertTrue(coverage.contains(t), "in-range progress " + t + " must be covered");
+            } else if (coverage.contains(t)) {
+                assertTrue(distance <= range + 2f, "covered progress " + t + " is too far: " + distance);
+            }
+        }
+    }
+
+    @Test
+    public void testMayCover_OtherPathPasses() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+        Path otherPath = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+        PathCoverage coverage = new PathCoverage(path, new Position(900, 0), 50);
+
+        assertFalse(coverage.mayCover(new Enemy(path, 100, 10f, 0, 10)));
+        assertTrue(coverage.mayCover(new Enemy(otherPath, 100, 10f, 0, 10)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class PathDistanceFieldTest {
+
+    private float bruteForceDistance(Path path, float x, float y) {
+        float best = Float.MAX_VALUE;
+        for (int i = 0; i <= 20_000; i++) {
+            Position p = path.getPositionAt(i / 20_000f);
+            float dx = p.getX() - x;
+            float dy = p.getY() - y;
+            best = Math.min(best, (float) Math.sqrt(dx * dx + dy * dy));
+        }
+        return best;
+    }
+
+    @Test
+    public void testDistanceAt_StraightPath() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 100), new Position(400, 100)));
+        PathDistanceField field = new PathDistanceField(path, 400, 300, 80);
+
+        assertEquals(0f, field.distanceAt(200, 100), 0.01f);
+        assertEquals(25f, field.distanceAt(201, 125), 0.01f);
+        assertEquals(42.5f, field.distanceAt(37, 57.5f), 0.01f);
+        assertEquals(80f, field.distanceAt(200, 290), 0.001f, "far points should saturate");
+    }
+
+    @Test
+    public void testDistanceAt_CurvedPathMatchesBruteForce() {
+        List<Position> waypoints = Arrays.asList(
+                new Position(1280, 360),
+                new Position(1000, 360),
+                new Position(900, 500),
+                new Position(640, 500),
+                new Position(600, 700),
+                new Position(250, 500),
+                new Position(0, 360));
+        Path path = new CurvedPath(waypoints, CurvedPath.DEFAULT_ALPHA, 1f);
+        PathDistanceField field = new PathDistanceField(path, 1280, 720, 68);
+
+        Random random = new Random(7);
+        int checked = 0;
+        while (checked < 300) {
+            float x = random.nextFloat() * 1280;
+            float y = random.nextFloat() * 720;
+            float expected = bruteForceDistance(path, x, y);
+            if (expected < 10f || expected > 60f) {
+                continue;
+            }
+            assertEquals(expected, field.distanceAt(x, y), 0.25f, "at (" + x + ", " + y + ")");
+            checked++;
+        }
+    }
+
+    @Test
+    public void testDistanceAt_WorldSizeNotMultipleOfCell() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(0, 1001)));
+        PathDistanceField field = new PathDistanceField(path, 1003, 1001, 50);
+
+        assertEquals(20f, field.distanceAt(20, 1001), 0.1f);
+        assertEquals(50f, field.distanceAt(1003, 1001), 0.001f);
+    }
+
+    @Test
+    public void testDistanceAt_LargeWorldStoresOnlyTilesNearThePath() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 5000), new Position(20_000, 5000)));
+        PathDistanceField field = new PathDistanceField(path, 20_000, 10_000, 100);
+
+        assertTrue(field.getCellSize() <= 10f);
+        assertTrue(field.getStoredTiles() * 20 < field.getTileCount(),
+                field.getStoredTiles() + " of " + field.getTileCount() + " tiles stored");
+        assertEquals(40f, field.distanceAt(12_345, 5040), 0.01f);
+        assertEquals(100f, field.distanceAt(12_345, 9000), 0.001f);
+    }
+
+    @Test
+    public void testDistanceAt_HugeWorldStillSeesThePathUnderClearance() {
+        // GameWorld's field for a 30px clearance saturates at 68.
+        float clearance = 30f;
+        for (float size : new float[] {20_000f, 60_000f, 100_000f}) {
+            Path path = new LinearPath(Arrays.asList(new Position(0, size / 2), new Position(size, size / 2)));
+            PathDistanceField field = new PathDistanceField(path, size, size, clearance * 2f + 8f);
+
+            assertTrue(field.getCellSize() <= clearance / 4f, "cell " + field.getCellSize() + " at " + size);
+            for (int i = 1; i < 50; i++) {
+                float distance = field.distanceAt(size * i / 50f + 0.37f * i, size / 2);
+                assertTrue(distance < clearance / 4f, "on the path at " + size + ": " + distance);
+            }
+        }
+    }
+
+    @Test
+    public void testDistanceAt_OutsideWorldUsesExactDistance() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0)));
+        PathDistanceField field = new PathDistanceField(path, 100, 100, 50);
+
+        assertEquals(10f, field.distanceAt(50, -10), 0.001f);
+        assertEquals(5f, field.distanceAt(105, 0), 0.001f);
+        assertEquals(50f, field.distanceAt(-500, -500), 0.001f);
+    }
+
+    @Test
+    public void testDistanceAt_SingleWaypoint() {
+        Path path = new LinearPath(Arrays.asList(new Position(50, 50)));
+        PathDistanceField field = new PathDistanceField(path, 100, 100, 40);
+
+        assertEquals(30f, field.distanceAt(80, 50), 0.1f);
+    }
+
+    @Test
+    public void testConstructor_RejectsEmptyWorld() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(10, 0)));
+
+        assertThrows(IllegalArgumentException.class, () -> new PathDistanceField(path, 0, 100, 10));
+    }
+}
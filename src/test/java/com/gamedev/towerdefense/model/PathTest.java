@@ -120,4 +120,112 @@ public class PathTest {
         Path path = new LinearPath(Arrays.asList(new Position(0, 0)));
         assertEquals(0f, path.getPathLength(), 0.001f);
     }
+
+    @Test
+    public void testSample_PositionAndSegmentDirection() {
+        Path path = new LinearPath(Arrays.asList(
+                new Position(0, 0),
+                new Position(100, 0),
+                new Position(100, 100)));
+        PathSample sample = new PathSample();
+
+        path.sample(0.25f, sample);
+        assertEquals(50f, sample.getX(), 0.001f);
+        assertEquals(0f, sample.getY(), 0.001f);
+        assertEquals(1f, sample.getTangentX(), 0.001f);
+        assertEquals(0f, sample.getTangentY(), 0.001f);
+
+        path.sample(0.75f, sample);
+        assertEquals(100f, sample.getX(), 0.001f);
+        assertEquals(50f, sample.getY(), 0.001f);
+        assertEquals(0f, sample.getTangentX(), 0.001f);
+        assertEquals(1f, sample.getTangentY(), 0.001f);
+    }
+
+    @Test
+    public void testSample_MatchesGetPositionAt() {
+        Path path = new LinearPath(Arrays.asList(
+                new Position(0, 0),
+                new Position(30, 40),
+                new Position(-20, 90)));
+        PathSample sample = new PathSample();
+
+        for (int i = 0; i <= 20; i++) {
+            float t = i / 20f;
+            Position expected = path.getPositionAt(t);
+            path.sample(t, sample);
+            assertEquals(expected.getX(), sample.getX(), 0.001f);
+            assertEquals(expected.getY(), sample.getY(), 0.001f);
+        }
+    }
+
+    @Test
+    public void testSample_EndKeepsLastSegmentDirection() {
+        Path path = new LinearPath(Arrays.asList(
+                new Position(0, 0),
+                new Position(0, -100)));
+        PathSample sample = new PathSample();
+
+        path.sample(1f, sample);
+        assertEquals(0f, sample.getX(), 0.001f);
+        assertEquals(-100f, sample.getY(), 0.001f);
+        assertEquals(-1f, sample.getTangentY(), 0.001f);
+    }
+
+    @Test
+    public void testSample_SinglePointHasNoTangent() {
+        Path path = new LinearPath(Arrays.asList(new Position(5, 7)));
+        PathSample sample = new PathSample();
+
+        path.sample(0.5f, sample);
+        assertEquals(5f, sample.getX(), 0.001f);
+        assertEquals(7f, sample.getY(), 0.001f);
+        assertFalse(sample.hasTangent());
+    }
+
+    @Test
+    public void testProject_LinearPath() {
+        Path path = new LinearPath(Arrays.asList(
+                new Position(0, 0),
+                new Position(100, 0),
+                new Position(100, 100)));
+        PathProjection projection = new PathProjection();
+
+        path.project(40, -30, projection);
+        assertEquals(40f, projection.getX(), 0.001f);
+        assertEquals(0f, projection.getY(), 0.001f);
+        assertEquals(0.2f, projection.getProgress(), 0.001f);
+        assertEquals(30f, projection.getDistance(), 0.001f);
+
+        path.project(130, 75, projection);
+        assertEquals(100f, projection.getX(), 0.001f);
+        assertEquals(75f, projection.getY(), 0.001f);
+        assertEquals(0.875f, projection.getProgress(), 0.001f);
+        assertEquals(30f, projection.getDistance(), 0.001f);
+    }
+
+    @Test
+    public void testProject_BeyondEndsClampsToEndpoints() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0)));
+        PathProjection projection = new PathProjection();
+
+        path.project(-30, 40, projection);
+        assertEquals(0f, projection.getProgress(), 0.001f);
+        assertEquals(50f, projection.getDistance(), 0.001f);
+
+        path.project(200, 0, projection);
+        assertEquals(1f, projection.getProgress(), 0.001f);
+        assertEquals(100f, projection.getDistance(), 0.001f);
+    }
+
+    @Test
+    public void testProject_SinglePoint() {
+        Path path = new LinearPath(Arrays.asList(new Position(5, 7)));
+        PathProjection projection = new PathProjection();
+
+        path.project(8, 11, projection);
+        assertEquals(5f, projection.getX(), 0.001f);
+        assertEquals(0f, projection.getProgress(), 0.001f);
+        assertEquals(5f, projection.getDistance(), 0.001f);
+    }
 }
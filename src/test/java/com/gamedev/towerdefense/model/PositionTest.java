@@ -105,4 +105,26 @@ public class PositionTest {
         float expected = (float) Math.sqrt(0.04 + 0.04);
         assertEquals(expected, distance, 0.001f);
     }
+
+    @Test
+    public void testDistanceSquared() {
+        Position a = new Position(1.0f, 2.0f);
+        Position b = new Position(4.0f, 6.0f);
+        assertEquals(25.0f, Position.distanceSquared(a, b), 0.001f);
+    }
+
+    @Test
+    public void testMutablePosition_SetAndLerpInPlace() {
+        MutablePosition pos = new MutablePosition();
+        assertSame(pos, pos.set(new Position(10.0f, 20.0f)));
+
+        pos.lerp(20.0f, 0.0f, 0.25f);
+        assertEquals(12.5f, pos.getX(), 0.001f);
+        assertEquals(15.0f, pos.getY(), 0.001f);
+        assertEquals(12.5f * 12.5f + 15.0f * 15.0f, pos.distanceSquared(0.0f, 0.0f), 0.01f);
+
+        Position snapshot = pos.toPosition();
+        pos.set(0.0f, 0.0f);
+        assertEquals(12.5f, snapshot.getX(), 0.001f);
+    }
 }
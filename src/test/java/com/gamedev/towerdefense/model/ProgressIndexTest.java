@@ -0,0 +1,70 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ProgressIndexTest {
+
+    private final Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+
+    private void assertOrdered(EnemyStore store) {
+        ProgressIndex order = store.getProgressIndex();
+        assertEquals(store.size(), order.size());
+        boolean[] seen = new boolean[store.size()];
+        for (int p = 0; p < order.size(); p++) {
+            int i = order.indexAt(p);
+            assertTrue(!seen[i], "slot listed twice: " + i);
+            seen[i] = true;
+            assertEquals(store.getProgress(i), order.progressAt(p));
+            if (p > 0) {
+                assertTrue(order.progressAt(p - 1) <= order.progressAt(p), "out of order at " + p);
+            }
+        }
+    }
+
+    @Test
+    public void testRepair_StaysSortedThroughSpawnsRemovalsAndOvertaking() {
+        EnemyStore store = new EnemyStore(path);
+        Random random = new Random(8L);
+        List<Integer> handles = new ArrayList<>();
+
+        for (int tick = 0; tick < 300; tick++) {
+            int spawns = random.nextInt(4);
+            for (int s = 0; s < spawns; s++) {
+                handles.add(store.add(100, 20f + random.nextFloat() * 200f, random.nextFloat() * 0.2f, 1));
+            }
+            if (!handles.isEmpty() && random.nextInt(3) == 0) {
+                store.remove(handles.remove(random.nextInt(handles.size())));
+            }
+            store.update(1f / 30f);
+            for (int i = store.size() - 1; i >= 0; i--) {
+                if (store.getProgress(i) >= 1f) {
+                    handles.remove(Integer.valueOf(store.handleAt(i)));
+                    store.remove(store.handleAt(i));
+                }
+            }
+            assertOrdered(store);
+        }
+    }
+
+    @Test
+    public void testGetProgressIndex_ReusedWhileStoreIsUnchanged() {
+        EnemyStore store = new EnemyStore(path);
+        store.add(100, 10f, 0.5f, 1);
+        store.add(100, 10f, 0.2f, 1);
+        ProgressIndex order = store.getProgressIndex();
+
+        assertSame(order, store.getProgressIndex());
+        assertEquals(0.2f, order.progressAt(0), 0.0001f);
+        assertEquals(1, order.upperBound(0.2f));
+        assertEquals(1, order.lowerBound(0.3f));
+        assertEquals(2, order.upperBound(1f));
+    }
+}
@@ -171,4 +171,35 @@ public class ProjectileTest {
 
         assertTrue(projectile.hasHit());
     }
+
+    @Test
+    public void testUpdate_DropsTargetRemovedFromStoreEvenWhenSlotIsReused() {
+        Path path = createTestPath(60, 50);
+        EnemyStore store = new EnemyStore(path);
+        int target = store.add(100, 10f, 0f, 10);
+        Projectile projectile = new Projectile().init(new Position(50, 50), store, target, 100f, 50);
+
+        store.remove(target);
+        int newcomer = store.add(100, 10f, 0f, 10);
+        projectile.update(0.1f);
+        projectile.update(0.1f);
+
+        assertTrue(projectile.hasHit());
+        assertEquals(100, store.getHealth(store.indexOf(newcomer)));
+    }
+
+    @Test
+    public void testUpdate_OnlySplashCarriesThroughASwarm() {
+        Path path = createTestPath(53, 50);
+        EnemyStore store = new EnemyStore(path);
+        int swarm = store.addSwarm(20, 10f, 0f, 1, 5);
+
+        new Projectile().init(new Position(50, 50), store, swarm, 100f, 50).update(0.1f);
+        assertEquals(80, store.getHealth(store.indexOf(swarm)));
+        assertEquals(4, store.getAliveMembers(store.indexOf(swarm)));
+
+        new Projectile().init(new Position(50, 50), store, swarm, 100f, 50, true).update(0.1f);
+        assertEquals(30, store.getHealth(store.indexOf(swarm)));
+        assertEquals(2, store.getAliveMembers(store.indexOf(swarm)));
+    }
 }
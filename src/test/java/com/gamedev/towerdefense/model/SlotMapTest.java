@@ -0,0 +1,39 @@
+package com.gamedev.towerdefense.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class SlotMapTest {
+
+    @Test
+    public void testRemove_StaleHandleDoesNotResolveToReusedSlot() {
+        SlotMap<String> map = new SlotMap<>();
+        int first = map.add("first");
+        map.remove(first);
+
+        int second = map.add("second");
+
+        assertEquals(Handles.index(first), Handles.index(second));
+        assertNotEquals(first, second);
+        assertNull(map.get(first));
+        assertFalse(map.contains(first));
+        assertNull(map.remove(first));
+        assertSame("second", map.get(second));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testGet_RejectsNoneAndUnknownHandles() {
+        SlotMap<String> map = new SlotMap<>();
+        map.add("only");
+
+        assertNull(map.get(Handles.NONE));
+        assertNull(map.get(12345));
+        assertTrue(map.contains(0));
+    }
+}
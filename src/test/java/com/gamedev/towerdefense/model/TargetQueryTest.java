@@ -0,0 +1,93 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class TargetQueryTest {
+
+    private EnemyStore createStore(long seed) {
+        Random random = new Random(seed);
+        List<Position> waypoints = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            waypoints.add(new Position(random.nextFloat() * 1280f, random.nextFloat() * 720f));
+        }
+        EnemyStore store = new EnemyStore(new LinearPath(waypoints));
+        for (int i = 0; i < 800; i++) {
+            store.add(random.nextInt(6) - 1, 10f, random.nextFloat(), 1);
+        }
+        store.update(0f);
+        return store;
+    }
+
+    @Test
+    public void testSize_GathersExactlyTheLiveEnemiesInRange() {
+        EnemyStore store = createStore(1L);
+        Position tower = new Position(640, 360);
+        PathCoverage coverage = new PathCoverage(store.getPath(), tower, 150);
+        TargetQuery query = new TargetQuery();
+
+        for (boolean withGrid : new boolean[] {false, true}) {
+            if (withGrid) {
+                store.rebuildGrid(EnemyGrid.DEFAULT_CELL_SIZE);
+            }
+            query.reset(tower, 150, coverage, store);
+            int expected = 0;
+            for (int i = 0; i < store.size(); i++) {
+                float dx = store.getX(i) - 640;
+                float dy = store.getY(i) - 360;
+                if (store.getHealth(i) > 0 && dx * dx + dy * dy <= 150 * 150) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, query.size(), withGrid ? "with grid" : "without grid");
+            for (int n = 0; n < query.size(); n++) {
+                int i = query.getIndex(n);
+                assertEquals(store.getHealth(i), query.getHealth(n));
+                assertEquals(store.getProgress(i), query.getProgress(n));
+                assertTrue(query.getDistanceSquared(n) <= 150 * 150);
+            }
+        }
+    }
+
+    @Test
+    public void testSelect_BuiltInSelectorsMatchTheirListScan() {
+        EnemyStore store = createStore(2L);
+        Random random = new Random(3L);
+        TargetingStrategy[] strategies = {
+            new NearestEnemyStrategy(), new StrongestEnemyStrategy(), new WeakestEnemyStrategy(),
+            new FirstEnemyStrategy(), new LastEnemyStrategy()
+        };
+        TargetQuery query = new TargetQuery();
+        for (int q = 0; q < 100; q++) {
+            Position tower = new Position(random.nextFloat() * 1280f, random.nextFloat() * 720f);
+            int range = 40 + random.nextInt(120);
+            PathCoverage coverage = new PathCoverage(store.getPath(), tower, range);
+            for (TargetingStrategy strategy : strategies) {
+                Enemy target = strategy.selectTarget(tower, range, coverage, store.asList());
+                int expected = target == null ? EnemyStore.NONE : target.getHandle();
+                int selected = TargetSelectors.of(strategy).select(query.reset(tower, range, coverage, store));
+                assertEquals(expected, selected, strategy.getClass().getSimpleName() + " at query " + q);
+            }
+        }
+    }
+
+    @Test
+    public void testOf_AdaptsOnlyStrategiesThatAreNotSelectors() {
+        NearestEnemyStrategy nearest = new NearestEnemyStrategy();
+        TargetingStrategy custom = (position, range, enemies) -> enemies.isEmpty() ? null : enemies.get(0);
+
+        assertSame(nearest, TargetSelectors.of(nearest));
+        assertNotSame(custom, TargetSelectors.of(custom));
+
+        EnemyStore store = createStore(4L);
+        int selected = TargetSelectors.of(custom).select(new TargetQuery().reset(new Position(0, 0), 10, null, store));
+        assertEquals(store.handleAt(0), selected);
+    }
+}
@@ -89,4 +89,41 @@ class TargetingStrategyTest {
         
         assertNull(target);
     }
+
+    @Test
+    void firstAndLastStrategies_pickByPathProgress() {
+        EnemyStore store = new EnemyStore(testPath);
+        int behind = store.add(100, 0f, 0.1f, 10);
+        int middle = store.add(100, 0f, 0.3f, 10);
+        int ahead = store.add(100, 0f, 0.7f, 10);
+        store.add(100, 0f, 0.9f, 10);
+        store.update(0f);
+        PathCoverage coverage = new PathCoverage(testPath, towerPosition, TOWER_RANGE);
+
+        assertEquals(ahead, new FirstEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, coverage, store));
+        assertEquals(behind, new LastEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, coverage, store));
+        assertEquals(ahead, new FirstEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, null, store));
+
+        store.damage(ahead, 100);
+        store.remove(behind);
+        assertEquals(middle, new FirstEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, coverage, store));
+        assertEquals(middle, new LastEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, coverage, store));
+        assertSame(store.enemy(middle),
+                new FirstEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, store.asList()));
+    }
+
+    @Test
+    void healthStrategies_rankSwarmsByMemberHealth() {
+        EnemyStore store = new EnemyStore(testPath);
+        int single = store.add(30, 50f, 0.25f, 10);
+        int swarm = store.addSwarm(10, 50f, 0.25f, 1, 5);
+        PathCoverage coverage = new PathCoverage(testPath, towerPosition, TOWER_RANGE);
+
+        assertEquals(swarm, new WeakestEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, coverage, store));
+        assertEquals(single, new StrongestEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, coverage, store));
+        assertSame(store.enemy(swarm),
+                new WeakestEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, store.asList()));
+        assertSame(store.enemy(single),
+                new StrongestEnemyStrategy().selectTarget(towerPosition, TOWER_RANGE, store.asList()));
+    }
 }
@@ -0,0 +1,171 @@
+package com.gamedev.towerdefense.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class TowerSchedulerTest {
+    private static final float TICK = 1f / 64f;
+
+    private PathNetwork createNetwork() {
+        PathNetwork network = new PathNetwork();
+        network.addLane("main", new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0))));
+        return network;
+    }
+
+    private Tower createTower(PathNetwork network, float x) {
+        Tower tower = new Tower(30, 50, 1, 0.5f, 300f, new Position(x, 20), 1);
+        tower.setPaths(network.getPaths());
+        return tower;
+    }
+
+    @Test
+    public void testUpdate_FiresOnTheSameTicksAsPolling() {
+        PathNetwork polledNetwork = createNetwork();
+        PathNetwork scheduledNetwork = createNetwork();
+        List<Tower> polled = new ArrayList<>();
+        TowerScheduler scheduler = new TowerScheduler();
+        for (float x = 100; x < 1000; x += 200) {
+            polled.add(createTower(polledNetwork, x));
+            scheduler.add(createTower(scheduledNetwork, x));
+        }
+        List<Projectile> polledShots = new ArrayList<>();
+        List<Projectile> scheduledShots = new ArrayList<>();
+
+        for (int tick = 0; tick < 900; tick++) {
+            if (tick % 150 == 0) {
+                polledNetwork.getDefaultLane().getStore().add(1_000_000, 80f, 0f, 1);
+                scheduledNetwork.getDefaultLane().getStore().add(1_000_000, 80f, 0f, 1);
+            }
+            polledNetwork.getDefaultLane().getStore().update(TICK);
+            scheduledNetwork.getDefaultLane().getStore().update(TICK);
+            for (Tower tower : polled) {
+                tower.update(TICK, polledNetwork, polledShots);
+            }
+            scheduler.update(TICK, scheduledNetwork, scheduledShots, null);
+            assertEquals(polledShots.size(), scheduledShots.size(), "shots after tick " + tick);
+        }
+        assertFalse(polledShots.isEmpty());
+    }
+
+    @Test
+    public void testUpdate_IdleTowerSleepsUntilAnEnemyIsDue() {
+        PathNetwork network = createNetwork();
+        EnemyStore store = network.getDefaultLane().getStore();
+        TowerScheduler scheduler = new TowerScheduler();
+        Tower tower = createTower(network, 500);
+        scheduler.add(tower);
+        List<Projectile> projectiles = new ArrayList<>();
+
+        // Runs once when added, then once its initial cooldown is over.
+        for (int tick = 0; tick < 40; tick++) {
+            scheduler.update(TICK, network, projectiles, null);
+        }
+        assertTrue(scheduler.isIdle(tower));
+        assertEquals(Double.POSITIVE_INFINITY, scheduler.getWakeTime(tower));
+
+        // Coverage starts near x = 450, about 4.5s away at 100px/s.
+        store.add(100, 100f, 0f, 1);
+        scheduler.update(TICK, network, projectiles, null);
+        assertEquals(4.5, scheduler.getWakeTime(tower) - scheduler.getTime(), 0.1);
+
+        int runs = 0;
+        while (projectiles.isEmpty()) {
+            store.update(TICK);
+            runs += scheduler.update(TICK, network, projectiles, null);
+        }
+        assertTrue(runs <= 3, "tower ran " + runs + " times before firing");
+    }
+
+    @Test
+    public void testUpdate_FasterEnemyFurtherBackStillWakesTheTower() {
+        PathNetwork network = createNetwork();
+        EnemyStore store = network.getDefaultLane().getStore();
+        // A crawler just short of coverage (near x = 450), and a runner far
+        // behind it that gets there first.
+        store.add(100, 1f, 0.4f, 1);
+        store.add(100, 200f, 0.05f, 1);
+        store.update(0f);
+        TowerScheduler scheduler = new TowerScheduler();
+        Tower tower = createTower(network, 500);
+        scheduler.add(tower);
+        List<Projectile> projectiles = new ArrayList<>();
+
+        float elapsed = 0f;
+        while (projectiles.isEmpty() && elapsed < 3f) {
+            store.update(TICK);
+            scheduler.update(TICK, network, projectiles, null);
+            elapsed += TICK;
+        }
+        // The runner covers the 400px in 2s; the crawler would need 50s.
+        assertEquals(2f, elapsed, 0.1f);
+    }
+
+    @Test
+    public void testUpdate_NewcomerOnlyWakesTowersOnItsLane() {
+        PathNetwork network = createNetwork();
+        Path side = new LinearPath(Arrays.asList(new Position(0, 500), new Position(1000, 500)));
+        network.addLane("side", side);
+        TowerScheduler scheduler = new TowerScheduler();
+        Tower tower = createTower(network, 500);
+        scheduler.add(tower);
+        List<Projectile> projectiles = new ArrayList<>();
+        for (int tick = 0; tick < 40; tick++) {
+            scheduler.update(TICK, network, projectiles, null);
+        }
+        assertTrue(scheduler.isIdle(tower));
+
+        network.getLane("side").getStore().add(100, 100f, 0f, 1);
+        scheduler.update(TICK, network, projectiles, null);
+        assertEquals(Double.POSITIVE_INFINITY, scheduler.getWakeTime(tower));
+
+        network.getDefaultLane().getStore().add(100, 100f, 0f, 1);
+        scheduler.update(TICK, network, projectiles, null);
+        assertEquals(4.5, scheduler.getWakeTime(tower) - scheduler.getTime(), 0.1);
+    }
+
+    @Test
+    public void testUpdate_CoolingTowerRunsOnlyWhenReady() {
+        PathNetwork network = createNetwork();
+        EnemyStore store = network.getDefaultLane().getStore();
+        store.add(1_000_000, 0f, 0.5f, 1);
+        store.update(0f);
+        TowerScheduler scheduler = new TowerScheduler();
+        scheduler.add(createTower(network, 500));
+        List<Projectile> projectiles = new ArrayList<>();
+
+        int runs = 0;
+        for (int tick = 0; tick < 64; tick++) {
+            runs += scheduler.update(TICK, network, projectiles, null);
+        }
+
+        // Once when added, then at 0.5s and 1s when the cooldown ends and it fires.
+        assertEquals(2, projectiles.size());
+        assertEquals(3, runs);
+    }
+
+    @Test
+    public void testRemoveAndWake() {
+        PathNetwork network = createNetwork();
+        TowerScheduler scheduler = new TowerScheduler();
+        Tower first = createTower(network, 100);
+        Tower second = createTower(network, 300);
+        scheduler.add(first);
+        scheduler.add(second);
+        List<Projectile> projectiles = new ArrayList<>();
+        scheduler.update(TICK, network, projectiles, null);
+
+        assertTrue(scheduler.remove(first));
+        assertFalse(scheduler.remove(first));
+        assertEquals(1, scheduler.size());
+        assertEquals(0, scheduler.update(TICK, network, projectiles, null));
+
+        scheduler.wake(second);
+        assertEquals(1, scheduler.update(TICK, network, projectiles, null));
+    }
+}
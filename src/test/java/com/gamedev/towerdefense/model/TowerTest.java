@@ -1,12 +1,14 @@
 package com.gamedev.towerdefense.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 public class TowerTest {
@@ -243,4 +245,152 @@ public class TowerTest {
         assertEquals(1, tower1.getTowerId());
         assertEquals(2, tower2.getTowerId());
     }
+
+    @Test
+    public void testIncreaseRange_RecomputesPathCoverage() {
+        Path path = new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0)));
+        Tower tower = new Tower(30, 100, 50, 0.5f, 300f, new Position(500, 0), 1);
+        tower.setPath(path);
+
+        assertFalse(tower.getPathCoverage().contains(0.35f));
+        tower.increaseRange(100);
+        assertTrue(tower.getPathCoverage().contains(0.35f));
+    }
+
+    @Test
+    public void testSelectTarget_CoverageSkipsUncoveredEnemies() {
+        List<Position> waypoints = new ArrayList<>();
+        waypoints.add(new Position(0, 0));
+        waypoints.add(new Position(1000, 0));
+        Path path = new LinearPath(waypoints);
+        Tower tower = new Tower(30, 100, 50, 0.5f, 300f, new Position(950, 0), 1);
+        tower.setPath(path);
+
+        List<Enemy> enemies = new ArrayList<>();
+        Enemy atStart = new Enemy(path, 100, 10f, 0, 10);
+        Enemy atEnd = new Enemy(path, 100, 10f, 1, 10);
+        enemies.add(atStart);
+        enemies.add(atEnd);
+
+        assertEquals(atEnd, tower.selectTarget(enemies));
+        enemies.remove(atEnd);
+        assertNull(tower.selectTarget(enemies));
+    }
+
+    @Test
+    public void testSelectTarget_NetworkScansOnlyCoveredLanes() {
+        PathNetwork network = new PathNetwork();
+        PathNetwork.Lane near = network.addLane("near",
+                new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0))));
+        PathNetwork.Lane far = network.addLane("far",
+                new LinearPath(Arrays.asList(new Position(0, 500), new Position(1000, 500))));
+        Tower tower = new Tower(30, 100, 50, 0.5f, 300f, new Position(0, 50), 1);
+        tower.setPaths(network.getPaths());
+
+        Enemy farEnemy = new Enemy(far.getPath(), 100, 10f, 0, 10);
+        far.getEnemies().add(farEnemy);
+        assertNull(tower.selectTarget(network));
+
+        Enemy nearEnemy = new Enemy(near.getPath(), 100, 10f, 0, 10);
+        near.getEnemies().add(nearEnemy);
+        assertEquals(nearEnemy, tower.selectTarget(network));
+    }
+
+    @Test
+    public void testSelectTarget_NetworkComparesAcrossLanes() {
+        PathNetwork network = new PathNetwork();
+        PathNetwork.Lane lower = network.addLane("lower",
+                new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0))));
+        PathNetwork.Lane upper = network.addLane("upper",
+                new LinearPath(Arrays.asList(new Position(0, 60), new Position(100, 60))));
+        Tower tower = new Tower(30, 100, 50, 0.5f, 300f, new Position(0, 50), 1);
+        tower.setPaths(network.getPaths());
+
+        Enemy lowerEnemy = new Enemy(lower.getPath(), 100, 10f, 0, 10);
+        Enemy upperEnemy = new Enemy(upper.getPath(), 100, 10f, 0, 10);
+        lower.getEnemies().add(lowerEnemy);
+        upper.getEnemies().add(upperEnemy);
+
+        assertEquals(upperEnemy, tower.selectTarget(network));
+    }
+
+    private PathNetwork createStraightNetwork() {
+        PathNetwork network = new PathNetwork();
+        network.addLane("main", new LinearPath(Arrays.asList(new Position(0, 0), new Position(1000, 0))));
+        return network;
+    }
+
+    @Test
+    public void testUpdate_StickyTowerKeepsTargetWhenCloserEnemyArrives() {
+        PathNetwork network = createStraightNetwork();
+        EnemyStore store = network.getDefaultLane().getStore();
+        Tower sticky = new Tower(30, 100, 50, 0.5f, 300f, new Position(0, 50), 1);
+        Tower plain = new Tower(30, 100, 50, 0.5f, 300f, new Position(0, 50), 1);
+        sticky.setTargetLock(true, 0f, 0f);
+        sticky.setPaths(network.getPaths());
+        plain.setPaths(network.getPaths());
+        List<Projectile> projectiles = new ArrayList<>();
+
+        int first = store.add(100, 10f, 0.05f, 10);
+        store.update(0f);
+        sticky.update(0.01f, network, projectiles);
+        plain.update(0.01f, network, projectiles);
+        int closer = store.add(100, 10f, 0f, 10);
+        store.update(0f);
+        sticky.update(0.01f, network, projectiles);
+        plain.update(0.01f, network, projectiles);
+
+        assertEquals(first, sticky.getTargetHandle());
+        assertEquals(closer, plain.getTargetHandle());
+    }
+
+    @Test
+    public void testUpdate_StickyTowerRetargetsWhenTargetDiesOrIntervalPasses() {
+        PathNetwork network = createStraightNetwork();
+        EnemyStore store = network.getDefaultLane().getStore();
+        Tower tower = new Tower(30, 100, 50, 0.5f, 300f, new Position(0, 50), 1);
+        tower.setTargetLock(true, 0.5f, 0f);
+        tower.setPaths(network.getPaths());
+        List<Projectile> projectiles = new ArrayList<>();
+
+        int first = store.add(100, 10f, 0.05f, 10);
+        store.update(0f);
+        tower.update(0.1f, network, projectiles);
+        int closer = store.add(100, 10f, 0f, 10);
+        store.update(0f);
+        tower.update(0.1f, network, projectiles);
+        assertEquals(first, tower.getTargetHandle());
+
+        tower.update(0.4f, network, projectiles);
+        assertEquals(closer, tower.getTargetHandle());
+
+        store.damage(closer, 100);
+        tower.update(0.1f, network, projectiles);
+        assertEquals(first, tower.getTargetHandle());
+    }
+
+    @Test
+    public void testUpdate_StickyTowerHoldsTargetWithinRangeHysteresis() {
+        PathNetwork network = createStraightNetwork();
+        EnemyStore store = network.getDefaultLane().getStore();
+        Tower tower = new Tower(30, 100, 50, 0.5f, 300f, new Position(0, 0), 1);
+        tower.setTargetLock(true, 0f, 20f);
+        tower.setPaths(network.getPaths());
+        List<Projectile> projectiles = new ArrayList<>();
+
+        int target = store.add(100, 100f, 0.09f, 10);
+        store.update(0f);
+        tower.update(0.01f, network, projectiles);
+        assertEquals(target, tower.getTargetHandle());
+
+        // 90 -> 110: past range but inside the hysteresis band.
+        store.update(0.2f);
+        tower.update(0.01f, network, projectiles);
+        assertEquals(target, tower.getTargetHandle());
+
+        // 110 -> 130: past the band, and nothing else is in range.
+        store.update(0.2f);
+        tower.update(0.01f, network, projectiles);
+        assertEquals(EnemyStore.NONE, tower.getTargetHandle());
+    }
 }
@@ -239,4 +239,94 @@ public class WaveManagerTest {
 
         assertEquals(0, waveManager.getCurrentWaveNumber());
     }
+
+    private void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void testUpdate_NetworkRoutesEnemiesToTargetedLane() {
+        GameConfig.WaveEnemyConfig toDefault = createEnemyConfig(100, 50f, 0f, 10);
+        GameConfig.WaveEnemyConfig toWaveLane = createEnemyConfig(100, 50f, 0.5f, 10);
+        GameConfig.WaveEnemyConfig toOwnLane = createEnemyConfig(100, 50f, 1f, 10);
+        setField(toOwnLane, "path", "north");
+        GameConfig.WaveConfig lanelessWave = createWaveConfig(1, 0f, Arrays.asList(toDefault));
+        GameConfig.WaveConfig eastWave = createWaveConfig(2, 0f, Arrays.asList(toWaveLane, toOwnLane));
+        setField(eastWave, "path", "east");
+
+        PathNetwork network = new PathNetwork();
+        PathNetwork.Lane main = network.addLane("main",
+                new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0))));
+        PathNetwork.Lane east = network.addLane("east",
+                new LinearPath(Arrays.asList(new Position(0, 50), new Position(100, 50))));
+        PathNetwork.Lane north = network.addLane("north",
+                new LinearPath(Arrays.asList(new Position(0, 90), new Position(100, 90))));
+
+        WaveManager waveManager = new WaveManager(Arrays.asList(lanelessWave, eastWave));
+        waveManager.update(2f, network);
+
+        assertEquals(1, main.getEnemies().size());
+        assertEquals(1, east.getEnemies().size());
+        assertEquals(1, north.getEnemies().size());
+        assertSame(north.getPath(), north.getEnemies().get(0).getPath());
+        assertEquals(3, network.getEnemyCount());
+        assertTrue(waveManager.areAllWavesComplete());
+    }
+
+    @Test
+    public void testGetLargestWaveSize() {
+        GameConfig.WaveConfig small = createWaveConfig(1, 0f, Arrays.asList(createEnemyConfig(100, 50f, 0f, 10)));
+        GameConfig.WaveConfig large = createWaveConfig(2, 5f, Arrays.asList(
+                createEnemyConfig(100, 50f, 0f, 10),
+                createEnemyConfig(100, 50f, 1f, 10),
+                createEnemyConfig(100, 50f, 2f, 10)));
+
+        assertEquals(3, new WaveManager(Arrays.asList(small, large)).getLargestWaveSize());
+        assertEquals(0, new WaveManager(null).getLargestWaveSize());
+    }
+
+    @Test
+    public void testUpdate_NetworkSpawnsIntoReservedSlots() {
+        GameConfig.WaveConfig wave = createWaveConfig(1, 0f, Arrays.asList(
+                createEnemyConfig(80, 50f, 0f, 5),
+                createEnemyConfig(90, 50f, 0f, 5)));
+        PathNetwork network = new PathNetwork();
+        PathNetwork.Lane lane = network.addLane("main",
+                new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0))));
+        WaveManager waveManager = new WaveManager(Arrays.asList(wave));
+        lane.getStore().reserve(waveManager.getLargestWaveSize());
+        int capacity = lane.getStore().getCapacity();
+
+        waveManager.update(1f, network);
+
+        assertEquals(2, lane.getStore().size());
+        assertEquals(80, lane.getStore().getHealth(0));
+        assertEquals(capacity, lane.getStore().getCapacity());
+        assertEquals(0, lane.getStore().getSlotMisses());
+    }
+
+    @Test
+    public void testUpdate_SwarmEntrySpawnsOneSlot() {
+        GameConfig.WaveEnemyConfig swarm = createEnemyConfig(4, 40f, 0f, 1);
+        setField(swarm, "swarmSize", 5000);
+        GameConfig.WaveConfig wave = createWaveConfig(1, 0f, Arrays.asList(swarm));
+        PathNetwork network = new PathNetwork();
+        PathNetwork.Lane lane = network.addLane("main",
+                new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0))));
+
+        new WaveManager(Arrays.asList(wave)).update(1f, network);
+
+        EnemyStore store = lane.getStore();
+        assertEquals(1, store.size());
+        assertEquals(5000, store.getMemberCount(0));
+        assertEquals(4, store.getMemberHealth(0));
+        assertEquals(20000, store.getHealth(0));
+        assertEquals(1, store.getReward(0));
+    }
 }
@@ -0,0 +1,107 @@
+package com.gamedev.towerdefense.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class WorldStateBufferTest {
+
+    private PathNetwork createNetwork() {
+        PathNetwork network = new PathNetwork();
+        network.addLane("main", new LinearPath(Arrays.asList(new Position(0, 0), new Position(100, 0))));
+        network.addLane("east", new LinearPath(Arrays.asList(new Position(0, 50), new Position(100, 50))));
+        return network;
+    }
+
+    @Test
+    public void testCapture_ViewReadsEveryLaneTowerAndMover() {
+        PathNetwork network = createNetwork();
+        EnemyStore main = network.getLane("main").getStore();
+        EnemyStore east = network.getLane("east").getStore();
+        main.add(100, 10f, 0.25f, 5);
+        main.addSwarm(4, 10f, 0.5f, 1, 10);
+        east.add(70, 10f, 0.75f, 5);
+        main.damageSplash(main.handleAt(1), 9);
+        List<Tower> towers = List.of(new Tower(30, 100, 10, 0.5f, 300f, new Position(40, 20), 2));
+        Kinematics movers = new Kinematics();
+        movers.add(MoneyCoin.KIND, 1f, 2f, 3f, 4f, 50f, 10f, 5);
+
+        WorldStateBuffer state = new WorldStateBuffer();
+        state.capture(12.5f, 3, 150, network, towers, movers);
+        WorldStateView view = state.view();
+
+        assertEquals(12.5f, view.getGameTime());
+        assertEquals(3, view.getLives());
+        assertEquals(150, view.getBudget());
+        assertEquals(3, view.getEnemyCount());
+        assertEquals(25f, view.getEnemyX(0), 0.001f);
+        assertEquals(100, view.getEnemyHealth(0));
+        assertEquals(0.5f, view.getEnemyProgress(1), 0.001f);
+        assertEquals(10, view.getEnemyMemberCount(1));
+        assertEquals(8, view.getEnemyAliveMembers(1));
+        assertEquals(50f, view.getEnemyY(2), 0.001f);
+        assertEquals(70, view.getEnemyHealth(2));
+        assertEquals(1, view.getTowerCount());
+        assertEquals(40f, view.getTowerX(0));
+        assertEquals(2, view.getTowerId(0));
+        assertEquals(1, view.getMoverCount());
+        assertEquals(2f, view.getMoverY(0));
+        assertEquals(MoneyCoin.KIND, view.getMoverKind(0));
+        assertEquals(state.getSizeBytes(), WorldStateBuffer.wordsFor(3, 1, 1) * Integer.BYTES);
+    }
+
+    @Test
+    public void testSnapshot_IsUnaffectedByLaterCaptures() {
+        PathNetwork network = createNetwork();
+        EnemyStore main = network.getLane("main").getStore();
+        main.add(100, 10f, 0f, 5);
+        Kinematics movers = new Kinematics();
+        WorldStateBuffer state = new WorldStateBuffer(1, 0, 0);
+        state.capture(0f, 3, 0, network, List.of(), movers);
+
+        WorldStateBuffer snapshot = state.snapshot();
+        for (int i = 0; i < 40; i++) {
+            main.add(50, 10f, 0.5f, 5);
+        }
+        main.update(1f);
+        state.capture(1f, 2, 0, network, List.of(), movers);
+
+        WorldStateView before = snapshot.view();
+        assertEquals(1, before.getEnemyCount());
+        assertEquals(0f, before.getEnemyX(0), 0.001f);
+        assertEquals(3, before.getLives());
+        assertEquals(41, state.view().getEnemyCount());
+        assertTrue(state.getCapacityBytes() >= state.getSizeBytes());
+    }
+
+    @Test
+    public void testView_ReadsSavedBytesInEitherByteOrder() {
+        PathNetwork network = createNetwork();
+        network.getLane("main").getStore().add(100, 10f, 0.5f, 5);
+        WorldStateBuffer state = new WorldStateBuffer();
+        state.capture(2f, 3, 40, network, List.of(), new Kinematics());
+
+        ByteBuffer saved = state.asReadOnlyBuffer();
+        byte[] bytes = new byte[saved.remaining()];
+        saved.get(bytes);
+        WorldStateView loaded = new WorldStateView(ByteBuffer.wrap(bytes));
+        assertEquals(50f, loaded.getEnemyX(0), 0.001f);
+        assertEquals(40, loaded.getBudget());
+
+        ByteOrder other = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN
+                : ByteOrder.BIG_ENDIAN;
+        ByteBuffer swapped = ByteBuffer.allocate(bytes.length).order(other);
+        ByteBuffer source = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+        while (source.hasRemaining()) {
+            swapped.putInt(source.getInt());
+        }
+        assertEquals(50f, new WorldStateView(swapped.flip()).getEnemyX(0), 0.001f);
+        assertThrows(IllegalArgumentException.class, () -> new WorldStateView(ByteBuffer.allocate(64)));
+    }
+}
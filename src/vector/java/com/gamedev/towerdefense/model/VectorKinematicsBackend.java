@@ -0,0 +1,71 @@
+package com.gamedev.towerdefense.model;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The kernels in SIMD lanes through the incubating Vector API, as wide as the
+ * CPU allows. Only loaded when the {@code jdk.incubator.vector} module is
+ * present (see {@link KinematicsBackends}); entries past the last full lane
+ * go through the scalar loops.
+ */
+public class VectorKinematicsBackend implements KinematicsBackend {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void advanceProgress(float[] progress, float[] speed, float[] animationTime, boolean[] moved, int count,
+            float deltaTime, float pathLength) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector time = FloatVector.fromArray(SPECIES, animationTime, i);
+            time.add(deltaTime).intoArray(animationTime, i);
+
+            FloatVector current = FloatVector.fromArray(SPECIES, progress, i);
+            VectorMask<Float> moving = current.compare(VectorOperators.LT, 1f);
+            moving.intoArray(moved, i);
+            FloatVector step = FloatVector.fromArray(SPECIES, speed, i).mul(deltaTime).div(pathLength);
+            current.add(step).min(1f).intoArray(progress, i, moving);
+        }
+        ScalarKinematicsBackend.advanceProgress(progress, speed, animationTime, moved, i, count, deltaTime,
+                pathLength);
+    }
+
+    @Override
+    public void stepTowards(float[] x, float[] y, float[] targetX, float[] targetY, float[] speed,
+            float[] hitThresholdSquared, boolean[] arrived, boolean[] arriving, int count, float deltaTime) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Float> active = VectorMask.fromArray(SPECIES, arrived, i).not();
+            if (!active.anyTrue()) {
+                continue;
+            }
+            FloatVector px = FloatVector.fromArray(SPECIES, x, i);
+            FloatVector py = FloatVector.fromArray(SPECIES, y, i);
+            FloatVector dx = FloatVector.fromArray(SPECIES, targetX, i).sub(px);
+            FloatVector dy = FloatVector.fromArray(SPECIES, targetY, i).sub(py);
+            FloatVector distanceSquared = dx.mul(dx).add(dy.mul(dy));
+
+            VectorMask<Float> hit = distanceSquared
+                    .compare(VectorOperators.LT, FloatVector.fromArray(SPECIES, hitThresholdSquared, i))
+                    .and(active);
+            hit.or(VectorMask.fromArray(SPECIES, arriving, i)).intoArray(arriving, i);
+
+            VectorMask<Float> moving = active.andNot(hit);
+            FloatVector ratio = FloatVector.fromArray(SPECIES, speed, i).mul(deltaTime)
+                    .div(distanceSquared.sqrt()).min(1f);
+            px.add(dx.mul(ratio)).intoArray(x, i, moving);
+            py.add(dy.mul(ratio)).intoArray(y, i, moving);
+        }
+        ScalarKinematicsBackend.stepTowards(x, y, targetX, targetY, speed, hitThresholdSquared, arrived, arriving,
+                i, count, deltaTime);
+    }
+
+    @Override
+    public String getName() {
+        return "vector (" + SPECIES.length() + " lanes)";
+    }
+}